@@ -0,0 +1,143 @@
+package com.codesoom.assignment.audit;
+
+import com.codesoom.assignment.domain.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 요청 스레드가 기록 하나를 남기는 데 드는 시간(ns)을 스레드 수별로 측정합니다.
+ * <ul>
+ *     <li>{@code access*} - writer 스레드가 파일에 쓰는 중에 ring buffer에 넣기</li>
+ *     <li>{@code dropWhenFull} - writer 없이 ring buffer가 가득 찬 상태 (버리고 세기만 함)</li>
+ *     <li>{@code synchronousWrite*} - 비교용. 요청 스레드가 잠금을 잡고 파일에 직접 쓰기</li>
+ * </ul>
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=AuditLogBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AuditLogBenchmark {
+    private static final String PATH = "/products/1";
+
+    @State(Scope.Benchmark)
+    public static class Running {
+        private Path directory;
+
+        private AuditLogWriter writer;
+
+        private AuditLog auditLog;
+
+        private FileChannel channel;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            directory = Files.createTempDirectory("audit-bench");
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            AuditRingBuffer ringBuffer = new AuditRingBuffer(1 << 16);
+            writer = new AuditLogWriter(ringBuffer, directory.resolve("ring"),
+                    64L << 20, 4, Duration.ofMillis(100), 1024,
+                    Duration.ofMillis(1), meterRegistry);
+            writer.start();
+            auditLog = new RingBufferAuditLog(ringBuffer, meterRegistry);
+            channel = FileChannel.open(directory.resolve("synchronous.log"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            writer.close();
+            channel.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder())
+                        .forEach(path -> path.toFile().delete());
+            }
+        }
+
+        synchronized void writeSynchronously(long durationNanos) throws IOException {
+            String line = "{\"ts\":" + System.currentTimeMillis()
+                    + ",\"type\":\"ACCESS\",\"method\":\"GET\",\"path\":\"" + PATH
+                    + "\",\"status\":200,\"durationMicros\":"
+                    + TimeUnit.NANOSECONDS.toMicros(durationNanos) + "}\n";
+            channel.write(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Full {
+        private AuditLog auditLog;
+
+        @Setup(Level.Trial)
+        public void fill() {
+            AuditRingBuffer ringBuffer = new AuditRingBuffer(1024);
+            auditLog = new RingBufferAuditLog(ringBuffer, new SimpleMeterRegistry());
+            for (int i = 0; i < ringBuffer.capacity(); i++) {
+                auditLog.productChanged(ChangeType.UPDATED, i, 1L);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void access1(Running state) {
+        state.auditLog.access("GET", PATH, 200, 1_000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void access4(Running state) {
+        state.auditLog.access("GET", PATH, 200, 1_000);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void access8(Running state) {
+        state.auditLog.access("GET", PATH, 200, 1_000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void dropWhenFull(Full state) {
+        state.auditLog.access("GET", PATH, 200, 1_000);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void synchronousWrite1(Running state) throws IOException {
+        state.writeSynchronously(1_000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void synchronousWrite4(Running state) throws IOException {
+        state.writeSynchronously(1_000);
+    }
+}
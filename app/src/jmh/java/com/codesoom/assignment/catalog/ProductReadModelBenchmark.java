@@ -0,0 +1,145 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 500만 개를 heap의 {@link Product} map과 off-heap 조회 모델에 두고
+ * 상세 조회 지연, 점유 heap, GC 시간을 비교합니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=ProductReadModelBenchmark
+ * </pre>
+ * heap 크기와 GC 시간은 trial이 끝날 때 표준 출력에 남깁니다.
+ * 할당률은 {@code -prof gc}로 함께 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-XX:MaxDirectMemorySize=4g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ProductReadModelBenchmark {
+    @Param({"5000000"})
+    private int products;
+
+    @Param({"heap", "off-heap"})
+    private String storage;
+
+    private Map<Long, Product> heap;
+
+    private ProductReadModel readModel;
+
+    private long gcCountBefore;
+
+    private long gcMillisBefore;
+
+    @Setup(Level.Trial)
+    public void load() {
+        long baseline = usedHeapAfterGc();
+
+        if ("heap".equals(storage)) {
+            heap = new HashMap<>(products * 2);
+            for (int i = 1; i <= products; i++) {
+                heap.put((long) i, product(i));
+            }
+        } else {
+            readModel = new ProductReadModel(null, true, 64 << 20);
+            readModel.load(new AbstractList<>() {
+                @Override
+                public Product get(int index) {
+                    return product(index + 1);
+                }
+
+                @Override
+                public int size() {
+                    return products;
+                }
+            });
+        }
+
+        long used = usedHeapAfterGc() - baseline;
+        System.out.printf("%n%s: heap %d MB (%d bytes/product), off-heap %d MB%n",
+                storage, used >> 20, used / products,
+                readModel == null ? 0 : readModel.offHeapBytes() >> 20);
+
+        gcCountBefore = gcCount();
+        gcMillisBefore = gcMillis();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n%s: %d GCs, %d ms total GC time during measurement%n",
+                storage, gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Product detail() {
+        long id = 1 + ThreadLocalRandom.current().nextInt(products);
+        if (heap != null) {
+            return heap.get(id);
+        }
+        return readModel.findById(id).orElse(null);
+    }
+
+    /**
+     * 살아 있는 객체 수에 비례하는 full GC 한 번의 멈춤 시간입니다.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public void fullGc() {
+        System.gc();
+    }
+
+    private static Product product(int id) {
+        return Product.builder()
+                .id((long) id)
+                .name("상품 " + id)
+                .maker("냥이월드")
+                .price(1000 + id % 9000)
+                .imageUrl("https://cdn.example.com/products/" + id + ".png")
+                .build();
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
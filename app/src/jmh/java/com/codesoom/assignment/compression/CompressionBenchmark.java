@@ -0,0 +1,79 @@
+package com.codesoom.assignment.compression;
+
+import com.codesoom.assignment.domain.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /products 응답을 매번 압축하는 비용과 {@link CompressedBodyCache}에서 꺼내는 비용을 비교합니다.
+ * 압축 전후 크기는 각 trial 시작 시 출력됩니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=CompressionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CompressionBenchmark {
+    @Param({"GZIP", "DEFLATE"})
+    private ContentCodec codec;
+
+    @Param({"1", "6"})
+    private int level;
+
+    @Param({"100", "1000"})
+    private int count;
+
+    private byte[] body;
+
+    private CompressedBodyCache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            products.add(Product.builder()
+                    .id(id)
+                    .name("쥐돌이 " + id)
+                    .maker("냥이월드")
+                    .price(5000)
+                    .imageUrl("https://example.com/products/" + id + ".png")
+                    .build());
+        }
+        body = new ObjectMapper().writeValueAsBytes(products);
+
+        cache = new CompressedBodyCache(64 << 20, level);
+        byte[] compressed = cache.compress(codec, body);
+
+        System.out.printf("%n%s level %d, %d products: %d -> %d bytes%n",
+                codec, level, count, body.length, compressed.length);
+    }
+
+    @Benchmark
+    public byte[] compressEveryTime() {
+        return codec.encode(body, level);
+    }
+
+    @Benchmark
+    public byte[] cached() {
+        return cache.compress(codec, body);
+    }
+}
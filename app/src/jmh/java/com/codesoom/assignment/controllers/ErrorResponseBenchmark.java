@@ -0,0 +1,107 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.App;
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.dto.ProductData;
+import com.codesoom.assignment.utils.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 정상 조회(200)와 없는 상품(404), 잘못된 토큰(401) 경로의 처리 시간을 비교합니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=ErrorResponseBenchmark
+ * </pre>
+ * 스택 트레이스를 남기지 않는 설정으로 실행합니다.
+ * 비교하려면 {@code jvmArgsAppend}를 {@code -Derrors.capture-stack-trace=true}로 바꿔서 다시 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Derrors.capture-stack-trace=false")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ErrorResponseBenchmark {
+    private static final String PRODUCT_JSON =
+            "{\"name\":\"쥐돌이\",\"maker\":\"냥이월드\",\"price\":5000}";
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private Long productId;
+
+    private String invalidAuthorization;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(App.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:error-bench;DB_CLOSE_DELAY=-1"
+                )
+                .run();
+
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup((WebApplicationContext) context)
+                .build();
+
+        productId = context.getBean(ProductService.class)
+                .createProduct(ProductData.builder()
+                        .name("쥐돌이")
+                        .maker("냥이월드")
+                        .price(5000)
+                        .build())
+                .getId();
+
+        invalidAuthorization = "Bearer "
+                + context.getBean(JwtUtil.class).encode(1L) + "INVALID";
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int found() throws Exception {
+        return mockMvc.perform(get("/products/{id}", productId))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int productNotFound() throws Exception {
+        return mockMvc.perform(get("/products/{id}", productId + 1_000_000))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int invalidToken() throws Exception {
+        return mockMvc.perform(post("/products")
+                .header("Authorization", invalidAuthorization)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PRODUCT_JSON))
+                .andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,93 @@
+package com.codesoom.assignment.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /products 응답 크기의 상품 목록을 JSON, Smile, CBOR로 인코딩/디코딩하는 비용을 비교합니다.
+ * 인코딩된 크기는 각 trial 시작 시 출력됩니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=ProductEncodingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ProductEncodingBenchmark {
+    private static final TypeReference<List<Product>> PRODUCTS =
+            new TypeReference<>() {
+            };
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"1", "100"})
+    private int count;
+
+    private ObjectMapper objectMapper;
+
+    private List<Product> products;
+
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = objectMapperFor(format);
+
+        products = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            products.add(Product.builder()
+                    .id(id)
+                    .name("쥐돌이 " + id)
+                    .maker("냥이월드")
+                    .price(5000)
+                    .build());
+        }
+
+        encoded = objectMapper.writeValueAsBytes(products);
+        System.out.printf("%n%s, %d products: %d bytes%n",
+                format, count, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public List<Product> decode() throws Exception {
+        return objectMapper.readValue(encoded, PRODUCTS);
+    }
+
+    private ObjectMapper objectMapperFor(String format) {
+        switch (format) {
+            case "smile":
+                return new ObjectMapper(new SmileFactory());
+            case "cbor":
+                return new ObjectMapper(new CBORFactory());
+            default:
+                return new ObjectMapper();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 저장소의 id, email 조회 지연(ns)과 fsync window별 저장 지연을 측정합니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=MemoryRepositoryBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class MemoryRepositoryBenchmark {
+    private static final int PRODUCTS = 100_000;
+
+    private static final int USERS = 10_000;
+
+    @Param({"0", "2"})
+    private long fsyncWindowMillis;
+
+    private Path directory;
+
+    private MemoryDatabase database;
+
+    private MemoryProductRepository productRepository;
+
+    private MemoryUserRepository userRepository;
+
+    private long firstProductId;
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("memory-bench");
+        database = new MemoryDatabase(directory,
+                Duration.ofMillis(fsyncWindowMillis));
+        productRepository = new MemoryProductRepository(database);
+        userRepository = new MemoryUserRepository(database);
+
+        // 여러 스레드에서 저장해야 fsync가 묶입니다.
+        firstProductId = IntStream.range(0, PRODUCTS).parallel()
+                .mapToLong(i -> database.saveProduct(Product.builder()
+                        .name("상품 " + i)
+                        .maker("냥이월드")
+                        .price(5000)
+                        .build()).getId())
+                .min()
+                .getAsLong();
+        IntStream.range(0, USERS).parallel()
+                .forEach(i -> database.saveUser(User.builder()
+                        .email("user" + i + "@example.com")
+                        .password("test")
+                        .build()));
+        database.compact();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        database.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Product> findProductById() {
+        long id = firstProductId + ThreadLocalRandom.current().nextInt(PRODUCTS);
+        return productRepository.findById(id);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<User> findUserByEmail() {
+        int index = ThreadLocalRandom.current().nextInt(USERS);
+        return userRepository.findByEmail("user" + index + "@example.com");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Product saveProduct() {
+        return productRepository.save(Product.builder()
+                .id(firstProductId)
+                .name("쥐돌이")
+                .maker("냥이월드")
+                .price(ThreadLocalRandom.current().nextInt(10_000))
+                .build());
+    }
+}
@@ -0,0 +1,92 @@
+package com.codesoom.assignment.orders;
+
+import com.codesoom.assignment.App;
+import com.codesoom.assignment.application.OrderService;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.dto.OrderData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문이 상품 하나에 몰릴 때의 처리량(orders/s)을 측정합니다.
+ * 64개 스레드가 같은 상품을 하나씩 주문하고, 각 주문은 커밋될 때까지 기다립니다.
+ * {@code batchSize=1}은 주문마다 커밋하는 경우이고, 나머지는 group commit 입니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=OrderPlacementBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(64)
+public class OrderPlacementBenchmark {
+    @Param({"1", "500"})
+    private int batchSize;
+
+    @Param({"1", "16"})
+    private int stripes;
+
+    private ConfigurableApplicationContext context;
+
+    private OrderService orderService;
+
+    private OrderData orderData;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:order-bench;DB_CLOSE_DELAY=-1",
+                        "order.writer.batch-size=" + batchSize,
+                        "order.writer.capacity=100000",
+                        "order.stock.stripes=" + stripes
+                )
+                .run();
+
+        Product product = context.getBean(ProductRepository.class)
+                .save(Product.builder()
+                        .name("쥐돌이")
+                        .maker("냥이월드")
+                        .price(5000)
+                        .stock(Integer.MAX_VALUE)
+                        .build());
+
+        orderService = context.getBean(OrderService.class);
+        orderData = OrderData.builder()
+                .productId(product.getId())
+                .quantity(1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object placeOrder() {
+        return orderService.placeOrder(1L, orderData);
+    }
+}
@@ -0,0 +1,99 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.App;
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.codesoom.assignment.domain.OutboxEventRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * relay의 배치 크기별 처리량(events/s)을 측정합니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=OutboxRelayBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class OutboxRelayBenchmark {
+    private static final int EVENTS = 10_000;
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private OutboxEventRepository outboxEventRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxRelay relay;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:outbox-bench;DB_CLOSE_DELAY=-1",
+                        "outbox.relay.interval=3600000"
+                )
+                .run();
+
+        outboxEventRepository = context.getBean(OutboxEventRepository.class);
+        PlatformTransactionManager transactionManager =
+                context.getBean(PlatformTransactionManager.class);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        relay = new OutboxRelay(outboxEventRepository,
+                events -> { }, transactionManager, batchSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillOutbox() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long i = 0; i < EVENTS; i++) {
+                outboxEventRepository.save(OutboxEvent.builder()
+                        .aggregateType("Product")
+                        .aggregateId(i % 100)
+                        .eventType("ProductUpdated")
+                        .payload("{\"id\":" + i + "}")
+                        .createdAt(LocalDateTime.now())
+                        .build());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int drain() {
+        return relay.drain();
+    }
+}
@@ -0,0 +1,72 @@
+package com.codesoom.assignment.popularity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 상세 조회 경로에 더해지는 조회 횟수 기록 시간(ns)을 측정합니다.
+ * 상품 10만 개를 미리 세어 두고, 1개와 8개 스레드가 그중 하나를 골라 기록합니다.
+ * {@code hot}은 모든 스레드가 같은 상품만 기록할 때입니다.
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=ProductAccessCounterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ProductAccessCounterBenchmark {
+    private static final int PRODUCTS = 100_000;
+
+    private ProductAccessCounter counter;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        counter = new ProductAccessCounter();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            counter.record(id);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Ids {
+        private final SplittableRandom random = new SplittableRandom();
+
+        private long next() {
+            return 1 + random.nextInt(PRODUCTS);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordOneThread(Ids ids) {
+        counter.record(ids.next());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordEightThreads(Ids ids) {
+        counter.record(ids.next());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordEightThreadsHot() {
+        counter.record(1L);
+    }
+}
@@ -0,0 +1,62 @@
+package com.codesoom.assignment.pricing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 수백만 개가 올라가 있을 때 예약 하나를 넣는 시간과 tick 하나를 넘기는 시간(ns)을 측정합니다.
+ * 예약 시각은 앞으로 30일 안에 고르게 흩어 놓습니다 (tick 100ms 기준).
+ * <pre>
+ * ./gradlew :app:jmh -Pjmh.includes=TimingWheelBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class TimingWheelBenchmark {
+    private static final long HORIZON = TimeUnit.DAYS.toMillis(30) / 100;
+
+    @Param({"1000000", "5000000"})
+    private int pending;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private TimingWheel wheel;
+
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        wheel = new TimingWheel(System.currentTimeMillis() / 100);
+        for (nextId = 1; nextId <= pending; nextId++) {
+            wheel.add(nextId, wheel.currentTick() + 1 + random.nextLong(HORIZON));
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        wheel.add(nextId++, wheel.currentTick() + 1 + random.nextLong(HORIZON));
+    }
+
+    @Benchmark
+    public int advanceOneTick(Blackhole blackhole) {
+        return wheel.advanceTo(wheel.currentTick() + 1, blackhole::consume);
+    }
+}
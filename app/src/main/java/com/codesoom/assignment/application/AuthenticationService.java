@@ -50,6 +50,7 @@ public class AuthenticationService {
      * @param accessToken 전달받은 access token
      * @return user의 id
      */
+    @Transactional(readOnly = true)
     public Long parseToken(String accessToken) {
         Claims claims = jwtUtil.decode(accessToken);
 
@@ -0,0 +1,77 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.Order;
+import com.codesoom.assignment.domain.OrderRepository;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.dto.OrderData;
+import com.codesoom.assignment.errors.OutOfStockException;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import com.codesoom.assignment.orders.OrderWriter;
+import com.codesoom.assignment.orders.StockLedger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 주문을 받습니다.
+ * <p>
+ * 재고는 {@link StockLedger}에서 먼저 잡고, 주문은 {@link OrderWriter}가 다른 주문과 묶어
+ * 한 트랜잭션으로 저장합니다. 주문을 받는 쪽은 트랜잭션을 열지 않고 그 커밋만 기다립니다.
+ */
+@Service
+public class OrderService {
+    private final ProductService productService;
+
+    private final OrderRepository orderRepository;
+
+    private final StockLedger stockLedger;
+
+    private final OrderWriter orderWriter;
+
+    public OrderService(ProductService productService,
+                        OrderRepository orderRepository,
+                        StockLedger stockLedger,
+                        OrderWriter orderWriter) {
+        this.productService = productService;
+        this.orderRepository = orderRepository;
+        this.stockLedger = stockLedger;
+        this.orderWriter = orderWriter;
+    }
+
+    /**
+     * @return 커밋된 주문
+     * @throws ProductNotFoundException 상품이 없을 때
+     * @throws OutOfStockException      재고가 모자랄 때
+     */
+    public Order placeOrder(Long userId, OrderData orderData) {
+        Product product = productService.getProduct(orderData.getProductId());
+        if (!stockLedger.reserve(product.getId(), orderData.getQuantity())) {
+            throw new OutOfStockException(product.getId());
+        }
+
+        Order order = Order.builder()
+                .productId(product.getId())
+                .userId(userId)
+                .quantity(orderData.getQuantity())
+                .price(product.getPrice())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        try {
+            return orderWriter.submit(order).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> getOrders(Long userId) {
+        return orderRepository.findAllByUserIdOrderById(userId);
+    }
+}
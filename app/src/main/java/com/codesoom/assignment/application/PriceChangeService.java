@@ -0,0 +1,121 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.ChangeType;
+import com.codesoom.assignment.domain.PriceChangesScheduledEvent;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.domain.ScheduledPriceChange;
+import com.codesoom.assignment.domain.ScheduledPriceChangeRepository;
+import com.codesoom.assignment.dto.PriceChangeData;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 가격 변경을 예약하고, 때가 된 예약을 적용합니다.
+ */
+@Service
+@Transactional
+public class PriceChangeService {
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PriceChangeService(
+            ScheduledPriceChangeRepository scheduledPriceChangeRepository,
+            ProductRepository productRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.scheduledPriceChangeRepository = scheduledPriceChangeRepository;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<ScheduledPriceChange> schedulePriceChanges(
+            List<PriceChangeData> changes) {
+        List<ScheduledPriceChange> scheduled = changes.stream()
+                .map(change -> ScheduledPriceChange.builder()
+                        .productId(change.getProductId())
+                        .price(change.getPrice())
+                        .effectiveAt(change.getEffectiveAt())
+                        .build())
+                .collect(Collectors.toList());
+
+        List<ScheduledPriceChange> saved = new ArrayList<>();
+        scheduledPriceChangeRepository.saveAll(scheduled).forEach(saved::add);
+
+        eventPublisher.publishEvent(new PriceChangesScheduledEvent(saved));
+
+        return saved;
+    }
+
+    /**
+     * 주어진 예약 중 아직 적용되지 않은 것을 한 트랜잭션에서 적용합니다.
+     * <p>
+     * 예약 행을 잠그고 적용 여부를 확인하므로 같은 예약이 두 번 적용되지 않습니다.
+     * 가격은 상품별로 마지막 예약의 값을 한 번에 반영하고, 바뀐 상품마다 변경 이벤트를 발행합니다.
+     * 같은 상품에 예약 시각이 더 늦은 예약이 이미 적용됐으면 가격을 되돌리지 않도록
+     * 그 예약은 적용하지 않고 밀려난 것으로 표시합니다.
+     * 상품이 지워졌으면 가격은 바꾸지 않고 예약만 적용된 것으로 표시합니다.
+     *
+     * @param appliedAt 적용 시각으로 남길 시각
+     * @return 적용하거나 밀려난 것으로 표시한 예약 수
+     */
+    public int applyPriceChanges(Collection<Long> ids, LocalDateTime appliedAt) {
+        List<ScheduledPriceChange> changes =
+                scheduledPriceChangeRepository.findPendingByIdIn(ids);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, ScheduledPriceChange> lastApplied = new HashMap<>();
+        scheduledPriceChangeRepository.findLastApplied(changes.stream()
+                .map(ScheduledPriceChange::getProductId)
+                .collect(Collectors.toSet()))
+                .forEach(change -> lastApplied.merge(change.getProductId(),
+                        change, (a, b) -> b.isAfter(a) ? b : a));
+
+        Map<Long, Integer> prices = new LinkedHashMap<>();
+        List<Long> applied = new ArrayList<>(changes.size());
+        List<Long> superseded = new ArrayList<>();
+        for (ScheduledPriceChange change : changes) {
+            ScheduledPriceChange last = lastApplied.get(change.getProductId());
+            if (last != null && last.isAfter(change)) {
+                superseded.add(change.getId());
+                continue;
+            }
+            prices.put(change.getProductId(), change.getPrice());
+            applied.add(change.getId());
+        }
+
+        if (!superseded.isEmpty()) {
+            scheduledPriceChangeRepository.markSuperseded(superseded, appliedAt);
+        }
+        if (prices.isEmpty()) {
+            return changes.size();
+        }
+
+        List<Product> products = productRepository.findAllByIdIn(prices.keySet());
+        productRepository.updatePrices(prices);
+        scheduledPriceChangeRepository.markApplied(applied, appliedAt);
+
+        for (Product product : products) {
+            Integer previousPrice = product.getPrice();
+            product.changePrice(prices.get(product.getId()));
+            eventPublisher.publishEvent(new ProductChangedEvent(
+                    ChangeType.UPDATED, product, previousPrice));
+        }
+
+        return changes.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.ProductPrice;
+import com.codesoom.assignment.domain.ProductPriceRepository;
+import com.codesoom.assignment.errors.ProductPriceNotFoundException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 가격 이력을 조회합니다. 모든 조회는 {@code (productId, changedAt)} 색인 범위만 읽습니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProductPriceService {
+    private static final PageRequest LATEST = PageRequest.of(0, 1);
+
+    private final ProductPriceRepository productPriceRepository;
+
+    public ProductPriceService(ProductPriceRepository productPriceRepository) {
+        this.productPriceRepository = productPriceRepository;
+    }
+
+    /**
+     * @return {@code at} 시점의 가격
+     * @throws ProductPriceNotFoundException 그 시점에 기록된 가격이 없을 때
+     */
+    public ProductPrice getPriceAt(Long productId, LocalDateTime at) {
+        return findPriceAt(productId, at)
+                .orElseThrow(() -> new ProductPriceNotFoundException(productId));
+    }
+
+    /**
+     * {@code from} 시점의 가격과 그 뒤 {@code to}까지의 변경을 오래된 순서로 리턴합니다.
+     * {@code from} 이전에 기록된 가격이 없으면 범위 안의 변경만 리턴합니다.
+     */
+    public List<ProductPrice> getPrices(Long productId,
+                                        LocalDateTime from,
+                                        LocalDateTime to) {
+        List<ProductPrice> prices = new ArrayList<>();
+        findPriceAt(productId, from).ifPresent(prices::add);
+        prices.addAll(productPriceRepository.findChanges(productId, from, to));
+        return prices;
+    }
+
+    private Optional<ProductPrice> findPriceAt(Long productId, LocalDateTime at) {
+        return productPriceRepository.findLatest(productId, at, LATEST)
+                .stream()
+                .findFirst();
+    }
+}
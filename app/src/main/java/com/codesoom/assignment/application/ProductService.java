@@ -1,46 +1,103 @@
 package com.codesoom.assignment.application;
 
+import com.codesoom.assignment.cache.CacheNames;
+import com.codesoom.assignment.cache.SharedProductCache;
+import com.codesoom.assignment.domain.ChangeType;
 import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductFields;
+import com.codesoom.assignment.domain.ProductProjectionRepository;
 import com.codesoom.assignment.domain.ProductRepository;
 import com.codesoom.assignment.dto.ProductData;
 import com.codesoom.assignment.errors.ProductNotFoundException;
 import com.github.dozermapper.core.Mapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.transaction.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Transactional
 public class ProductService {
     private final Mapper mapper;
     private final ProductRepository productRepository;
+    private final ProductProjectionRepository productProjectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache missingProducts;
+    private final SharedProductCache sharedProductCache;
 
     public ProductService(
             Mapper dozerMapper,
-            ProductRepository productRepository
+            ProductRepository productRepository,
+            ProductProjectionRepository productProjectionRepository,
+            ApplicationEventPublisher eventPublisher,
+            CacheManager cacheManager,
+            SharedProductCache sharedProductCache
     ) {
         this.mapper = dozerMapper;
         this.productRepository = productRepository;
+        this.productProjectionRepository = productProjectionRepository;
+        this.eventPublisher = eventPublisher;
+        this.missingProducts = cacheManager.getCache(CacheNames.MISSING_PRODUCTS);
+        this.sharedProductCache = sharedProductCache;
     }
 
+    @Transactional(readOnly = true)
     public List<Product> getProducts() {
         return productRepository.findAll();
     }
 
+    @Cacheable(CacheNames.PRODUCTS)
+    @Transactional(readOnly = true)
     public Product getProduct(Long id) {
-        return findProduct(id);
+        return findSharedProduct(id);
+    }
+
+    /**
+     * 상품 목록에서 요청한 속성만 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getProducts(ProductFields fields) {
+        return productProjectionRepository.findAll(fields);
+    }
+
+    /**
+     * 상품에서 요청한 속성만 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getProduct(Long id, ProductFields fields) {
+        rejectKnownMissing(id);
+
+        return productProjectionRepository.findById(id, fields)
+                .orElseThrow(() -> rememberMissing(id));
     }
 
     public Product createProduct(ProductData productData) {
         Product product = mapper.map(productData, Product.class);
-        return productRepository.save(product);
+        Product created = productRepository.save(product);
+
+        missingProducts.evict(created.getId());
+
+        publish(ChangeType.CREATED, created);
+
+        return created;
     }
 
     public Product updateProduct(Long id, ProductData productData) {
         Product product = findProduct(id);
+        Integer previousPrice = product.getPrice();
 
         product.changeWith(mapper.map(productData, Product.class));
+        productRepository.save(product);
+
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                ChangeType.UPDATED, product, previousPrice));
 
         return product;
     }
@@ -50,11 +107,52 @@ public class ProductService {
 
         productRepository.delete(product);
 
+        publish(ChangeType.DELETED, product);
+
         return product;
     }
 
+    /**
+     * 없는 것으로 확인된 id는 잠시 동안 저장소를 조회하지 않고 바로 예외를 던집니다.
+     * 그 id로 상품이 생성되면 기록을 지웁니다.
+     */
     private Product findProduct(Long id) {
+        rejectKnownMissing(id);
+
         return productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
+                .orElseThrow(() -> rememberMissing(id));
+    }
+
+    /**
+     * 같은 호스트의 다른 프로세스가 이미 읽어 둔 상품이면 저장소를 조회하지 않습니다.
+     * 조회 전에 받은 stamp로 넣으므로 그 사이에 바뀐 상품은 넣지 않습니다.
+     */
+    private Product findSharedProduct(Long id) {
+        rejectKnownMissing(id);
+
+        Optional<Product> shared = sharedProductCache.get(id);
+        if (shared.isPresent()) {
+            return shared.get();
+        }
+
+        long stamp = sharedProductCache.stamp(id);
+        Product product = findProduct(id);
+        sharedProductCache.put(product, stamp);
+        return product;
+    }
+
+    private void rejectKnownMissing(Long id) {
+        if (missingProducts.get(id) != null) {
+            throw new ProductNotFoundException(id);
+        }
+    }
+
+    private ProductNotFoundException rememberMissing(Long id) {
+        missingProducts.put(id, Boolean.TRUE);
+        return new ProductNotFoundException(id);
+    }
+
+    private void publish(ChangeType type, Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(type, product));
     }
 }
@@ -1,12 +1,15 @@
 package com.codesoom.assignment.application;
 
+import com.codesoom.assignment.domain.ChangeType;
 import com.codesoom.assignment.domain.User;
+import com.codesoom.assignment.domain.UserChangedEvent;
 import com.codesoom.assignment.domain.UserRepository;
 import com.codesoom.assignment.dto.UserModificationData;
 import com.codesoom.assignment.dto.UserRegistrationData;
 import com.codesoom.assignment.errors.UserEmailDuplicationException;
 import com.codesoom.assignment.errors.UserNotFoundException;
 import com.github.dozermapper.core.Mapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -16,10 +19,16 @@ import javax.transaction.Transactional;
 public class UserService {
     private final Mapper mapper;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(Mapper dozerMapper, UserRepository userRepository) {
+    public UserService(
+            Mapper dozerMapper,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.mapper = dozerMapper;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public User registerUser(UserRegistrationData registrationData) {
@@ -29,7 +38,11 @@ public class UserService {
         }
 
         User user = mapper.map(registrationData, User.class);
-        return userRepository.save(user);
+        User registered = userRepository.save(user);
+
+        publish(ChangeType.CREATED, registered);
+
+        return registered;
     }
 
     public User updateUser(Long id, UserModificationData modificationData) {
@@ -37,6 +50,9 @@ public class UserService {
 
         User source = mapper.map(modificationData, User.class);
         user.changeWith(source);
+        userRepository.save(user);
+
+        publish(ChangeType.UPDATED, user);
 
         return user;
     }
@@ -44,6 +60,10 @@ public class UserService {
     public User deleteUser(Long id) {
         User user = findUser(id);
         user.destroy();
+        userRepository.save(user);
+
+        publish(ChangeType.DELETED, user);
+
         return user;
     }
 
@@ -51,4 +71,8 @@ public class UserService {
         return userRepository.findByIdAndDeletedIsFalse(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
+
+    private void publish(ChangeType type, User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(type, user));
+    }
 }
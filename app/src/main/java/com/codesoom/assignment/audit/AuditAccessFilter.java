@@ -0,0 +1,38 @@
+package com.codesoom.assignment.audit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청마다 메서드, 경로, 응답 상태, 처리 시간을 {@link AuditLog}에 남깁니다.
+ * 처리 중 예외가 밖으로 나오면 상태를 500으로 남깁니다.
+ */
+public class AuditAccessFilter extends OncePerRequestFilter {
+    private final AuditLog auditLog;
+
+    public AuditAccessFilter(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            auditLog.access(request.getMethod(), request.getRequestURI(),
+                    status, System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.codesoom.assignment.audit;
+
+import lombok.Getter;
+
+/**
+ * ring buffer에 미리 만들어 두고 계속 다시 쓰는 이벤트 칸입니다.
+ * <p>
+ * 요청 스레드가 값을 채운 뒤 {@link #published}에 자기 순번을 써서 넘기고,
+ * writer 스레드는 그 순번을 확인한 뒤에만 값을 읽습니다.
+ */
+@Getter
+public class AuditEvent {
+    private volatile long published = -1;
+
+    private AuditEventType type;
+
+    private long timestamp;
+
+    private String method;
+
+    private String path;
+
+    private int status;
+
+    private long durationNanos;
+
+    private long productId;
+
+    private long userId;
+
+    void access(long timestamp, String method, String path,
+                int status, long durationNanos) {
+        this.type = AuditEventType.ACCESS;
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.status = status;
+        this.durationNanos = durationNanos;
+        this.productId = 0;
+        this.userId = 0;
+    }
+
+    void product(long timestamp, AuditEventType type,
+                 long productId, long userId) {
+        this.type = type;
+        this.timestamp = timestamp;
+        this.method = null;
+        this.path = null;
+        this.status = 0;
+        this.durationNanos = 0;
+        this.productId = productId;
+        this.userId = userId;
+    }
+
+    void publish(long sequence) {
+        published = sequence;
+    }
+
+    /**
+     * writer가 다 읽은 뒤 참조를 놓아 요청 문자열이 오래 남지 않게 합니다.
+     */
+    void release() {
+        method = null;
+        path = null;
+    }
+}
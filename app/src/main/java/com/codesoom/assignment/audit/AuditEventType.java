@@ -0,0 +1,8 @@
+package com.codesoom.assignment.audit;
+
+public enum AuditEventType {
+    ACCESS,
+    PRODUCT_CREATED,
+    PRODUCT_UPDATED,
+    PRODUCT_DELETED
+}
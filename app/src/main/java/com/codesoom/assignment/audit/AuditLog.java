@@ -0,0 +1,27 @@
+package com.codesoom.assignment.audit;
+
+import com.codesoom.assignment.domain.ChangeType;
+
+/**
+ * 요청 처리 시간과 상품 변경 기록을 남깁니다.
+ * <p>
+ * 요청 스레드에서 호출하므로 기다리지 않고 바로 돌아와야 합니다.
+ * 기록이 밀리면 기다리는 대신 버리고 그 수를 셉니다.
+ */
+public interface AuditLog {
+    AuditLog NONE = new AuditLog() {
+        @Override
+        public void access(String method, String path, int status,
+                           long durationNanos) {
+        }
+
+        @Override
+        public void productChanged(ChangeType type, long productId,
+                                   long userId) {
+        }
+    };
+
+    void access(String method, String path, int status, long durationNanos);
+
+    void productChanged(ChangeType type, long productId, long userId);
+}
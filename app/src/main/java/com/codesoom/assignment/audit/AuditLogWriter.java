@@ -0,0 +1,322 @@
+package com.codesoom.assignment.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AuditRingBuffer}에서 기록을 꺼내 JSON 한 줄씩 segment 파일에 쓰는 스레드입니다.
+ * <p>
+ * 한 번에 {@code batchSize}개까지 꺼내 한 번에 쓰고, fsync는 {@code fsyncInterval}마다
+ * 한 번만 하므로 그 사이에 쓴 batch들이 함께 디스크에 내려갑니다.
+ * 주기는 batch를 쓸 때마다 확인하므로 기록이 쉬지 않고 들어와도 fsync가 밀리지 않습니다.
+ * segment가 {@code segmentSize}를 넘으면 다음 batch부터 새 파일에 쓰고,
+ * 오래된 파일은 {@code retain}개만 남기고 지웁니다.
+ * 파일 이름은 {@code audit-<시작 시각>-<첫 순번>.log}이므로 이름 순서가 기록 순서입니다.
+ * <p>
+ * batch는 다시 쓰는 문자, byte buffer에 인코딩하므로 batch마다 배열을 새로 만들지 않습니다.
+ */
+@Slf4j
+public class AuditLogWriter implements Closeable {
+    private static final String PREFIX = "audit-";
+
+    private static final String SUFFIX = ".log";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final AuditRingBuffer ringBuffer;
+
+    private final Path directory;
+
+    private final long segmentSize;
+
+    private final int retain;
+
+    private final long fsyncIntervalNanos;
+
+    private final int batchSize;
+
+    private final long idleWaitNanos;
+
+    private final Counter dropped;
+
+    private final Counter syncs;
+
+    private final StringBuilder batch = new StringBuilder();
+
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private CharBuffer chars = CharBuffer.allocate(0);
+
+    private ByteBuffer bytes = ByteBuffer.allocate(0);
+
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    private FileChannel channel;
+
+    private long segmentBytes;
+
+    private long firstSequence;
+
+    private boolean unsynced;
+
+    private long lastSync = System.nanoTime();
+
+    public AuditLogWriter(AuditRingBuffer ringBuffer,
+                          Path directory,
+                          long segmentSize,
+                          int retain,
+                          Duration fsyncInterval,
+                          int batchSize,
+                          Duration idleWait,
+                          MeterRegistry meterRegistry) {
+        this.ringBuffer = ringBuffer;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.retain = retain;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.batchSize = batchSize;
+        this.idleWaitNanos = idleWait.toNanos();
+        this.dropped = meterRegistry.counter("audit.events.dropped",
+                "reason", "write-failure");
+        this.syncs = meterRegistry.counter("audit.syncs");
+        this.thread = new Thread(this::run, "audit-writer");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * 남은 기록을 모두 쓰고 fsync 한 뒤 돌아갑니다.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            int count = writeBatch();
+            sync(false);
+            if (count > 0) {
+                continue;
+            }
+            if (!running) {
+                break;
+            }
+            LockSupport.parkNanos(this, idleWaitNanos);
+        }
+        sync(true);
+        closeSegment();
+    }
+
+    /**
+     * @return 꺼낸 기록 수
+     */
+    private int writeBatch() {
+        batch.setLength(0);
+        int count;
+        try {
+            count = ringBuffer.drain(this::append, batchSize);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        ByteBuffer buffer = encode();
+        int length = buffer.remaining();
+        try {
+            if (channel == null || segmentBytes >= segmentSize) {
+                roll();
+            }
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            segmentBytes += length;
+            unsynced = true;
+        } catch (IOException e) {
+            log.warn("Could not write {} audit events", count, e);
+            dropped.increment(count);
+            closeSegment();
+        }
+        return count;
+    }
+
+    /**
+     * batch를 UTF-8로 인코딩합니다. buffer는 더 큰 batch가 올 때만 늘립니다.
+     *
+     * @return 인코딩한 byte를 읽을 수 있는 buffer
+     */
+    private ByteBuffer encode() {
+        int length = batch.length();
+        if (chars.capacity() < length) {
+            chars = CharBuffer.allocate(length);
+        }
+        int maxBytes = (int) Math.ceil(length * (double) encoder.maxBytesPerChar());
+        if (bytes.capacity() < maxBytes) {
+            bytes = ByteBuffer.allocate(maxBytes);
+        }
+
+        chars.clear();
+        batch.getChars(0, length, chars.array(), 0);
+        chars.limit(length);
+        bytes.clear();
+
+        encoder.reset();
+        encoder.encode(chars, bytes, true);
+        encoder.flush(bytes);
+        return bytes.flip();
+    }
+
+    private void append(AuditEvent event, long sequence) {
+        if (batch.length() == 0) {
+            firstSequence = sequence;
+        }
+
+        batch.append("{\"seq\":").append(sequence)
+                .append(",\"ts\":").append(event.getTimestamp())
+                .append(",\"type\":\"").append(event.getType().name()).append('"');
+        if (event.getType() == AuditEventType.ACCESS) {
+            batch.append(",\"method\":");
+            appendString(event.getMethod());
+            batch.append(",\"path\":");
+            appendString(event.getPath());
+            batch.append(",\"status\":").append(event.getStatus())
+                    .append(",\"durationMicros\":")
+                    .append(TimeUnit.NANOSECONDS.toMicros(event.getDurationNanos()));
+        } else {
+            batch.append(",\"productId\":").append(event.getProductId())
+                    .append(",\"userId\":").append(event.getUserId());
+        }
+        batch.append("}\n");
+    }
+
+    private void appendString(String value) {
+        if (value == null) {
+            batch.append("null");
+            return;
+        }
+        batch.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                batch.append('\\').append(c);
+            } else if (c < 0x20) {
+                batch.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+            } else {
+                batch.append(c);
+            }
+        }
+        batch.append('"');
+    }
+
+    /**
+     * 마지막 fsync에서 {@code fsyncInterval}이 지났거나 {@code force}이면 fsync 합니다.
+     */
+    private void sync(boolean force) {
+        if (!unsynced || channel == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (!force && now - lastSync < fsyncIntervalNanos) {
+            return;
+        }
+        try {
+            channel.force(false);
+            unsynced = false;
+            lastSync = now;
+            syncs.increment();
+        } catch (IOException e) {
+            log.warn("Could not sync audit segment", e);
+            closeSegment();
+        }
+    }
+
+    private void roll() throws IOException {
+        sync(true);
+        closeSegment();
+
+        Path path = directory.resolve(String.format("%s%020d-%020d%s", PREFIX,
+                System.currentTimeMillis(), firstSequence, SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentBytes = channel.size();
+
+        prune();
+    }
+
+    private void closeSegment() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Could not close audit segment", e);
+        }
+        channel = null;
+        unsynced = false;
+    }
+
+    private void prune() throws IOException {
+        List<Path> files = segmentFiles();
+        for (int i = 0; i < files.size() - retain; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                log.debug("Could not delete old audit segment {}", files.get(i), e);
+            }
+        }
+    }
+
+    /**
+     * @return 오래된 순서의 segment 파일들
+     */
+    List<Path> segmentFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream =
+                     Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+}
@@ -0,0 +1,97 @@
+package com.codesoom.assignment.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 요청 스레드가 쓰고 writer 스레드 하나가 읽는 고정 크기 ring buffer입니다.
+ * <p>
+ * 쓰는 쪽은 CAS로 순번을 하나 얻고, 그 칸을 채운 뒤 순번을 발행합니다.
+ * 칸이 모두 차 있으면 기다리지 않고 {@code -1}을 돌려주므로 요청 스레드는 막히지 않습니다.
+ * 읽는 쪽은 발행된 칸을 순서대로 처리하고, 처리한 만큼 칸을 돌려줍니다.
+ */
+public class AuditRingBuffer {
+    private final AuditEvent[] slots;
+
+    private final int mask;
+
+    private final AtomicLong next = new AtomicLong();
+
+    private volatile long consumed;
+
+    public AuditRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AuditEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AuditEvent();
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return 얻은 순번. 빈 칸이 없으면 -1
+     */
+    public long tryClaim() {
+        while (true) {
+            long sequence = next.get();
+            if (sequence - consumed >= slots.length) {
+                return -1;
+            }
+            if (next.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    public AuditEvent get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    public void publish(long sequence) {
+        get(sequence).publish(sequence);
+    }
+
+    /**
+     * 발행된 이벤트를 순서대로 최대 {@code limit}개 처리하고 칸을 돌려줍니다.
+     * writer 스레드 하나만 호출합니다.
+     *
+     * @return 처리한 이벤트 수
+     */
+    public int drain(Handler handler, int limit) throws Exception {
+        long sequence = consumed;
+        int count = 0;
+        try {
+            while (count < limit) {
+                AuditEvent event = get(sequence);
+                if (event.getPublished() != sequence) {
+                    break;
+                }
+                handler.onEvent(event, sequence);
+                event.release();
+                sequence++;
+                count++;
+            }
+        } finally {
+            consumed = sequence;
+        }
+        return count;
+    }
+
+    /**
+     * @return 발행을 기다리거나 아직 처리되지 않은 이벤트 수
+     */
+    public long backlog() {
+        return next.get() - consumed;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void onEvent(AuditEvent event, long sequence) throws Exception;
+    }
+}
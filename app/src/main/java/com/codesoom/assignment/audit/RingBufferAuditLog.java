@@ -0,0 +1,61 @@
+package com.codesoom.assignment.audit;
+
+import com.codesoom.assignment.domain.ChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 기록을 {@link AuditRingBuffer}의 빈 칸에 채워 넣고 바로 돌아갑니다.
+ * 파일에 쓰는 일은 {@link AuditLogWriter}가 따로 합니다.
+ * 빈 칸이 없으면 기록을 버리고 {@code audit.events.dropped}를 올립니다.
+ */
+public class RingBufferAuditLog implements AuditLog {
+    private final AuditRingBuffer ringBuffer;
+
+    private final Counter dropped;
+
+    public RingBufferAuditLog(AuditRingBuffer ringBuffer,
+                              MeterRegistry meterRegistry) {
+        this.ringBuffer = ringBuffer;
+        this.dropped = meterRegistry.counter("audit.events.dropped",
+                "reason", "overflow");
+    }
+
+    @Override
+    public void access(String method, String path, int status,
+                       long durationNanos) {
+        long sequence = ringBuffer.tryClaim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        ringBuffer.get(sequence).access(System.currentTimeMillis(),
+                method, path, status, durationNanos);
+        ringBuffer.publish(sequence);
+    }
+
+    @Override
+    public void productChanged(ChangeType type, long productId, long userId) {
+        long sequence = ringBuffer.tryClaim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        ringBuffer.get(sequence).product(System.currentTimeMillis(),
+                eventType(type), productId, userId);
+        ringBuffer.publish(sequence);
+    }
+
+    private static AuditEventType eventType(ChangeType type) {
+        switch (type) {
+            case CREATED:
+                return AuditEventType.PRODUCT_CREATED;
+            case UPDATED:
+                return AuditEventType.PRODUCT_UPDATED;
+            case DELETED:
+                return AuditEventType.PRODUCT_DELETED;
+            default:
+                throw new IllegalArgumentException("Unknown change type: " + type);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.codesoom.assignment.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다른 노드로 전파되는 무효화를 모아서 한 번에 보내는 버스의 공통 구현입니다.
+ * <p>
+ * 발행된 무효화는 현재 노드에 즉시 적용되고, flush 주기 동안 쌓인 뒤
+ * 같은 대상끼리 합쳐져 전송됩니다. 수신 측은 발행 시각과의 차이를
+ * {@code cache.invalidation.lag} 지표로 기록합니다.
+ */
+@Slf4j
+public abstract class BatchingInvalidationBus
+        implements InvalidationBus, AutoCloseable {
+    private final long nodeId = UUID.randomUUID().getMostSignificantBits();
+
+    private final Set<Invalidation> pending = ConcurrentHashMap.newKeySet();
+
+    private final List<InvalidationListener> listeners =
+            new CopyOnWriteArrayList<>();
+
+    private final Duration flushInterval;
+
+    private final Counter publishedCounter;
+    private final Counter coalescedCounter;
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Timer lagTimer;
+
+    protected final ScheduledExecutorService scheduler;
+
+    protected BatchingInvalidationBus(String transport,
+                                      Duration flushInterval,
+                                      MeterRegistry meterRegistry) {
+        this.flushInterval = flushInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-" + transport);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        publishedCounter = meterRegistry.counter(
+                "cache.invalidation.published", "transport", transport);
+        coalescedCounter = meterRegistry.counter(
+                "cache.invalidation.coalesced", "transport", transport);
+        sentCounter = meterRegistry.counter(
+                "cache.invalidation.sent", "transport", transport);
+        receivedCounter = meterRegistry.counter(
+                "cache.invalidation.received", "transport", transport);
+        lagTimer = Timer.builder("cache.invalidation.lag")
+                .tag("transport", transport)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public void start() throws Exception {
+        long interval = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(
+                this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws Exception {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushInterval.toMillis() * 2,
+                TimeUnit.MILLISECONDS);
+        flush();
+    }
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        publishedCounter.increment();
+        notifyListeners(List.of(invalidation));
+
+        if (!pending.add(invalidation)) {
+            coalescedCounter.increment();
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 쌓여 있는 무효화를 한 배치로 전송합니다.
+     * 전송에 실패하면 배치를 다시 쌓아 두고 다음 flush에서 재시도합니다.
+     */
+    public void flush() throws Exception {
+        List<Invalidation> batch = new ArrayList<>();
+
+        Iterator<Invalidation> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            send(nodeId, System.currentTimeMillis(), batch);
+        } catch (Exception e) {
+            pending.addAll(batch);
+            throw e;
+        }
+
+        sentCounter.increment(batch.size());
+    }
+
+    protected long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다른 노드로 배치를 전송합니다.
+     *
+     * @param origin 배치를 발행한 노드
+     * @param sentAt 배치를 보낸 시각 (epoch millis)
+     * @param batch  합쳐진 무효화 목록
+     */
+    protected abstract void send(long origin, long sentAt,
+                                 List<Invalidation> batch) throws Exception;
+
+    /**
+     * 다른 노드에서 받은 배치를 현재 노드의 리스너에 전달합니다.
+     * 자기 자신이 보낸 배치는 이미 적용되었으므로 무시합니다.
+     */
+    protected void receive(long origin, long sentAt,
+                           Collection<Invalidation> batch) {
+        if (origin == nodeId || batch.isEmpty()) {
+            return;
+        }
+
+        long lag = Math.max(0, System.currentTimeMillis() - sentAt);
+        lagTimer.record(lag, TimeUnit.MILLISECONDS);
+        receivedCounter.increment(batch.size());
+
+        notifyListeners(batch);
+    }
+
+    private void notifyListeners(Collection<Invalidation> invalidations) {
+        listeners.forEach(listener -> listener.onInvalidations(invalidations));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to send cache invalidations", e);
+        }
+    }
+}
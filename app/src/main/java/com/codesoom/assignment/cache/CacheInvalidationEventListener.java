@@ -0,0 +1,29 @@
+package com.codesoom.assignment.cache;
+
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.UserChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품과 유저의 변경이 커밋된 뒤 무효화를 발행합니다.
+ */
+@Component
+public class CacheInvalidationEventListener {
+    private final InvalidationBus invalidationBus;
+
+    public CacheInvalidationEventListener(InvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidationBus.publish(
+                Invalidation.product(event.getProduct().getId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidationBus.publish(Invalidation.user(event.getUser().getId()));
+    }
+}
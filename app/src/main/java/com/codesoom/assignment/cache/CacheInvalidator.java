@@ -0,0 +1,65 @@
+package com.codesoom.assignment.cache;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 전달받은 무효화를 로컬 캐시에 적용합니다.
+ * <p>
+ * 상품은 id로 바로 제거하면서 없는 상품 기록도 지우고, 유저는 해당 유저의 토큰 디코딩 결과를 제거합니다.
+ */
+public class CacheInvalidator implements InvalidationListener {
+    private final CacheManager cacheManager;
+
+    public CacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void onInvalidations(Collection<Invalidation> invalidations) {
+        for (Invalidation invalidation : invalidations) {
+            switch (invalidation.getType()) {
+                case PRODUCT:
+                    evictProduct(invalidation.getId());
+                    break;
+                case USER:
+                    evictTokensOf(invalidation.getId());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void evictProduct(Long id) {
+        evict(CacheNames.PRODUCTS, id);
+        evict(CacheNames.MISSING_PRODUCTS, id);
+    }
+
+    private void evict(String cacheName, Long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    private void evictTokensOf(Long userId) {
+        Cache cache = cacheManager.getCache(CacheNames.TOKENS);
+        if (cache == null) {
+            return;
+        }
+
+        if (!(cache.getNativeCache() instanceof Map)) {
+            cache.clear();
+            return;
+        }
+
+        Map<?, ?> tokens = (Map<?, ?>) cache.getNativeCache();
+        tokens.values().removeIf(value -> value instanceof Claims
+                && userId.equals(((Claims) value).get("userId", Long.class)));
+    }
+}
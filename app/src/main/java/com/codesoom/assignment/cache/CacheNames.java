@@ -0,0 +1,15 @@
+package com.codesoom.assignment.cache;
+
+public final class CacheNames {
+    public static final String PRODUCTS = "products";
+
+    public static final String TOKENS = "tokens";
+
+    /**
+     * 존재하지 않는 것으로 확인된 상품 id. 값은 의미가 없습니다.
+     */
+    public static final String MISSING_PRODUCTS = "missing-products";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,31 @@
+package com.codesoom.assignment.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 다른 노드에 전파되는 캐시 무효화 단위입니다.
+ * 같은 대상에 대한 무효화는 동일한 값으로 취급되어 배치 안에서 합쳐집니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class Invalidation {
+    private final InvalidationType type;
+
+    private final Long id;
+
+    public Invalidation(InvalidationType type, Long id) {
+        this.type = type;
+        this.id = id;
+    }
+
+    public static Invalidation product(Long id) {
+        return new Invalidation(InvalidationType.PRODUCT, id);
+    }
+
+    public static Invalidation user(Long id) {
+        return new Invalidation(InvalidationType.USER, id);
+    }
+}
@@ -0,0 +1,16 @@
+package com.codesoom.assignment.cache;
+
+/**
+ * 캐시 무효화를 현재 노드와 다른 노드들에 전파합니다.
+ */
+public interface InvalidationBus {
+    /**
+     * 무효화를 발행합니다.
+     * 현재 노드의 리스너에는 즉시 전달되고, 다른 노드에는 구현에 따라 전파됩니다.
+     *
+     * @param invalidation 발행할 무효화
+     */
+    void publish(Invalidation invalidation);
+
+    void subscribe(InvalidationListener listener);
+}
@@ -0,0 +1,80 @@
+package com.codesoom.assignment.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 무효화 배치를 datagram 하나에 담기 위한 바이너리 인코딩입니다.
+ * <pre>
+ * origin(8) | sentAt(8) | count(4) | (type(1) | id(8)) * count
+ * </pre>
+ */
+public final class InvalidationCodec {
+    static final int HEADER_SIZE = 8 + 8 + 4;
+
+    static final int ENTRY_SIZE = 1 + 8;
+
+    private InvalidationCodec() {
+    }
+
+    public static byte[] encode(long origin, long sentAt,
+                                List<Invalidation> invalidations) {
+        ByteBuffer buffer = ByteBuffer.allocate(
+                HEADER_SIZE + ENTRY_SIZE * invalidations.size());
+
+        buffer.putLong(origin);
+        buffer.putLong(sentAt);
+        buffer.putInt(invalidations.size());
+
+        for (Invalidation invalidation : invalidations) {
+            buffer.put((byte) invalidation.getType().ordinal());
+            buffer.putLong(invalidation.getId());
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 packet일 때
+     */
+    public static Batch decode(byte[] bytes, int offset, int length) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+
+        long origin = buffer.getLong();
+        long sentAt = buffer.getLong();
+        int count = buffer.getInt();
+        // count는 network에서 온 값이므로 남은 길이로 담을 수 있는지 확인한 뒤에 공간을 잡습니다.
+        if (count < 0 || count > buffer.remaining() / ENTRY_SIZE) {
+            throw new IllegalArgumentException(
+                    "Invalid invalidation count: " + count);
+        }
+
+        InvalidationType[] types = InvalidationType.values();
+        List<Invalidation> invalidations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int ordinal = buffer.get();
+            if (ordinal < 0 || ordinal >= types.length) {
+                throw new IllegalArgumentException(
+                        "Invalid invalidation type: " + ordinal);
+            }
+            InvalidationType type = types[ordinal];
+            invalidations.add(new Invalidation(type, buffer.getLong()));
+        }
+
+        return new Batch(origin, sentAt, invalidations);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Batch {
+        private final long origin;
+
+        private final long sentAt;
+
+        private final List<Invalidation> invalidations;
+    }
+}
@@ -0,0 +1,7 @@
+package com.codesoom.assignment.cache;
+
+import java.util.Collection;
+
+public interface InvalidationListener {
+    void onInvalidations(Collection<Invalidation> invalidations);
+}
@@ -0,0 +1,6 @@
+package com.codesoom.assignment.cache;
+
+public enum InvalidationType {
+    PRODUCT,
+    USER
+}
@@ -0,0 +1,177 @@
+package com.codesoom.assignment.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공유 데이터베이스의 {@code invalidation_log} 테이블로 무효화를 전파하는 버스입니다.
+ * <p>
+ * 각 노드는 배치를 테이블에 추가하고, 마지막으로 읽은 id(high-water mark)
+ * 이후의 행을 주기적으로 읽어 갑니다. 동시에 커밋된 트랜잭션은 id 순서와
+ * 다르게 보일 수 있으므로, settle 구간 안의 행은 다시 읽고 이미 전달한 id는
+ * 걸러냅니다. 무효화는 여러 번 적용해도 결과가 같습니다.
+ */
+@Slf4j
+public class JdbcInvalidationBus extends BatchingInvalidationBus {
+    private static final String CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS invalidation_log (" +
+                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "node_id BIGINT NOT NULL, " +
+                    "type VARCHAR(16) NOT NULL, " +
+                    "entity_id BIGINT NOT NULL, " +
+                    "created_at BIGINT NOT NULL)";
+
+    private static final String CREATE_INDEX =
+            "CREATE INDEX IF NOT EXISTS invalidation_log_created_at " +
+                    "ON invalidation_log (created_at)";
+
+    private static final String INSERT =
+            "INSERT INTO invalidation_log (node_id, type, entity_id, created_at) " +
+                    "VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_AFTER =
+            "SELECT id, node_id, type, entity_id, created_at FROM invalidation_log " +
+                    "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String DELETE_BEFORE =
+            "DELETE FROM invalidation_log WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration pollInterval;
+
+    private final Duration settleWindow;
+
+    private final Duration retention;
+
+    private final int pollLimit;
+
+    private final Set<Long> deliveredIds = new HashSet<>();
+
+    private long highWaterMark;
+
+    public JdbcInvalidationBus(DataSource dataSource,
+                               Duration flushInterval,
+                               Duration pollInterval,
+                               Duration settleWindow,
+                               Duration retention,
+                               int pollLimit,
+                               MeterRegistry meterRegistry) {
+        super("jdbc", flushInterval, meterRegistry);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.pollInterval = pollInterval;
+        this.settleWindow = settleWindow;
+        this.retention = retention;
+        this.pollLimit = pollLimit;
+    }
+
+    @Override
+    public void start() throws Exception {
+        jdbcTemplate.execute(CREATE_TABLE);
+        jdbcTemplate.execute(CREATE_INDEX);
+
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM invalidation_log", Long.class);
+        highWaterMark = maxId == null ? 0 : maxId;
+
+        long interval = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(
+                this::pollQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(
+                this::purgeQuietly, 1, 1, TimeUnit.MINUTES);
+
+        super.start();
+    }
+
+    @Override
+    protected void send(long origin, long sentAt, List<Invalidation> batch) {
+        jdbcTemplate.batchUpdate(INSERT, batch, batch.size(),
+                (statement, invalidation) -> {
+                    statement.setLong(1, origin);
+                    statement.setString(2, invalidation.getType().name());
+                    statement.setLong(3, invalidation.getId());
+                    statement.setLong(4, sentAt);
+                });
+    }
+
+    /**
+     * high-water mark 이후의 행을 읽어 아직 전달하지 않은 무효화를 전달합니다.
+     */
+    public void poll() {
+        List<Row> rows = jdbcTemplate.query(SELECT_AFTER,
+                (resultSet, rowNum) -> new Row(
+                        resultSet.getLong("id"),
+                        resultSet.getLong("node_id"),
+                        new Invalidation(
+                                InvalidationType.valueOf(resultSet.getString("type")),
+                                resultSet.getLong("entity_id")),
+                        resultSet.getLong("created_at")),
+                highWaterMark, pollLimit);
+
+        Map<List<Long>, List<Invalidation>> batches = new LinkedHashMap<>();
+        long settledBefore = System.currentTimeMillis() - settleWindow.toMillis();
+        long settledMark = highWaterMark;
+
+        for (Row row : rows) {
+            if (deliveredIds.add(row.id)) {
+                batches.computeIfAbsent(List.of(row.nodeId, row.createdAt),
+                        key -> new ArrayList<>()).add(row.invalidation);
+            }
+            if (row.createdAt < settledBefore) {
+                settledMark = row.id;
+            }
+        }
+
+        batches.forEach((key, invalidations) ->
+                receive(key.get(0), key.get(1), invalidations));
+
+        if (rows.size() == pollLimit) {
+            settledMark = rows.get(rows.size() - 1).id;
+        }
+
+        highWaterMark = settledMark;
+        long mark = settledMark;
+        deliveredIds.removeIf(id -> id <= mark);
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll cache invalidations", e);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            jdbcTemplate.update(DELETE_BEFORE,
+                    System.currentTimeMillis() - retention.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge invalidation log", e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Row {
+        private final long id;
+
+        private final long nodeId;
+
+        private final Invalidation invalidation;
+
+        private final long createdAt;
+    }
+}
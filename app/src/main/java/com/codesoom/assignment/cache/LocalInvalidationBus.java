@@ -0,0 +1,23 @@
+package com.codesoom.assignment.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 단일 노드로 실행할 때 사용하는 버스로, 현재 노드의 리스너에만 전달합니다.
+ */
+public class LocalInvalidationBus implements InvalidationBus {
+    private final List<InvalidationListener> listeners =
+            new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        List<Invalidation> invalidations = List.of(invalidation);
+        listeners.forEach(listener -> listener.onInvalidations(invalidations));
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,305 @@
+package com.codesoom.assignment.cache;
+
+import com.codesoom.assignment.catalog.ProductCodec;
+import com.codesoom.assignment.domain.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 메모리에 매핑한 파일 하나를 고정 크기 slot의 hash table로 쓰는 {@link SharedProductCache}입니다.
+ * 같은 파일을 매핑한 프로세스들이 캐시를 함께 씁니다.
+ * <p>
+ * slot은 {@code [seq long][id long][length int][pad int][상품 bytes]} 형식이고 id마다 slot이 하나로 정해집니다.
+ * seq는 seqlock입니다. 쓰는 쪽은 짝수 seq를 CAS로 홀수로 바꾸고, 다 쓴 뒤 다음 짝수로 발행합니다.
+ * 읽는 쪽은 내용을 복사한 뒤 seq가 그대로이고 짝수였는지 확인하므로 쓰다 만 내용을 쓰지 않습니다.
+ * seq는 쓰기마다 바뀌므로 그대로 {@link #stamp(long)}로도 씁니다.
+ * <p>
+ * 쓰는 도중에 프로세스가 죽으면 그 slot은 홀수로 남아 항상 miss입니다. 잘못된 값을 돌려주지는 않습니다.
+ * 매핑한 프로세스는 살아 있는 동안 파일의 attach 영역에 공유 잠금을 잡고 있으므로,
+ * 기동할 때 배타 잠금을 잡을 수 있으면 쓰는 중인 프로세스가 없다는 뜻이고 그때 홀수 slot을 비웁니다.
+ */
+@Slf4j
+public class MappedProductCache
+        implements SharedProductCache, InvalidationListener, Closeable {
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(
+            long[].class, ByteOrder.nativeOrder());
+
+    private static final int MAGIC = 0x50524444;
+
+    private static final int HEADER_SIZE = 64;
+
+    private static final int SEQ = 0;
+
+    private static final int ID = 8;
+
+    private static final int LENGTH = 16;
+
+    private static final int PAYLOAD = 24;
+
+    private static final int READ_ATTEMPTS = 4;
+
+    private static final long EVICT_SPIN_NANOS = 10_000_000L;
+
+    /**
+     * 파일을 만들거나 검사하는 동안 잡는 잠금 영역입니다.
+     */
+    private static final long INIT_LOCK = 0;
+
+    /**
+     * 매핑한 프로세스가 살아 있는 동안 공유로 잡는 잠금 영역입니다.
+     */
+    private static final long ATTACH_LOCK = 1;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final int slots;
+
+    private final int slotSize;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    /**
+     * 파일을 매핑합니다. 파일이 없거나 형식이 다르면 주어진 크기로 새로 만들고,
+     * 다른 프로세스가 이미 만들었으면 그 크기를 따릅니다.
+     */
+    public MappedProductCache(Path path, int slots, int slotSize,
+                              MeterRegistry meterRegistry) throws IOException {
+        if (slotSize % Long.BYTES != 0 || slotSize <= PAYLOAD) {
+            throw new IllegalArgumentException("Invalid slot size: " + slotSize);
+        }
+        if (HEADER_SIZE + (long) slots * slotSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Shared cache must be smaller than 2GB");
+        }
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try (FileLock ignored = channel.lock(INIT_LOCK, 1, false)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .order(ByteOrder.nativeOrder());
+            channel.read(header, 0);
+            header.flip();
+
+            if (header.remaining() < 12 || header.getInt(0) != MAGIC) {
+                channel.truncate(0);
+                header = ByteBuffer.allocate(HEADER_SIZE)
+                        .order(ByteOrder.nativeOrder())
+                        .putInt(MAGIC)
+                        .putInt(slots)
+                        .putInt(slotSize);
+                header.clear();
+                channel.write(header, 0);
+                channel.write(ByteBuffer.allocate(1),
+                        HEADER_SIZE + (long) slots * slotSize - 1);
+                channel.force(true);
+            }
+
+            this.slots = header.getInt(4);
+            this.slotSize = header.getInt(8);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) this.slots * this.slotSize);
+
+            if (isOnlyMapping()) {
+                releaseStuckSlots();
+            }
+            attach();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        this.hits = meterRegistry.counter("cache.shared.requests", "result", "hit");
+        this.misses = meterRegistry.counter("cache.shared.requests", "result", "miss");
+    }
+
+    @Override
+    public Optional<Product> get(long id) {
+        int slot = slotOf(id);
+
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            long before = (long) LONGS.getAcquire(buffer, slot + SEQ);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (buffer.getLong(slot + ID) != id) {
+                break;
+            }
+            int length = buffer.getInt(slot + LENGTH);
+            byte[] copy = length > 0 && length <= slotSize - PAYLOAD
+                    ? new byte[length]
+                    : null;
+            if (copy != null) {
+                for (int i = 0; i < length; i++) {
+                    copy[i] = buffer.get(slot + PAYLOAD + i);
+                }
+            }
+
+            VarHandle.acquireFence();
+            long after = (long) LONGS.getOpaque(buffer, slot + SEQ);
+            if (before != after) {
+                continue;
+            }
+            if (copy == null) {
+                break;
+            }
+
+            hits.increment();
+            return Optional.of(ProductCodec.read(ByteBuffer.wrap(copy), 0));
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public long stamp(long id) {
+        long seq = (long) LONGS.getAcquire(buffer, slotOf(id) + SEQ);
+        return (seq & 1) == 0 ? seq : -1;
+    }
+
+    @Override
+    public boolean put(Product product, long stamp) {
+        if (stamp < 0 || ProductCodec.sizeOf(product) > slotSize - PAYLOAD) {
+            return false;
+        }
+
+        int slot = slotOf(product.getId());
+        if (!LONGS.compareAndSet(buffer, slot + SEQ, stamp, stamp + 1)) {
+            return false;
+        }
+
+        ByteBuffer target = buffer.duplicate();
+        target.position(slot + PAYLOAD);
+        ProductCodec.write(target, product);
+
+        buffer.putLong(slot + ID, product.getId());
+        buffer.putInt(slot + LENGTH, target.position() - slot - PAYLOAD);
+
+        LONGS.setRelease(buffer, slot + SEQ, stamp + 2);
+        return true;
+    }
+
+    /**
+     * slot을 비우고 seq를 올려, 이 id를 읽기 전에 받아 둔 stamp로는 더 넣지 못하게 합니다.
+     * 다른 id가 있는 slot이어도 seq는 올립니다.
+     */
+    @Override
+    public void evict(long id) {
+        int slot = slotOf(id);
+        long deadline = System.nanoTime() + EVICT_SPIN_NANOS;
+
+        while (true) {
+            long seq = (long) LONGS.getAcquire(buffer, slot + SEQ);
+            if ((seq & 1) == 0
+                    && LONGS.compareAndSet(buffer, slot + SEQ, seq, seq + 1)) {
+                if (buffer.getLong(slot + ID) == id) {
+                    buffer.putLong(slot + ID, 0);
+                    buffer.putInt(slot + LENGTH, 0);
+                }
+                LONGS.setRelease(buffer, slot + SEQ, seq + 2);
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                // 홀수로 멈춘 slot은 읽을 때 항상 miss이므로 오래된 값이 보이지 않습니다.
+                log.warn("Shared product cache slot for {} is stuck; skipping eviction", id);
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public void onInvalidations(Collection<Invalidation> invalidations) {
+        for (Invalidation invalidation : invalidations) {
+            if (invalidation.getType() == InvalidationType.PRODUCT) {
+                evict(invalidation.getId());
+            }
+        }
+    }
+
+    public int slots() {
+        return slots;
+    }
+
+    /**
+     * 파일을 닫아 attach 잠금을 놓습니다. 매핑은 버퍼가 수거될 때까지 남습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * 다른 프로세스가 attach 잠금을 잡고 있지 않은지 확인합니다.
+     * 같은 JVM의 다른 인스턴스가 잡고 있으면 {@link OverlappingFileLockException}이 납니다.
+     */
+    private boolean isOnlyMapping() throws IOException {
+        try (FileLock lock = channel.tryLock(ATTACH_LOCK, 1, false)) {
+            return lock != null;
+        } catch (OverlappingFileLockException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 잠금은 채널을 닫을 때 함께 풀립니다.
+     * 같은 JVM에 이미 잡은 인스턴스가 있으면 그 잠금으로 충분합니다.
+     */
+    private void attach() throws IOException {
+        try {
+            channel.lock(ATTACH_LOCK, 1, true);
+        } catch (OverlappingFileLockException e) {
+            // 같은 JVM의 다른 인스턴스가 이미 attach 했습니다.
+        }
+    }
+
+    /**
+     * 쓰다가 죽은 프로세스가 홀수로 남긴 slot을 비우고 다음 짝수 seq로 엽니다.
+     */
+    private void releaseStuckSlots() {
+        int released = 0;
+        for (int index = 0; index < slots; index++) {
+            int slot = HEADER_SIZE + index * slotSize;
+            long seq = (long) LONGS.getAcquire(buffer, slot + SEQ);
+            if ((seq & 1) != 0) {
+                buffer.putLong(slot + ID, 0);
+                buffer.putInt(slot + LENGTH, 0);
+                LONGS.setRelease(buffer, slot + SEQ, seq + 1);
+                released++;
+            }
+        }
+        if (released > 0) {
+            log.warn("Released {} shared product cache slots left mid-write", released);
+        }
+    }
+
+    private int slotOf(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        int index = (int) ((h >>> 32) % slots);
+        return HEADER_SIZE + index * slotSize;
+    }
+}
@@ -0,0 +1,122 @@
+package com.codesoom.assignment.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.StandardSocketOptions;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * UDP 멀티캐스트로 무효화를 전파하는 버스입니다.
+ * <p>
+ * 기본값은 loopback 인터페이스라서 한 대의 Linux 장비에서 여러 인스턴스를
+ * 띄워 확인할 수 있습니다. loopback에 멀티캐스트가 꺼져 있다면
+ * {@code ip link set lo multicast on} 으로 켜야 합니다.
+ * UDP는 유실될 수 있으므로 캐시 만료 시간을 함께 설정해야 합니다.
+ */
+@Slf4j
+public class MulticastInvalidationBus extends BatchingInvalidationBus {
+    private static final int MAX_DATAGRAM_SIZE = 8192;
+
+    private static final int MAX_ENTRIES_PER_DATAGRAM =
+            (MAX_DATAGRAM_SIZE - InvalidationCodec.HEADER_SIZE)
+                    / InvalidationCodec.ENTRY_SIZE;
+
+    private final InetSocketAddress group;
+
+    private final NetworkInterface networkInterface;
+
+    private final int timeToLive;
+
+    private MulticastSocket socket;
+
+    private Thread receiver;
+
+    private volatile boolean running;
+
+    public MulticastInvalidationBus(String groupAddress,
+                                    int port,
+                                    String interfaceName,
+                                    int timeToLive,
+                                    Duration flushInterval,
+                                    MeterRegistry meterRegistry)
+            throws IOException {
+        super("multicast", flushInterval, meterRegistry);
+
+        this.group = new InetSocketAddress(
+                InetAddress.getByName(groupAddress), port);
+        this.networkInterface = NetworkInterface.getByName(interfaceName);
+        this.timeToLive = timeToLive;
+
+        if (networkInterface == null) {
+            throw new IllegalArgumentException(
+                    "Unknown network interface: " + interfaceName);
+        }
+    }
+
+    @Override
+    public void start() throws Exception {
+        socket = new MulticastSocket(group.getPort());
+        socket.setNetworkInterface(networkInterface);
+        socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        socket.setTimeToLive(timeToLive);
+        socket.joinGroup(group, networkInterface);
+
+        running = true;
+        receiver = new Thread(this::receiveLoop, "invalidation-multicast-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+
+        super.start();
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+
+        running = false;
+        socket.leaveGroup(group, networkInterface);
+        socket.close();
+        receiver.join(1000);
+    }
+
+    @Override
+    protected void send(long origin, long sentAt,
+                        List<Invalidation> batch) throws IOException {
+        for (int from = 0; from < batch.size(); from += MAX_ENTRIES_PER_DATAGRAM) {
+            int to = Math.min(batch.size(), from + MAX_ENTRIES_PER_DATAGRAM);
+            byte[] bytes = InvalidationCodec.encode(
+                    origin, sentAt, batch.subList(from, to));
+            socket.send(new DatagramPacket(bytes, bytes.length, group));
+        }
+    }
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[MAX_DATAGRAM_SIZE];
+
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+
+                InvalidationCodec.Batch batch = InvalidationCodec.decode(
+                        packet.getData(), packet.getOffset(), packet.getLength());
+                receive(batch.getOrigin(), batch.getSentAt(),
+                        batch.getInvalidations());
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Failed to receive cache invalidations", e);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Dropped malformed cache invalidation datagram", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.codesoom.assignment.cache;
+
+import com.codesoom.assignment.domain.Product;
+
+import java.util.Optional;
+
+/**
+ * 같은 호스트의 여러 프로세스가 함께 쓰는 상품 캐시입니다.
+ * <p>
+ * 저장소에서 읽기 전에 {@link #stamp(long)}를 받아 두고, 읽은 뒤 그 stamp로 {@link #put(Product, long)} 합니다.
+ * 그 사이에 {@link #evict(long)}가 있었으면 넣지 않으므로 오래된 값이 변경 뒤에 들어가지 않습니다.
+ */
+public interface SharedProductCache {
+    SharedProductCache NONE = new SharedProductCache() {
+        @Override
+        public Optional<Product> get(long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long stamp(long id) {
+            return -1;
+        }
+
+        @Override
+        public boolean put(Product product, long stamp) {
+            return false;
+        }
+
+        @Override
+        public void evict(long id) {
+        }
+    };
+
+    Optional<Product> get(long id);
+
+    /**
+     * @return 현재 stamp. 지금은 넣을 수 없으면 음수
+     */
+    long stamp(long id);
+
+    /**
+     * @return 넣었는지 여부
+     */
+    boolean put(Product product, long stamp);
+
+    void evict(long id);
+}
@@ -0,0 +1,198 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주기적으로 전체 상품을 버전이 붙은 snapshot 파일로 쓰고, 가장 최근 파일을 매핑해 둡니다.
+ * <p>
+ * 기동하면 디렉터리의 마지막 snapshot을 바로 매핑하고, 데이터베이스에서 새 snapshot을 쓸 때까지
+ * 그 snapshot으로 조회에 응답합니다({@link #isServing()}).
+ * 조회 중 데이터베이스에 닿지 못하면 {@link #databaseUnavailable()}로 다시 snapshot 응답으로 바꾸고,
+ * 다음 snapshot 쓰기가 성공하면 데이터베이스 조회로 돌아갑니다.
+ */
+@Slf4j
+public class CatalogSnapshots {
+    private static final String PREFIX = "catalog-";
+
+    private static final String SUFFIX = ".snapshot";
+
+    private final ProductRepository productRepository;
+
+    private final Path directory;
+
+    private final Duration interval;
+
+    private final int retain;
+
+    private final Clock clock;
+
+    private final boolean enabled;
+
+    private final AtomicReference<MappedCatalog> current = new AtomicReference<>();
+
+    private volatile boolean serving;
+
+    private volatile Instant lastWritten = Instant.MIN;
+
+    public CatalogSnapshots(ProductRepository productRepository,
+                            Path directory,
+                            Duration interval,
+                            int retain,
+                            Clock clock,
+                            boolean enabled) {
+        this.productRepository = productRepository;
+        this.directory = directory;
+        this.interval = interval;
+        this.retain = retain;
+        this.clock = clock;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 가장 최근의 읽을 수 있는 snapshot을 매핑합니다. 깨진 파일은 건너뜁니다.
+     */
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+
+        List<Path> files = snapshotFiles();
+        Collections.reverse(files);
+        for (Path file : files) {
+            try {
+                MappedCatalog catalog = MappedCatalog.open(file);
+                current.set(catalog);
+                serving = true;
+                log.info("Serving catalog snapshot {} ({} products) until caught up",
+                        catalog.getVersion(), catalog.size());
+                return;
+            } catch (IOException e) {
+                log.warn("Skipping unreadable catalog snapshot {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 매핑된 snapshot이 있는지 여부입니다.
+     */
+    public boolean isAvailable() {
+        return current.get() != null;
+    }
+
+    /**
+     * 데이터베이스 대신 snapshot으로 응답해야 하는지 여부입니다.
+     * 기동 후 아직 데이터베이스에서 snapshot을 쓰지 못했거나 데이터베이스에 닿지 못할 때입니다.
+     */
+    public boolean isServing() {
+        return serving && isAvailable();
+    }
+
+    /**
+     * 조회가 데이터베이스에 닿지 못했음을 알립니다. 다음 snapshot 쓰기가 성공할 때까지
+     * snapshot으로 응답합니다.
+     */
+    public void databaseUnavailable() {
+        serving = true;
+    }
+
+    public long getVersion() {
+        MappedCatalog catalog = current.get();
+        return catalog == null ? 0 : catalog.getVersion();
+    }
+
+    public List<Product> findAll() {
+        MappedCatalog catalog = current.get();
+        return catalog == null ? List.of() : catalog.findAll();
+    }
+
+    public Optional<Product> findById(long id) {
+        MappedCatalog catalog = current.get();
+        return catalog == null ? Optional.empty() : catalog.findById(id);
+    }
+
+    /**
+     * 주기가 되었거나 snapshot으로 응답 중이면 데이터베이스에서 새 snapshot을 씁니다.
+     * 응답 중일 때는 {@code retry-interval}마다 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${catalog.snapshot.retry-interval:5000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        if (!serving && lastWritten.plus(interval).isAfter(clock.instant())) {
+            return;
+        }
+
+        try {
+            writeSnapshot();
+        } catch (Exception e) {
+            log.warn("Could not write catalog snapshot; serving version {}",
+                    getVersion(), e);
+        }
+    }
+
+    /**
+     * 데이터베이스에서 전체 상품을 읽어 다음 버전의 snapshot을 쓰고 매핑합니다.
+     * 임시 파일에 다 쓴 뒤 이름을 바꾸므로 쓰다 멈춘 파일이 최신으로 보이지 않습니다.
+     */
+    public synchronized void writeSnapshot() throws IOException {
+        List<Product> products = productRepository.findAll();
+
+        long version = getVersion() + 1;
+        Path target = directory.resolve(String.format("%s%020d%s",
+                PREFIX, version, SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+
+        MappedCatalog.write(temporary, version, products);
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        current.set(MappedCatalog.open(target));
+        lastWritten = clock.instant();
+        serving = false;
+
+        prune();
+    }
+
+    private void prune() throws IOException {
+        List<Path> files = snapshotFiles();
+        for (int i = 0; i < files.size() - retain; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                log.debug("Could not delete old catalog snapshot {}", files.get(i), e);
+            }
+        }
+    }
+
+    /**
+     * @return 버전 오름차순의 snapshot 파일들
+     */
+    private List<Path> snapshotFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream =
+                     Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+}
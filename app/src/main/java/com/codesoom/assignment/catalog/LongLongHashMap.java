@@ -0,0 +1,158 @@
+package com.codesoom.assignment.catalog;
+
+import java.util.Arrays;
+
+/**
+ * {@code long} key와 {@code long} value를 boxing 없이 담는 open addressing hash map입니다.
+ * <p>
+ * 선형 탐사를 쓰고, 삭제는 tombstone 없이 뒤의 항목을 당겨 채웁니다.
+ * key 0은 빈 칸을 뜻하므로 넣을 수 없습니다. 동기화하지 않으므로 공유할 때는 복사본을 만들어
+ * 고친 뒤 발행합니다.
+ */
+final class LongLongHashMap {
+    static final long MISSING = -1L;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+
+    private long[] values;
+
+    private int mask;
+
+    private int size;
+
+    LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(
+                Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    private LongLongHashMap(LongLongHashMap source) {
+        this.keys = source.keys.clone();
+        this.values = source.values.clone();
+        this.mask = source.mask;
+        this.size = source.size;
+    }
+
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    LongLongHashMap copy() {
+        return new LongLongHashMap(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return key의 value. 없으면 {@link #MISSING}
+     */
+    long get(long key) {
+        int index = hash(key) & mask;
+        while (true) {
+            long candidate = keys[index];
+            if (candidate == key) {
+                return values[index];
+            }
+            if (candidate == 0) {
+                return MISSING;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * @return 이전 value. 없었으면 {@link #MISSING}
+     */
+    long put(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+
+        int index = hash(key) & mask;
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                long previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            resize(keys.length << 1);
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return 지운 value. 없었으면 {@link #MISSING}
+     */
+    long remove(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != key) {
+            if (keys[index] == 0) {
+                return MISSING;
+            }
+            index = (index + 1) & mask;
+        }
+
+        long removed = values[index];
+        size--;
+
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        values[hole] = 0;
+        return removed;
+    }
+
+    /**
+     * 모든 key를 오름차순으로 돌려줍니다.
+     */
+    long[] sortedKeys() {
+        long[] result = new long[size];
+        int count = 0;
+        for (long key : keys) {
+            if (key != 0) {
+                result[count++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,192 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 전체 상품을 담은 읽기 전용 snapshot 파일을 메모리에 매핑해 읽습니다.
+ * <p>
+ * 형식은 header, {@link ProductCodec}으로 인코딩한 상품들, id 순으로 정렬된
+ * {@code [id long][위치 long]} 색인 순서입니다. id 조회는 색인을 이분 탐색합니다.
+ * 파일은 만든 뒤 바뀌지 않으므로 여러 스레드가 잠금 없이 읽습니다.
+ */
+public class MappedCatalog {
+    private static final int MAGIC = 0x43544C47;
+
+    private static final int FORMAT = 2;
+
+    private static final int HEADER_SIZE = 40;
+
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 2;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private final ByteBuffer buffer;
+
+    private final long version;
+
+    private final long createdAt;
+
+    private final int count;
+
+    private final int indexOffset;
+
+    private MappedCatalog(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.version = buffer.getLong(8);
+        this.createdAt = buffer.getLong(16);
+        this.count = buffer.getInt(24);
+        this.indexOffset = (int) buffer.getLong(32);
+    }
+
+    /**
+     * 상품을 id 순으로 {@code path}에 씁니다. 파일은 fsync 한 뒤에 돌아갑니다.
+     *
+     * @throws IOException 쓰기에 실패하거나 파일이 2GB를 넘을 때
+     */
+    public static void write(Path path, long version,
+                             Collection<Product> products) throws IOException {
+        List<Product> sorted = new ArrayList<>(products);
+        sorted.sort(Comparator.comparing(Product::getId));
+
+        long[] offsets = new long[sorted.size()];
+        ByteBuffer chunk = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE);
+
+            for (int i = 0; i < sorted.size(); i++) {
+                Product product = sorted.get(i);
+                int size = ProductCodec.sizeOf(product);
+                if (chunk.remaining() < size) {
+                    drain(channel, chunk);
+                    if (size > chunk.capacity()) {
+                        chunk = ByteBuffer.allocate(size);
+                    }
+                }
+                offsets[i] = channel.position() + chunk.position();
+                ProductCodec.write(chunk, product);
+            }
+            drain(channel, chunk);
+
+            long indexOffset = channel.position();
+            for (int i = 0; i < sorted.size(); i++) {
+                if (chunk.remaining() < INDEX_ENTRY_SIZE) {
+                    drain(channel, chunk);
+                }
+                chunk.putLong(sorted.get(i).getId()).putLong(offsets[i]);
+            }
+            drain(channel, chunk);
+
+            if (channel.position() > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot is larger than 2GB");
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT)
+                    .putLong(version)
+                    .putLong(System.currentTimeMillis())
+                    .putInt(sorted.size())
+                    .putInt(0)
+                    .putLong(indexOffset);
+            header.flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+    }
+
+    /**
+     * snapshot 파일을 매핑합니다. 파일 내용은 필요할 때 page 단위로 읽힙니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 snapshot 형식이 아닐 때
+     */
+    public static MappedCatalog open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a catalog snapshot: " + path);
+            }
+
+            MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+                throw new IOException("Not a catalog snapshot: " + path);
+            }
+
+            MappedCatalog catalog = new MappedCatalog(buffer);
+            long expected = (long) catalog.indexOffset
+                    + (long) catalog.count * INDEX_ENTRY_SIZE;
+            if (expected != size) {
+                throw new IOException("Truncated catalog snapshot: " + path);
+            }
+            return catalog;
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Optional<Product> findById(long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long candidate = buffer.getLong(indexOffset + middle * INDEX_ENTRY_SIZE);
+            if (candidate < id) {
+                low = middle + 1;
+            } else if (candidate > id) {
+                high = middle - 1;
+            } else {
+                return Optional.of(productAt(middle));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return id 순서의 상품 목록
+     */
+    public List<Product> findAll() {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(productAt(i));
+        }
+        return products;
+    }
+
+    private Product productAt(int entry) {
+        long offset = buffer.getLong(indexOffset + entry * INDEX_ENTRY_SIZE + Long.BYTES);
+        return ProductCodec.read(buffer, (int) offset);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        while (chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+}
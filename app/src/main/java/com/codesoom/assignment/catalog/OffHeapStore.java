@@ -0,0 +1,65 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 인코딩한 상품을 direct {@link ByteBuffer} segment에 차례로 붙여 씁니다.
+ * <p>
+ * 이미 쓴 자리는 다시 쓰지 않으므로, 발행된 주소를 읽는 동안 쓰기가 이어져도 안전합니다.
+ * 주소는 {@code (segment 번호 << 32) | segment 안의 위치}입니다.
+ * 쓰기는 한 스레드만 합니다.
+ */
+final class OffHeapStore {
+    private final int segmentSize;
+
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+
+    private ByteBuffer tail;
+
+    private long usedBytes;
+
+    OffHeapStore(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    long append(Product product) {
+        int size = ProductCodec.sizeOf(product);
+        if (size > segmentSize) {
+            throw new IllegalArgumentException(
+                    "Product " + product.getId() + " is larger than a segment");
+        }
+
+        if (tail == null || tail.remaining() < size) {
+            ByteBuffer segment = ByteBuffer.allocateDirect(segmentSize);
+            ByteBuffer[] grown = Arrays.copyOf(segments, segments.length + 1);
+            grown[grown.length - 1] = segment;
+            segments = grown;
+            tail = segment.duplicate();
+        }
+
+        long address = ((long) (segments.length - 1) << 32) | tail.position();
+        int start = tail.position();
+        ProductCodec.write(tail, product);
+        usedBytes += tail.position() - start;
+        return address;
+    }
+
+    Product read(long address) {
+        return ProductCodec.read(segments[(int) (address >>> 32)], (int) address);
+    }
+
+    int sizeAt(long address) {
+        return ProductCodec.sizeAt(segments[(int) (address >>> 32)], (int) address);
+    }
+
+    long usedBytes() {
+        return usedBytes;
+    }
+
+    long allocatedBytes() {
+        return (long) segments.length * segmentSize;
+    }
+}
@@ -0,0 +1,145 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link Product}를 byte 배열 없이 {@link ByteBuffer}에 직접 쓰고 읽습니다.
+ * <p>
+ * 형식은 {@code [id long][price int][stock int][name][maker][imageUrl]}이며
+ * 문자열은 {@code [UTF-8 길이 int][bytes]}입니다. null은 가격과 재고는 {@link Integer#MIN_VALUE},
+ * 문자열은 길이 -1로 나타냅니다.
+ * 읽기는 모두 절대 위치로 하므로 여러 스레드가 같은 buffer를 동시에 읽을 수 있습니다.
+ */
+public final class ProductCodec {
+    private static final int NULL_NUMBER = Integer.MIN_VALUE;
+
+    private static final int NULL_STRING = -1;
+
+    private static final int FIXED_SIZE = Long.BYTES + Integer.BYTES * 5;
+
+    private ProductCodec() {
+    }
+
+    public static int sizeOf(Product product) {
+        return FIXED_SIZE
+                + utf8Length(product.getName())
+                + utf8Length(product.getMaker())
+                + utf8Length(product.getImageUrl());
+    }
+
+    /**
+     * 현재 위치에 상품을 쓰고 위치를 그만큼 옮깁니다.
+     */
+    public static void write(ByteBuffer target, Product product) {
+        target.putLong(product.getId());
+        putNumber(target, product.getPrice());
+        putNumber(target, product.getStock());
+        putString(target, product.getName());
+        putString(target, product.getMaker());
+        putString(target, product.getImageUrl());
+    }
+
+    public static long readId(ByteBuffer source, int offset) {
+        return source.getLong(offset);
+    }
+
+    /**
+     * {@code offset}에서 시작하는 상품을 읽습니다. buffer의 위치는 바꾸지 않습니다.
+     */
+    public static Product read(ByteBuffer source, int offset) {
+        int position = offset;
+        long id = source.getLong(position);
+        position += Long.BYTES;
+        int price = source.getInt(position);
+        position += Integer.BYTES;
+        int stock = source.getInt(position);
+        position += Integer.BYTES;
+
+        String name = getString(source, position);
+        position = skipString(source, position);
+        String maker = getString(source, position);
+        position = skipString(source, position);
+        String imageUrl = getString(source, position);
+
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .maker(maker)
+                .price(price == NULL_NUMBER ? null : price)
+                .imageUrl(imageUrl)
+                .stock(stock == NULL_NUMBER ? null : stock)
+                .build();
+    }
+
+    /**
+     * {@code offset}에서 시작하는 상품이 차지하는 byte 수입니다.
+     */
+    public static int sizeAt(ByteBuffer source, int offset) {
+        int position = offset + Long.BYTES + Integer.BYTES * 2;
+        for (int i = 0; i < 3; i++) {
+            position = skipString(source, position);
+        }
+        return position - offset;
+    }
+
+    private static void putNumber(ByteBuffer target, Integer value) {
+        target.putInt(value == null ? NULL_NUMBER : value);
+    }
+
+    private static void putString(ByteBuffer target, String value) {
+        if (value == null) {
+            target.putInt(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        target.putInt(bytes.length);
+        target.put(bytes);
+    }
+
+    private static String getString(ByteBuffer source, int position) {
+        int length = source.getInt(position);
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        int start = position + Integer.BYTES;
+        for (int i = 0; i < length; i++) {
+            bytes[i] = source.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int skipString(ByteBuffer source, int position) {
+        return position + Integer.BYTES + Math.max(0, source.getInt(position));
+    }
+
+    /**
+     * 인코딩하지 않고 UTF-8 길이를 셉니다. 짝이 없는 surrogate는 실제보다 크게 셀 수 있어
+     * 공간을 잡을 때만 씁니다.
+     */
+    private static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,117 @@
+package com.codesoom.assignment.catalog;
+
+import java.util.Arrays;
+
+/**
+ * 상품 id에서 off-heap 주소로 가는 색인입니다. 한 번 발행한 뒤에는 바뀌지 않습니다.
+ * <p>
+ * 색인은 여러 shard로 나뉘어 있어, 새 버전은 바뀐 shard만 복사하고 나머지는 이전 버전과 공유합니다.
+ * 500만 개일 때 shard 하나가 수백 KB라서 변경 몇 건에 색인 전체를 복사하지 않습니다.
+ */
+final class ProductIndex {
+    private static final int SHARD_BITS = 10;
+
+    private static final int SHARDS = 1 << SHARD_BITS;
+
+    private final LongLongHashMap[] shards;
+
+    private final int size;
+
+    private volatile long[] sortedIds;
+
+    private ProductIndex(LongLongHashMap[] shards, int size) {
+        this.shards = shards;
+        this.size = size;
+    }
+
+    static ProductIndex empty(int expectedSize) {
+        LongLongHashMap[] shards = new LongLongHashMap[SHARDS];
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new LongLongHashMap(expectedSize / SHARDS);
+        }
+        return new ProductIndex(shards, 0);
+    }
+
+    private static int shardOf(long id) {
+        return LongLongHashMap.hash(id) >>> (Integer.SIZE - SHARD_BITS);
+    }
+
+    /**
+     * @return 주소. 없으면 {@link LongLongHashMap#MISSING}
+     */
+    long get(long id) {
+        return shards[shardOf(id)].get(id);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 모든 id를 오름차순으로 돌려줍니다. 버전마다 처음 요청할 때 한 번 계산합니다.
+     */
+    long[] sortedIds() {
+        long[] ids = sortedIds;
+        if (ids == null) {
+            ids = new long[size];
+            int count = 0;
+            for (LongLongHashMap shard : shards) {
+                long[] keys = shard.sortedKeys();
+                System.arraycopy(keys, 0, ids, count, keys.length);
+                count += keys.length;
+            }
+            Arrays.sort(ids);
+            sortedIds = ids;
+        }
+        return ids;
+    }
+
+    Editor edit() {
+        return new Editor(this);
+    }
+
+    /**
+     * 이 색인을 바탕으로 새 버전을 만듭니다. 처음 고치는 shard만 복사합니다.
+     */
+    static final class Editor {
+        private final LongLongHashMap[] shards;
+
+        private final boolean[] copied = new boolean[SHARDS];
+
+        private int size;
+
+        private Editor(ProductIndex base) {
+            this.shards = base.shards.clone();
+            this.size = base.size;
+        }
+
+        long put(long id, long address) {
+            long previous = writable(id).put(id, address);
+            if (previous == LongLongHashMap.MISSING) {
+                size++;
+            }
+            return previous;
+        }
+
+        long remove(long id) {
+            long previous = writable(id).remove(id);
+            if (previous != LongLongHashMap.MISSING) {
+                size--;
+            }
+            return previous;
+        }
+
+        ProductIndex publish() {
+            return new ProductIndex(shards, size);
+        }
+
+        private LongLongHashMap writable(long id) {
+            int shard = shardOf(id);
+            if (!copied[shard]) {
+                shards[shard] = shards[shard].copy();
+                copied[shard] = true;
+            }
+            return shards[shard];
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.cache.Invalidation;
+import com.codesoom.assignment.cache.InvalidationListener;
+import com.codesoom.assignment.cache.InvalidationType;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품 조회 전용 모델입니다. 상품은 off-heap segment에, id 색인은 boxing 없는 hash map에 둡니다.
+ * <p>
+ * 읽기는 현재 버전을 한 번 읽고 그 버전만 보므로 잠금이 없습니다.
+ * 상품이 바뀌었다는 무효화를 받으면 id를 모아 두었다가, {@link #refresh()}에서
+ * 저장소에서 다시 읽어 새 버전을 만들고 참조를 바꿔 발행합니다.
+ * 무효화 버스를 구독하므로 다른 노드의 변경도 반영됩니다.
+ * <p>
+ * 고친 상품은 segment 끝에 새로 쓰고 이전 자리는 버립니다.
+ * 버린 byte가 살아 있는 byte보다 많아지면 살아 있는 상품만 새 segment로 옮깁니다.
+ */
+public class ProductReadModel implements InvalidationListener {
+    private final ProductRepository productRepository;
+
+    private final boolean enabled;
+
+    private final int segmentSize;
+
+    private final AtomicReference<Version> current = new AtomicReference<>();
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private OffHeapStore store;
+
+    private long garbageBytes;
+
+    public ProductReadModel(ProductRepository productRepository,
+                            boolean enabled,
+                            int segmentSize) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * 첫 버전이 발행되었는지 여부입니다. 그 전에는 호출한 쪽이 저장소에서 읽어야 합니다.
+     */
+    public boolean isReady() {
+        return current.get() != null;
+    }
+
+    /**
+     * @return id 순서의 상품 목록. 아직 준비되지 않았으면 빈 목록
+     */
+    public List<Product> findAll() {
+        Version version = current.get();
+        if (version == null) {
+            return List.of();
+        }
+
+        long[] ids = version.index.sortedIds();
+        List<Product> products = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            products.add(version.store.read(version.index.get(id)));
+        }
+        return products;
+    }
+
+    public Optional<Product> findById(long id) {
+        Version version = current.get();
+        if (version == null) {
+            return Optional.empty();
+        }
+
+        long address = version.index.get(id);
+        if (address == LongLongHashMap.MISSING) {
+            return Optional.empty();
+        }
+        return Optional.of(version.store.read(address));
+    }
+
+    public long getVersion() {
+        Version version = current.get();
+        return version == null ? 0 : version.number;
+    }
+
+    public int size() {
+        Version version = current.get();
+        return version == null ? 0 : version.index.size();
+    }
+
+    /**
+     * @return off-heap에 잡아 둔 byte 수
+     */
+    public long offHeapBytes() {
+        Version version = current.get();
+        return version == null ? 0 : version.store.allocatedBytes();
+    }
+
+    @Override
+    public void onInvalidations(Collection<Invalidation> invalidations) {
+        if (!enabled) {
+            return;
+        }
+        for (Invalidation invalidation : invalidations) {
+            if (invalidation.getType() == InvalidationType.PRODUCT) {
+                pending.add(invalidation.getId());
+            }
+        }
+    }
+
+    /**
+     * 첫 호출에서는 전체 상품을 읽어 들이고, 이후에는 무효화된 상품만 다시 읽어 새 버전을 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${catalog.read-model.refresh-interval:100}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        if (current.get() == null) {
+            load(productRepository.findAll());
+            return;
+        }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+
+        Version base = current.get();
+        ProductIndex.Editor editor = base.index.edit();
+        for (Long id : ids) {
+            long previous = productRepository.findById(id)
+                    .map(product -> editor.put(id, store.append(product)))
+                    .orElseGet(() -> editor.remove(id));
+            if (previous != LongLongHashMap.MISSING) {
+                garbageBytes += store.sizeAt(previous);
+            }
+        }
+        publish(base.number + 1, editor.publish());
+
+        if (garbageBytes > store.usedBytes() - garbageBytes) {
+            load(findAll());
+        }
+    }
+
+    /**
+     * 주어진 상품으로 새 segment와 색인을 만들어 발행합니다.
+     */
+    public synchronized void load(Collection<Product> products) {
+        store = new OffHeapStore(segmentSize);
+        garbageBytes = 0;
+
+        ProductIndex.Editor editor = ProductIndex.empty(products.size()).edit();
+        for (Product product : products) {
+            editor.put(product.getId(), store.append(product));
+        }
+        publish(getVersion() + 1, editor.publish());
+    }
+
+    private void publish(long number, ProductIndex index) {
+        current.set(new Version(number, store, index));
+    }
+
+    private static final class Version {
+        private final long number;
+
+        private final OffHeapStore store;
+
+        private final ProductIndex index;
+
+        private Version(long number, OffHeapStore store, ProductIndex index) {
+            this.number = number;
+            this.store = store;
+            this.index = index;
+        }
+    }
+}
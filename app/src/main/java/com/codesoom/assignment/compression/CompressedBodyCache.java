@@ -0,0 +1,61 @@
+package com.codesoom.assignment.compression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import lombok.EqualsAndHashCode;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 압축한 본문을 원래 본문의 해시로 보관합니다.
+ * <p>
+ * 키가 본문 내용 자체에서 나오므로 상품이 바뀌면 자연히 다른 키가 되어
+ * 따로 무효화하지 않아도 오래된 압축 결과를 돌려주지 않습니다.
+ * 전체 크기는 압축된 바이트 수 기준으로 {@code maximumBytes}를 넘지 않습니다.
+ */
+public class CompressedBodyCache {
+    private final Cache<Key, byte[]> entries;
+
+    private final int level;
+
+    public CompressedBodyCache(long maximumBytes, int level) {
+        this.entries = CacheBuilder.newBuilder()
+                .maximumWeight(maximumBytes)
+                .<Key, byte[]>weigher((key, value) -> value.length)
+                .build();
+        this.level = level;
+    }
+
+    /**
+     * 같은 본문을 같은 방식으로 압축한 적이 있으면 그 결과를, 없으면 압축해서 보관한 뒤 돌려줍니다.
+     */
+    public byte[] compress(ContentCodec codec, byte[] body) {
+        Key key = new Key(codec, Hashing.murmur3_128().hashBytes(body), body.length);
+        try {
+            return entries.get(key, () -> codec.encode(body, level));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final ContentCodec codec;
+
+        private final HashCode hash;
+
+        private final int length;
+
+        Key(ContentCodec codec, HashCode hash, int length) {
+            this.codec = codec;
+            this.hash = hash;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.codesoom.assignment.compression;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * GET 응답을 클라이언트가 받을 수 있는 방식으로 압축합니다.
+ * <p>
+ * 200 응답이면서 {@code mimeTypes}에 맞고 {@code minimumSize} 이상인 본문만 압축하며,
+ * 압축 결과는 {@link CompressedBodyCache}에서 재사용합니다.
+ * 여러 방식을 받을 수 있으면 {@code codecs}에 먼저 나온 방식을 씁니다.
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+    private final CompressedBodyCache cache;
+
+    private final List<ContentCodec> codecs;
+
+    private final int minimumSize;
+
+    private final List<MediaType> mimeTypes;
+
+    public CompressionFilter(CompressedBodyCache cache,
+                             List<ContentCodec> codecs,
+                             int minimumSize,
+                             List<MediaType> mimeTypes) {
+        this.cache = cache;
+        this.codecs = codecs;
+        this.minimumSize = minimumSize;
+        this.mimeTypes = mimeTypes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        ContentCodec codec = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (codec == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper =
+                new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!shouldCompress(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] compressed = cache.compress(codec, body);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, codec.getEncoding());
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    private boolean shouldCompress(HttpServletResponse response, byte[] body) {
+        if (response.getStatus() != HttpStatus.OK.value()
+                || body.length < minimumSize
+                || response.getContentType() == null
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+
+        MediaType contentType = MediaType.parseMediaType(response.getContentType());
+        return mimeTypes.stream().anyMatch(type -> type.includes(contentType));
+    }
+
+    /**
+     * Accept-Encoding에서 받을 수 있는 방식 중 가장 선호하는 방식을 고릅니다.
+     * {@code q=0}으로 거절한 방식은 고르지 않습니다.
+     */
+    ContentCodec negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+
+        for (ContentCodec codec : codecs) {
+            if (accepts(acceptEncoding, codec.getEncoding())) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    private boolean accepts(String acceptEncoding, String encoding) {
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package com.codesoom.assignment.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 본문 압축 방식입니다. 이름은 Accept-Encoding, Content-Encoding 값과 같습니다.
+ */
+public enum ContentCodec {
+    GZIP("gzip") {
+        @Override
+        public byte[] encode(byte[] body, int level) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+                {
+                    def.setLevel(level);
+                }
+            }) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return output.toByteArray();
+        }
+    },
+
+    /**
+     * gzip과 같은 DEFLATE 알고리즘에 zlib 헤더만 다르므로 속도와 압축률은 gzip과 거의 같습니다.
+     * gzip을 받지 않는 클라이언트를 위해 둡니다.
+     * 더 빠른 br, zstd는 JDK에 구현이 없고 네이티브 라이브러리 의존성이 필요해 넣지 않았습니다.
+     * CPU를 줄이려면 {@code compression.level}을 낮춥니다.
+     */
+    DEFLATE("deflate") {
+        @Override
+        public byte[] encode(byte[] body, int level) {
+            Deflater deflater = new Deflater(level);
+            try {
+                deflater.setInput(body);
+                deflater.finish();
+
+                ByteArrayOutputStream output =
+                        new ByteArrayOutputStream(body.length / 4);
+                byte[] buffer = new byte[8192];
+                while (!deflater.finished()) {
+                    output.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return output.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+    };
+
+    private final String encoding;
+
+    ContentCodec(String encoding) {
+        this.encoding = encoding;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public abstract byte[] encode(byte[] body, int level);
+
+    public static ContentCodec of(String encoding) {
+        for (ContentCodec codec : values()) {
+            if (codec.encoding.equalsIgnoreCase(encoding)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Unknown encoding: " + encoding);
+    }
+}
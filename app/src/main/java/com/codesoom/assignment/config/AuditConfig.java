@@ -0,0 +1,78 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.audit.AuditAccessFilter;
+import com.codesoom.assignment.audit.AuditLog;
+import com.codesoom.assignment.audit.AuditLogWriter;
+import com.codesoom.assignment.audit.AuditRingBuffer;
+import com.codesoom.assignment.audit.RingBufferAuditLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 접근 기록과 상품 변경 기록을 구성합니다.
+ * {@code audit.enabled}가 꺼져 있으면 {@link AuditLog#NONE}을 씁니다.
+ */
+@Configuration
+public class AuditConfig {
+    private static final String ENABLED = "audit.enabled";
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "false",
+            matchIfMissing = true)
+    public AuditLog noAuditLog() {
+        return AuditLog.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public AuditRingBuffer auditRingBuffer(
+            @Value("${audit.capacity:65536}") int capacity) {
+        return new AuditRingBuffer(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public AuditLog auditLog(AuditRingBuffer auditRingBuffer,
+                             MeterRegistry meterRegistry) {
+        return new RingBufferAuditLog(auditRingBuffer, meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public AuditLogWriter auditLogWriter(
+            AuditRingBuffer auditRingBuffer,
+            MeterRegistry meterRegistry,
+            @Value("${audit.directory:audit}") Path directory,
+            @Value("${audit.segment-size:64MB}") DataSize segmentSize,
+            @Value("${audit.retain:16}") int retain,
+            @Value("${audit.fsync-interval:100ms}") Duration fsyncInterval,
+            @Value("${audit.batch-size:1024}") int batchSize,
+            @Value("${audit.idle-wait:1ms}") Duration idleWait
+    ) {
+        return new AuditLogWriter(auditRingBuffer, directory,
+                segmentSize.toBytes(), retain, fsyncInterval, batchSize,
+                idleWait, meterRegistry);
+    }
+
+    /**
+     * 다른 필터에서 걸린 시간까지 재도록 가장 먼저 실행합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public FilterRegistrationBean<AuditAccessFilter> auditAccessFilter(
+            AuditLog auditLog) {
+        FilterRegistrationBean<AuditAccessFilter> registration =
+                new FilterRegistrationBean<>(new AuditAccessFilter(auditLog));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,141 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.cache.CacheInvalidator;
+import com.codesoom.assignment.cache.CacheNames;
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.cache.JdbcInvalidationBus;
+import com.codesoom.assignment.cache.LocalInvalidationBus;
+import com.codesoom.assignment.cache.MappedProductCache;
+import com.codesoom.assignment.cache.MulticastInvalidationBus;
+import com.codesoom.assignment.cache.SharedProductCache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 상품, 토큰, 없는 상품 id 캐시와 노드 간 무효화 버스를 구성합니다.
+ * <p>
+ * {@code cache.invalidation.transport} 로 버스를 고릅니다.
+ * <ul>
+ *     <li>{@code local} - 단일 노드 (기본값)</li>
+ *     <li>{@code multicast} - UDP 멀티캐스트</li>
+ *     <li>{@code jdbc} - 공유 데이터베이스의 invalidation_log 테이블</li>
+ * </ul>
+ * {@code cache.shared.enabled} 이면 같은 호스트의 프로세스들이 {@code cache.shared.path} 파일을
+ * 상품의 2차 캐시로 함께 씁니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    private static final String TRANSPORT = "cache.invalidation.transport";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.products.maximum-size:10000}") long productsSize,
+            @Value("${cache.products.ttl:10m}") Duration productsTtl,
+            @Value("${cache.tokens.maximum-size:10000}") long tokensSize,
+            @Value("${cache.tokens.ttl:10m}") Duration tokensTtl,
+            @Value("${cache.missing-products.maximum-size:100000}") long missingProductsSize,
+            @Value("${cache.missing-products.ttl:30s}") Duration missingProductsTtl
+    ) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                boundedCache(CacheNames.PRODUCTS, productsSize, productsTtl),
+                boundedCache(CacheNames.TOKENS, tokensSize, tokensTtl),
+                boundedCache(CacheNames.MISSING_PRODUCTS,
+                        missingProductsSize, missingProductsTtl)
+        ));
+        return cacheManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT, havingValue = "local",
+            matchIfMissing = true)
+    public InvalidationBus localInvalidationBus(CacheManager cacheManager) {
+        return subscribe(new LocalInvalidationBus(), cacheManager);
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(name = TRANSPORT, havingValue = "multicast")
+    public MulticastInvalidationBus multicastInvalidationBus(
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            @Value("${cache.invalidation.multicast.group:239.255.26.1}") String group,
+            @Value("${cache.invalidation.multicast.port:45626}") int port,
+            @Value("${cache.invalidation.multicast.interface:lo}") String interfaceName,
+            @Value("${cache.invalidation.multicast.ttl:1}") int timeToLive,
+            @Value("${cache.invalidation.flush-interval:50ms}") Duration flushInterval
+    ) throws IOException {
+        return subscribe(new MulticastInvalidationBus(group, port, interfaceName,
+                timeToLive, flushInterval, meterRegistry), cacheManager);
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(name = TRANSPORT, havingValue = "jdbc")
+    public JdbcInvalidationBus jdbcInvalidationBus(
+            CacheManager cacheManager,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${cache.invalidation.flush-interval:50ms}") Duration flushInterval,
+            @Value("${cache.invalidation.jdbc.poll-interval:200ms}") Duration pollInterval,
+            @Value("${cache.invalidation.jdbc.settle-window:5s}") Duration settleWindow,
+            @Value("${cache.invalidation.jdbc.retention:1h}") Duration retention,
+            @Value("${cache.invalidation.jdbc.poll-limit:1000}") int pollLimit
+    ) {
+        return subscribe(new JdbcInvalidationBus(dataSource, flushInterval,
+                pollInterval, settleWindow, retention, pollLimit,
+                meterRegistry), cacheManager);
+    }
+
+    /**
+     * 무효화 버스를 구독해 변경된 상품을 공유 캐시에서 지웁니다.
+     */
+    @Bean
+    public SharedProductCache sharedProductCache(
+            InvalidationBus invalidationBus,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${cache.shared.enabled:false}") boolean enabled,
+            @Value("${cache.shared.path:/dev/shm/codesoom-products.cache}") Path path,
+            @Value("${cache.shared.slots:65536}") int slots,
+            @Value("${cache.shared.slot-size:256}") int slotSize
+    ) throws IOException {
+        if (!enabled) {
+            return SharedProductCache.NONE;
+        }
+
+        MappedProductCache cache = new MappedProductCache(path, slots, slotSize,
+                meterRegistry.getObject());
+        invalidationBus.subscribe(cache);
+        return cache;
+    }
+
+    private ConcurrentMapCache boundedCache(String name,
+                                            long maximumSize,
+                                            Duration ttl) {
+        return new ConcurrentMapCache(name, CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build()
+                .asMap(), false);
+    }
+
+    private <T extends InvalidationBus> T subscribe(T bus,
+                                                    CacheManager cacheManager) {
+        bus.subscribe(new CacheInvalidator(cacheManager));
+        return bus;
+    }
+}
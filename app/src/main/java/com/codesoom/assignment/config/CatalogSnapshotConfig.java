@@ -0,0 +1,36 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.catalog.CatalogSnapshots;
+import com.codesoom.assignment.domain.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 상품 snapshot 파일을 구성합니다.
+ * <ul>
+ *     <li>{@code catalog.snapshot.enabled} - snapshot을 쓰고, 기동 직후와 데이터베이스 장애 중에 snapshot으로 조회 응답</li>
+ *     <li>{@code catalog.snapshot.directory} - snapshot 파일 디렉터리</li>
+ *     <li>{@code catalog.snapshot.interval} - snapshot을 새로 쓰는 주기</li>
+ *     <li>{@code catalog.snapshot.retry-interval} - snapshot으로 응답 중일 때 데이터베이스를 다시 시도하는 주기(ms)</li>
+ *     <li>{@code catalog.snapshot.retain} - 남겨 둘 snapshot 파일 수</li>
+ * </ul>
+ */
+@Configuration
+public class CatalogSnapshotConfig {
+    @Bean(initMethod = "start")
+    public CatalogSnapshots catalogSnapshots(
+            ProductRepository productRepository,
+            @Value("${catalog.snapshot.enabled:false}") boolean enabled,
+            @Value("${catalog.snapshot.directory:catalog}") Path directory,
+            @Value("${catalog.snapshot.interval:5m}") Duration interval,
+            @Value("${catalog.snapshot.retain:3}") int retain
+    ) {
+        return new CatalogSnapshots(productRepository, directory, interval,
+                retain, Clock.systemUTC(), enabled);
+    }
+}
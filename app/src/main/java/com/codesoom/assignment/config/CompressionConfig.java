@@ -0,0 +1,54 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.compression.CompressedBodyCache;
+import com.codesoom.assignment.compression.CompressionFilter;
+import com.codesoom.assignment.compression.ContentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 조회 응답을 압축합니다.
+ * <p>
+ * {@code compression.codecs}에 선호 순서대로 gzip, deflate를 나열하고,
+ * {@code compression.minimum-size}보다 작거나 {@code compression.mime-types}에 없는 응답은
+ * 압축하지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "compression.enabled", havingValue = "true",
+        matchIfMissing = true)
+public class CompressionConfig {
+    @Bean
+    public CompressedBodyCache compressedBodyCache(
+            @Value("${compression.cache.maximum-size:32MB}") DataSize maximumSize,
+            @Value("${compression.level:6}") int level
+    ) {
+        return new CompressedBodyCache(maximumSize.toBytes(), level);
+    }
+
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(
+            CompressedBodyCache compressedBodyCache,
+            @Value("${compression.codecs:gzip,deflate}") List<String> codecs,
+            @Value("${compression.minimum-size:1KB}") DataSize minimumSize,
+            @Value("${compression.mime-types:application/json}") List<String> mimeTypes
+    ) {
+        FilterRegistrationBean<CompressionFilter> registration =
+                new FilterRegistrationBean<>(new CompressionFilter(
+                        compressedBodyCache,
+                        codecs.stream()
+                                .map(ContentCodec::of)
+                                .collect(Collectors.toList()),
+                        (int) minimumSize.toBytes(),
+                        MediaType.parseMediaTypes(mimeTypes)));
+        registration.addUrlPatterns("/products", "/products/*");
+        return registration;
+    }
+}
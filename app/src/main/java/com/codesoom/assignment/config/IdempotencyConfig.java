@@ -0,0 +1,36 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.idempotency.IdempotencyFilter;
+import com.codesoom.assignment.idempotency.IdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 상품, 회원 생성 요청에 {@code Idempotency-Key}를 적용합니다.
+ */
+@Configuration
+public class IdempotencyConfig {
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.maximum-keys:100000}") long maximumKeys
+    ) {
+        return new IdempotencyStore(ttl, maximumKeys);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout
+    ) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(
+                        new IdempotencyFilter(idempotencyStore, waitTimeout));
+        registration.addUrlPatterns("/products", "/users");
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.memory.MemoryDatabase;
+import com.codesoom.assignment.memory.MemoryProductProjectionRepository;
+import com.codesoom.assignment.memory.MemoryProductRepository;
+import com.codesoom.assignment.memory.MemoryUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@code memory} 프로필에서 상품과 사용자를 JPA 대신 {@link MemoryDatabase}에 보관합니다.
+ * <p>
+ * outbox와 캐시 무효화는 그대로 JPA와 데이터베이스를 씁니다.
+ * <ul>
+ *     <li>{@code memory.directory} - write-ahead log와 snapshot을 둘 디렉터리</li>
+ *     <li>{@code memory.fsync-window} - 변경을 모아 한 번에 fsync 하는 시간</li>
+ *     <li>{@code memory.snapshot-interval} - snapshot 주기(ms)</li>
+ * </ul>
+ */
+@Configuration
+@Profile("memory")
+public class MemoryRepositoryConfig {
+    @Bean(destroyMethod = "close")
+    public MemoryDatabase memoryDatabase(
+            @Value("${memory.directory:memory}") Path directory,
+            @Value("${memory.fsync-window:2ms}") Duration fsyncWindow
+    ) throws IOException {
+        return new MemoryDatabase(directory, fsyncWindow);
+    }
+
+    @Bean
+    @Primary
+    public MemoryProductRepository memoryProductRepository(
+            MemoryDatabase memoryDatabase) {
+        return new MemoryProductRepository(memoryDatabase);
+    }
+
+    @Bean
+    @Primary
+    public MemoryUserRepository memoryUserRepository(
+            MemoryDatabase memoryDatabase) {
+        return new MemoryUserRepository(memoryDatabase);
+    }
+
+    @Bean
+    @Primary
+    public MemoryProductProjectionRepository memoryProductProjectionRepository(
+            MemoryDatabase memoryDatabase) {
+        return new MemoryProductProjectionRepository(memoryDatabase);
+    }
+}
@@ -0,0 +1,52 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.domain.OrderRepository;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.orders.OrderWriter;
+import com.codesoom.assignment.orders.StockLedger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 재고 장부와 주문 저장을 구성합니다.
+ * <ul>
+ *     <li>{@code order.stock.stripes} - 상품마다 재고를 나눠 두는 칸 수(2의 거듭제곱)</li>
+ *     <li>{@code order.stock.reload-interval} - 재고가 모자랄 때 저장소에서 다시 읽는 최소 간격</li>
+ *     <li>{@code order.writer.capacity} - 저장을 기다릴 수 있는 주문 수. 넘치면 503으로 거절</li>
+ *     <li>{@code order.writer.batch-size} - 한 트랜잭션으로 저장하는 최대 주문 수</li>
+ * </ul>
+ */
+@Configuration
+public class OrderConfig {
+    @Bean
+    public StockLedger stockLedger(
+            ProductRepository productRepository,
+            InvalidationBus invalidationBus,
+            @Value("${order.stock.stripes:16}") int stripes,
+            @Value("${order.stock.reload-interval:1s}") Duration reloadInterval
+    ) {
+        StockLedger stockLedger =
+                new StockLedger(productRepository, stripes, reloadInterval);
+        invalidationBus.subscribe(stockLedger);
+        return stockLedger;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public OrderWriter orderWriter(
+            OrderRepository orderRepository,
+            ProductRepository productRepository,
+            StockLedger stockLedger,
+            InvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.writer.capacity:10000}") int capacity,
+            @Value("${order.writer.batch-size:500}") int batchSize
+    ) {
+        return new OrderWriter(orderRepository, productRepository, stockLedger,
+                invalidationBus, transactionManager, capacity, batchSize);
+    }
+}
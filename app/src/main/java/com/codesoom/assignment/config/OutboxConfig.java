@@ -0,0 +1,60 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.domain.OutboxEventRepository;
+import com.codesoom.assignment.outbox.FileOutboxSink;
+import com.codesoom.assignment.outbox.InMemoryOutboxSink;
+import com.codesoom.assignment.outbox.OutboxRelay;
+import com.codesoom.assignment.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * outbox relay와 sink를 구성합니다.
+ * <p>
+ * {@code outbox.sink} 로 sink를 고릅니다.
+ * <ul>
+ *     <li>{@code memory} - 프로세스 안에 보관 (기본값)</li>
+ *     <li>{@code file} - {@code outbox.file.path} 파일 끝에 JSON lines로 추가</li>
+ * </ul>
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+    private static final String SINK = "outbox.sink";
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:100}") int batchSize
+    ) {
+        return new OutboxRelay(outboxEventRepository, outboxSink,
+                transactionManager, batchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SINK, havingValue = "memory",
+            matchIfMissing = true)
+    public InMemoryOutboxSink inMemoryOutboxSink(
+            @Value("${outbox.memory.capacity:10000}") int capacity) {
+        return new InMemoryOutboxSink(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SINK, havingValue = "file")
+    public FileOutboxSink fileOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${outbox.file.path:outbox/events.log}") Path path
+    ) throws IOException {
+        return new FileOutboxSink(path, objectMapper);
+    }
+}
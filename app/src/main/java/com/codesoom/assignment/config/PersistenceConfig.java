@@ -0,0 +1,87 @@
+package com.codesoom.assignment.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 운영 프로필의 커넥션 풀 설정과 풀 포화 지표를 구성합니다.
+ * <p>
+ * 각 Hikari 풀은 다음 지표를 내보냅니다.
+ * <ul>
+ *     <li>{@code hikaricp.connections.active}, {@code .idle}, {@code .pending}</li>
+ *     <li>{@code hikaricp.connections.acquire} - 커넥션을 얻기까지 기다린 시간</li>
+ *     <li>{@code persistence.pool.saturation} - 최대 크기 대비 사용 중인 커넥션 비율</li>
+ * </ul>
+ */
+@Configuration
+@Profile("production")
+@EnableConfigurationProperties(PersistencePoolProperties.class)
+public class PersistenceConfig {
+    @Bean
+    public static BeanPostProcessor hikariPoolTuner(
+            ObjectProvider<PersistencePoolProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean,
+                                                         String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    tune((HikariDataSource) bean, beanName,
+                            properties.getObject(),
+                            meterRegistry.getIfAvailable());
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void tune(HikariDataSource dataSource,
+                     String beanName,
+                     PersistencePoolProperties properties,
+                     MeterRegistry meterRegistry) {
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName(beanName);
+        }
+        dataSource.setMaximumPoolSize(properties.getMaximumSize());
+        dataSource.setMinimumIdle(properties.getMinimumIdle());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        dataSource.setIdleTimeout(properties.getIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(properties.getMaxLifetime().toMillis());
+        dataSource.setLeakDetectionThreshold(
+                properties.getLeakDetectionThreshold().toMillis());
+        properties.getDataSourceProperties()
+                .forEach(dataSource::addDataSourceProperty);
+
+        if (meterRegistry == null) {
+            return;
+        }
+
+        dataSource.setMetricsTrackerFactory(
+                new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        Gauge.builder("persistence.pool.saturation", dataSource,
+                PersistenceConfig::saturation)
+                .tag("pool", dataSource.getPoolName())
+                .description("Active connections / maximum pool size")
+                .register(meterRegistry);
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections()
+                / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,32 @@
+package com.codesoom.assignment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 운영 프로필의 커넥션 풀 설정입니다.
+ * primary, replica 등 애플리케이션의 모든 Hikari 풀에 적용됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("persistence.pool")
+public class PersistencePoolProperties {
+    private int maximumSize = 20;
+
+    private int minimumIdle = 20;
+
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Duration maxLifetime = Duration.ofMinutes(30);
+
+    private Duration leakDetectionThreshold = Duration.ZERO;
+
+    private Map<String, String> dataSourceProperties = new HashMap<>();
+}
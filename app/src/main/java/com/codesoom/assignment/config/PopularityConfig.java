@@ -0,0 +1,45 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.domain.ProductViewRepository;
+import com.codesoom.assignment.popularity.HeavyHitters;
+import com.codesoom.assignment.popularity.ProductAccessCounter;
+import com.codesoom.assignment.popularity.ProductViewFlusher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 인기 상품 집계를 구성합니다.
+ * <ul>
+ *     <li>{@code popularity.sketch.depth}, {@code popularity.sketch.width} - count-min sketch 크기</li>
+ *     <li>{@code popularity.top-size} - 유지할 인기 상품 수</li>
+ *     <li>{@code popularity.flush-interval} - 조회 횟수를 순위와 저장소에 반영하는 주기(ms)</li>
+ *     <li>{@code popularity.half-life} - 순위의 조회 횟수가 반으로 줄어드는 주기</li>
+ * </ul>
+ */
+@Configuration
+public class PopularityConfig {
+    @Bean
+    public HeavyHitters heavyHitters(
+            @Value("${popularity.sketch.depth:4}") int depth,
+            @Value("${popularity.sketch.width:65536}") int width,
+            @Value("${popularity.top-size:100}") int topSize
+    ) {
+        return new HeavyHitters(depth, width, topSize);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "flush")
+    public ProductViewFlusher productViewFlusher(
+            ProductAccessCounter productAccessCounter,
+            HeavyHitters heavyHitters,
+            ProductViewRepository productViewRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${popularity.half-life:1h}") Duration halfLife
+    ) {
+        return new ProductViewFlusher(productAccessCounter, heavyHitters,
+                productViewRepository, transactionManager, halfLife);
+    }
+}
@@ -0,0 +1,51 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.application.PriceChangeService;
+import com.codesoom.assignment.domain.ProductPriceRepository;
+import com.codesoom.assignment.domain.ScheduledPriceChangeRepository;
+import com.codesoom.assignment.pricing.PriceChangeScheduler;
+import com.codesoom.assignment.pricing.PriceHistoryRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 상품 가격 이력 기록과 가격 변경 예약을 구성합니다.
+ * <ul>
+ *     <li>{@code pricing.history.capacity} - 저장을 기다릴 수 있는 기록 수</li>
+ *     <li>{@code pricing.history.batch-size} - 한 번에 저장하는 기록 수</li>
+ *     <li>{@code pricing.history.flush-interval} - 모인 기록을 저장하는 주기(ms)</li>
+ *     <li>{@code pricing.schedule.tick} - 예약 적용 시각의 단위이자 때가 된 예약을 확인하는 주기(ms)</li>
+ *     <li>{@code pricing.schedule.batch-size} - 한 트랜잭션에서 적용하는 예약 수</li>
+ *     <li>{@code pricing.schedule.rescan-interval} - 때가 지난 예약을 저장소에서 찾는 주기(ms)</li>
+ * </ul>
+ */
+@Configuration
+public class PricingConfig {
+    @Bean(destroyMethod = "flush")
+    public PriceHistoryRecorder priceHistoryRecorder(
+            ProductPriceRepository productPriceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${pricing.history.capacity:100000}") int capacity,
+            @Value("${pricing.history.batch-size:500}") int batchSize
+    ) {
+        return new PriceHistoryRecorder(productPriceRepository,
+                Clock.systemDefaultZone(), capacity, batchSize, meterRegistry);
+    }
+
+    @Bean(initMethod = "start")
+    public PriceChangeScheduler priceChangeScheduler(
+            PriceChangeService priceChangeService,
+            ScheduledPriceChangeRepository scheduledPriceChangeRepository,
+            @Value("${pricing.schedule.tick:100}") long tickMillis,
+            @Value("${pricing.schedule.batch-size:1000}") int batchSize
+    ) {
+        return new PriceChangeScheduler(priceChangeService,
+                scheduledPriceChangeRepository, Clock.systemDefaultZone(),
+                Duration.ofMillis(tickMillis), batchSize);
+    }
+}
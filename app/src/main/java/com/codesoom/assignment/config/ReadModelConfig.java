@@ -0,0 +1,34 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.catalog.ProductReadModel;
+import com.codesoom.assignment.domain.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 상품 조회 전용 off-heap 모델을 구성합니다.
+ * <ul>
+ *     <li>{@code catalog.read-model.enabled} - 목록과 상세 조회를 이 모델에서 응답</li>
+ *     <li>{@code catalog.read-model.segment-size} - off-heap segment 하나의 크기</li>
+ *     <li>{@code catalog.read-model.refresh-interval} - 변경을 모아 새 버전을 발행하는 주기(ms)</li>
+ * </ul>
+ * 꺼져 있으면 모델은 비어 있고 컨트롤러는 {@code ProductService}에서 읽습니다.
+ */
+@Configuration
+public class ReadModelConfig {
+    @Bean
+    public ProductReadModel productReadModel(
+            ProductRepository productRepository,
+            InvalidationBus invalidationBus,
+            @Value("${catalog.read-model.enabled:false}") boolean enabled,
+            @Value("${catalog.read-model.segment-size:64MB}") DataSize segmentSize
+    ) {
+        ProductReadModel readModel = new ProductReadModel(productRepository,
+                enabled, (int) segmentSize.toBytes());
+        invalidationBus.subscribe(readModel);
+        return readModel;
+    }
+}
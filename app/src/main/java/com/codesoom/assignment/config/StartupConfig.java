@@ -0,0 +1,69 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.audit.AuditLogWriter;
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.catalog.CatalogSnapshots;
+import com.codesoom.assignment.catalog.ProductReadModel;
+import com.codesoom.assignment.execution.VirtualThreadPinningMonitor;
+import com.codesoom.assignment.memory.MemoryDatabase;
+import com.codesoom.assignment.orders.OrderWriter;
+import com.codesoom.assignment.outbox.OutboxRelay;
+import com.codesoom.assignment.popularity.ProductViewFlusher;
+import com.codesoom.assignment.pricing.PriceChangeScheduler;
+import com.codesoom.assignment.pricing.PriceHistoryRecorder;
+import com.codesoom.assignment.startup.ExitOnReady;
+import com.codesoom.assignment.startup.StartupTimeline;
+import com.codesoom.assignment.warmup.AccessSnapshotWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 시간 측정과 {@code faststart} 프로필의 지연 초기화를 구성합니다.
+ * <ul>
+ *     <li>{@code startup.timeline.enabled} - 빈별 생성 시간 보고</li>
+ *     <li>{@code startup.exit-on-ready} - 준비되면 바로 종료 (AppCDS 아카이브 생성용)</li>
+ * </ul>
+ */
+@Configuration
+public class StartupConfig {
+    @Bean
+    @ConditionalOnProperty(name = "startup.timeline.enabled", havingValue = "true")
+    public static StartupTimeline startupTimeline(
+            @Value("${startup.timeline.report-size:20}") int reportSize) {
+        return new StartupTimeline(reportSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "startup.exit-on-ready", havingValue = "true")
+    public ExitOnReady exitOnReady() {
+        return new ExitOnReady();
+    }
+
+    /**
+     * 지연 초기화를 켜도 바로 만들어져야 하는 빈입니다.
+     * 스케줄 등록, 필터 등록, 기록 스레드 시작, 다른 노드의 무효화 수신, 메모리 저장소 복구는 빈이 만들어질 때 시작되기 때문입니다.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                OutboxRelay.class,
+                AccessSnapshotWriter.class,
+                InvalidationBus.class,
+                FilterRegistrationBean.class,
+                VirtualThreadPinningMonitor.class,
+                ExitOnReady.class,
+                StartupTimeline.class,
+                MemoryDatabase.class,
+                ProductReadModel.class,
+                CatalogSnapshots.class,
+                AuditLogWriter.class,
+                PriceHistoryRecorder.class,
+                PriceChangeScheduler.class,
+                ProductViewFlusher.class,
+                OrderWriter.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.execution.VirtualThreadPinningMonitor;
+import com.codesoom.assignment.execution.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * {@code execution.virtual-threads.enabled=true} 이면 Tomcat 요청 처리를
+ * 가상 스레드에서 실행합니다.
+ * <p>
+ * 컨트롤러와 {@code @Transactional} 서비스 호출은 요청 스레드에서 실행되므로
+ * 함께 가상 스레드로 옮겨집니다. 이때 동시 처리량의 상한은 스레드 풀이 아니라
+ * 커넥션 풀이 되므로 {@code loom} 프로필의 풀 설정을 함께 사용합니다.
+ * 가상 스레드를 지원하지 않는 JDK에서는 기존 플랫폼 스레드 풀을 그대로 씁니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "execution.virtual-threads.enabled",
+        havingValue = "true")
+public class VirtualThreadConfig {
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        Optional<ExecutorService> executor =
+                VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+        if (executor.isEmpty()) {
+            log.info("Virtual threads are not supported by Java {}; " +
+                    "using platform request threads",
+                    System.getProperty("java.version"));
+            return protocolHandler -> {
+            };
+        }
+
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor.get());
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(
+            name = "execution.virtual-threads.pinning-monitor.enabled",
+            havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${execution.virtual-threads.pinning-monitor.threshold:20ms}")
+                    Duration threshold
+    ) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+}
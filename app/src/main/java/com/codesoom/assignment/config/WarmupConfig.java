@@ -0,0 +1,75 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.popularity.ProductAccessCounter;
+import com.codesoom.assignment.utils.JwtUtil;
+import com.codesoom.assignment.warmup.AccessSnapshotWriter;
+import com.codesoom.assignment.warmup.Warmup;
+import com.codesoom.assignment.warmup.WarmupRequestFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 상품 조회 횟수 집계와 기동 직후 warmup을 구성합니다.
+ * <ul>
+ *     <li>{@code warmup.snapshot.enabled} - 조회 횟수를 {@code warmup.snapshot.path}에 주기적으로 저장</li>
+ *     <li>{@code warmup.enabled} - readiness 전에 스냅샷의 상위 상품과 주요 요청 경로를 미리 실행</li>
+ * </ul>
+ */
+@Configuration
+public class WarmupConfig {
+    @Bean
+    public ProductAccessCounter productAccessCounter() {
+        return new ProductAccessCounter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "warmup.snapshot.enabled", havingValue = "true")
+    public AccessSnapshotWriter accessSnapshotWriter(
+            ProductAccessCounter productAccessCounter,
+            @Value("${warmup.snapshot.path:warmup/product-access.snapshot}") Path path
+    ) {
+        return new AccessSnapshotWriter(productAccessCounter, path);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+    public Warmup warmup(
+            ApplicationContext context,
+            ProductService productService,
+            JwtUtil jwtUtil,
+            @Value("${warmup.snapshot.path:warmup/product-access.snapshot}") Path snapshot,
+            @Value("${warmup.top-products:1000}") int topProducts,
+            @Value("${warmup.iterations:500}") int iterations,
+            @Value("${warmup.deadline:30s}") Duration deadline
+    ) {
+        return new Warmup(productService, jwtUtil, snapshot, topProducts,
+                iterations, deadline, () -> serverPort(context));
+    }
+
+    /**
+     * 예열 요청을 표시합니다. 토큰이 맞는 루프백 요청만 믿습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+    public FilterRegistrationBean<WarmupRequestFilter> warmupRequestFilter(
+            Warmup warmup) {
+        return new FilterRegistrationBean<>(
+                new WarmupRequestFilter(warmup.getToken()));
+    }
+
+    private static int serverPort(ApplicationContext context) {
+        if (!(context instanceof WebServerApplicationContext)) {
+            return -1;
+        }
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
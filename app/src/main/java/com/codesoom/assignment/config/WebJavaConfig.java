@@ -1,6 +1,7 @@
 package com.codesoom.assignment.config;
 
 import com.codesoom.assignment.interceptors.AuthenticationInterceptor;
+import com.codesoom.assignment.interceptors.ConcurrencyLimitInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -8,14 +9,20 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebJavaConfig implements WebMvcConfigurer {
 
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
     private AuthenticationInterceptor authenticationInterceptor;
 
-    public WebJavaConfig(AuthenticationInterceptor authenticationInterceptor) {
+    public WebJavaConfig(ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                         AuthenticationInterceptor authenticationInterceptor) {
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
         this.authenticationInterceptor = authenticationInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 인증보다 먼저 거절해야 과부하일 때 토큰 검증 비용도 아낄 수 있습니다.
+        registry.addInterceptor(concurrencyLimitInterceptor);
         registry.addInterceptor(authenticationInterceptor);
         WebMvcConfigurer.super.addInterceptors(registry);
     }
@@ -1,49 +1,104 @@
 package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.dto.ErrorResponse;
+import com.codesoom.assignment.errors.InvalidFieldsException;
 import com.codesoom.assignment.errors.InvalidTokenException;
 import com.codesoom.assignment.errors.LoginFailException;
+import com.codesoom.assignment.errors.OrderQueueFullException;
+import com.codesoom.assignment.errors.OutOfStockException;
 import com.codesoom.assignment.errors.ProductNotFoundException;
+import com.codesoom.assignment.errors.ProductPriceNotFoundException;
 import com.codesoom.assignment.errors.UserEmailDuplicationException;
 import com.codesoom.assignment.errors.UserNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * 도메인 예외를 응답으로 바꿉니다.
+ * <p>
+ * 에러 응답 본문은 바뀌지 않으므로 처음 한 번만 JSON으로 인코딩해 두고 매번 그대로 씁니다.
+ */
 @ResponseBody
 @ControllerAdvice
 public class ControllerErrorAdvice {
-    @ResponseStatus(HttpStatus.NOT_FOUND)
+    private static final ResponseEntity<byte[]> PRODUCT_NOT_FOUND =
+            error(HttpStatus.NOT_FOUND, "Product not found");
+
+    private static final ResponseEntity<byte[]> PRODUCT_PRICE_NOT_FOUND =
+            error(HttpStatus.NOT_FOUND, "Product price not found");
+
+    private static final ResponseEntity<byte[]> OUT_OF_STOCK =
+            error(HttpStatus.CONFLICT, "Out of stock");
+
+    private static final ResponseEntity<byte[]> ORDER_QUEUE_FULL =
+            error(HttpStatus.SERVICE_UNAVAILABLE, "Too many orders");
+
+    private static final ResponseEntity<byte[]> USER_NOT_FOUND =
+            error(HttpStatus.NOT_FOUND, "User not found");
+
+    private static final ResponseEntity<byte[]> USER_EMAIL_DUPLICATED =
+            error(HttpStatus.BAD_REQUEST, "User's email address is already existed");
+
+    private static final ResponseEntity<byte[]> INVALID_ACCESS_TOKEN =
+            error(HttpStatus.UNAUTHORIZED, "Invalid access token");
+
+    private static final ResponseEntity<byte[]> LOGIN_FAIL =
+            error(HttpStatus.BAD_REQUEST, "Log-in fail");
+
+    private static final ResponseEntity<byte[]> INVALID_FIELDS =
+            error(HttpStatus.BAD_REQUEST, "Invalid fields");
+
     @ExceptionHandler(ProductNotFoundException.class)
-    public ErrorResponse handleProductNotFound() {
-        return new ErrorResponse("Product not found");
+    public ResponseEntity<byte[]> handleProductNotFound() {
+        return PRODUCT_NOT_FOUND;
+    }
+
+    @ExceptionHandler(ProductPriceNotFoundException.class)
+    public ResponseEntity<byte[]> handleProductPriceNotFound() {
+        return PRODUCT_PRICE_NOT_FOUND;
+    }
+
+    @ExceptionHandler(OutOfStockException.class)
+    public ResponseEntity<byte[]> handleOutOfStock() {
+        return OUT_OF_STOCK;
+    }
+
+    @ExceptionHandler(OrderQueueFullException.class)
+    public ResponseEntity<byte[]> handleOrderQueueFull() {
+        return ORDER_QUEUE_FULL;
     }
 
-    @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(UserNotFoundException.class)
-    public ErrorResponse handleUserNotFound() {
-        return new ErrorResponse("User not found");
+    public ResponseEntity<byte[]> handleUserNotFound() {
+        return USER_NOT_FOUND;
     }
 
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(UserEmailDuplicationException.class)
-    public ErrorResponse handleUserEmailIsAlreadyExisted() {
-        return new ErrorResponse("User's email address is already existed");
+    public ResponseEntity<byte[]> handleUserEmailIsAlreadyExisted() {
+        return USER_EMAIL_DUPLICATED;
     }
 
-    @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(InvalidTokenException.class)
-    public ErrorResponse handleInvalidAccessTokenException() {
-        return new ErrorResponse("Invalid access token");
+    public ResponseEntity<byte[]> handleInvalidAccessTokenException() {
+        return INVALID_ACCESS_TOKEN;
     }
 
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(LoginFailException.class)
-    public ErrorResponse handleLoginFailException() {
-        return new ErrorResponse("Log-in fail");
+    public ResponseEntity<byte[]> handleLoginFailException() {
+        return LOGIN_FAIL;
+    }
+
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<byte[]> handleInvalidFieldsException() {
+        return INVALID_FIELDS;
     }
 
     @ExceptionHandler(MissingRequestHeaderException.class)
@@ -51,4 +106,16 @@ public class ControllerErrorAdvice {
     public void handleMissingRequestHeaderException() {
 
     }
+
+    private static ResponseEntity<byte[]> error(HttpStatus status, String message) {
+        try {
+            byte[] body = new ObjectMapper()
+                    .writeValueAsBytes(new ErrorResponse(message));
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
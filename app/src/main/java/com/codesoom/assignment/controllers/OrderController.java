@@ -0,0 +1,61 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.AuthenticationService;
+import com.codesoom.assignment.application.OrderService;
+import com.codesoom.assignment.domain.Order;
+import com.codesoom.assignment.dto.OrderData;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/orders")
+@CrossOrigin
+public class OrderController {
+    private final OrderService orderService;
+
+    private final AuthenticationService authenticationService;
+
+    public OrderController(OrderService orderService,
+                           AuthenticationService authenticationService) {
+        this.orderService = orderService;
+        this.authenticationService = authenticationService;
+    }
+
+    /**
+     * 로그인한 유저의 주문 목록을 리턴합니다.
+     */
+    @GetMapping
+    public List<Order> list(
+            @RequestHeader("Authorization") String authorization
+    ) {
+        Long userId = authenticationService.parseToken(
+                authorization.substring("Bearer ".length()));
+
+        return orderService.getOrders(userId);
+    }
+
+    /**
+     * 로그인한 유저의 주문을 받습니다. 주문이 커밋된 뒤에 응답합니다.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Order create(
+            @RequestHeader("Authorization") String authorization,
+            @RequestBody @Valid OrderData orderData
+    ) {
+        Long userId = authenticationService.parseToken(
+                authorization.substring("Bearer ".length()));
+
+        return orderService.placeOrder(userId, orderData);
+    }
+}
@@ -0,0 +1,33 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.popularity.HeavyHitters;
+import com.codesoom.assignment.popularity.PopularProduct;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/products/popular")
+@CrossOrigin
+public class PopularProductController {
+    private final HeavyHitters heavyHitters;
+
+    public PopularProductController(HeavyHitters heavyHitters) {
+        this.heavyHitters = heavyHitters;
+    }
+
+    /**
+     * 최근 조회가 많은 상품을 많은 순서로 최대 {@code limit}개 리턴합니다.
+     * 메모리에 발행된 목록에서 응답하므로 저장소에 닿지 않습니다.
+     */
+    @GetMapping
+    public List<PopularProduct> list(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return heavyHitters.top(limit);
+    }
+}
@@ -0,0 +1,47 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.AuthenticationService;
+import com.codesoom.assignment.application.PriceChangeService;
+import com.codesoom.assignment.domain.ScheduledPriceChange;
+import com.codesoom.assignment.dto.PriceChangeRequestData;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/price-changes")
+@CrossOrigin
+public class PriceChangeController {
+    private final PriceChangeService priceChangeService;
+
+    private final AuthenticationService authenticationService;
+
+    public PriceChangeController(PriceChangeService priceChangeService,
+                                 AuthenticationService authenticationService) {
+        this.priceChangeService = priceChangeService;
+        this.authenticationService = authenticationService;
+    }
+
+    /**
+     * 상품 가격 변경을 한꺼번에 예약합니다. 예약은 저장된 뒤 정해진 시각에 적용됩니다.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ScheduledPriceChange> create(
+            @RequestHeader("Authorization") String authorization,
+            @RequestBody @Valid PriceChangeRequestData requestData
+    ) {
+        authenticationService.parseToken(
+                authorization.substring("Bearer ".length()));
+
+        return priceChangeService.schedulePriceChanges(requestData.getChanges());
+    }
+}
@@ -2,23 +2,38 @@ package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.application.AuthenticationService;
 import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.audit.AuditLog;
+import com.codesoom.assignment.catalog.CatalogSnapshots;
+import com.codesoom.assignment.catalog.ProductReadModel;
+import com.codesoom.assignment.domain.ChangeType;
 import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductFields;
 import com.codesoom.assignment.dto.ProductData;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import com.codesoom.assignment.popularity.ProductAccessCounter;
+import com.codesoom.assignment.warmup.Warmup;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/products")
@@ -28,19 +43,91 @@ public class ProductController {
 
     private final AuthenticationService authenticationService;
 
-    public ProductController(ProductService productService, AuthenticationService authenticationService) {
+    private final ProductAccessCounter productAccessCounter;
+
+    private final ProductReadModel productReadModel;
+
+    private final CatalogSnapshots catalogSnapshots;
+
+    private final AuditLog auditLog;
+
+    public ProductController(ProductService productService,
+                             AuthenticationService authenticationService,
+                             ProductAccessCounter productAccessCounter,
+                             ProductReadModel productReadModel,
+                             CatalogSnapshots catalogSnapshots,
+                             AuditLog auditLog) {
         this.productService = productService;
         this.authenticationService = authenticationService;
+        this.productAccessCounter = productAccessCounter;
+        this.productReadModel = productReadModel;
+        this.catalogSnapshots = catalogSnapshots;
+        this.auditLog = auditLog;
     }
 
+    /**
+     * 조회 모델이 준비되어 있으면 그 모델에서 읽습니다.
+     * 아니면 기동 직후나 데이터베이스 장애 중에는 snapshot에서, 그 밖에는
+     * {@link ProductService}에서 읽습니다.
+     */
     @GetMapping
     public List<Product> list() {
-        return productService.getProducts();
+        if (productReadModel.isReady()) {
+            return productReadModel.findAll();
+        }
+        if (catalogSnapshots.isServing()) {
+            return catalogSnapshots.findAll();
+        }
+        return orFromSnapshot(productService::getProducts,
+                catalogSnapshots::findAll);
     }
 
+    /**
+     * {@code fields}에 쉼표로 나열한 속성만 담은 상품 목록을 리턴합니다.
+     */
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> list(@RequestParam String fields) {
+        return productService.getProducts(ProductFields.parse(fields));
+    }
+
+    /**
+     * 조회 모델과 snapshot에 없는 상품은 {@link ProductService}에서 읽습니다.
+     * 예열 요청은 조회 횟수에 세지 않습니다.
+     */
     @GetMapping("{id}")
-    public Product detail(@PathVariable Long id) {
-        return productService.getProduct(id);
+    public Product detail(
+            @PathVariable Long id,
+            @RequestAttribute(value = Warmup.ATTRIBUTE, required = false) Boolean warmup
+    ) {
+        Product product = productReadModel.findById(id)
+                .or(() -> catalogSnapshots.isServing()
+                        ? catalogSnapshots.findById(id)
+                        : Optional.empty())
+                .orElseGet(() -> orFromSnapshot(
+                        () -> productService.getProduct(id),
+                        () -> catalogSnapshots.findById(id)
+                                .orElseThrow(() -> new ProductNotFoundException(id))));
+        if (warmup == null) {
+            productAccessCounter.record(id);
+        }
+        return product;
+    }
+
+    /**
+     * {@code fields}에 쉼표로 나열한 속성만 담은 상품을 리턴합니다.
+     */
+    @GetMapping(value = "{id}", params = "fields")
+    public Map<String, Object> detail(
+            @PathVariable Long id,
+            @RequestParam String fields,
+            @RequestAttribute(value = Warmup.ATTRIBUTE, required = false) Boolean warmup
+    ) {
+        Map<String, Object> product =
+                productService.getProduct(id, ProductFields.parse(fields));
+        if (warmup == null) {
+            productAccessCounter.record(id);
+        }
+        return product;
     }
 
     @PostMapping
@@ -51,7 +138,9 @@ public class ProductController {
     ) {
         Long userId = parseToken(authorization);
 
-        return productService.createProduct(productData);
+        Product product = productService.createProduct(productData);
+        auditLog.productChanged(ChangeType.CREATED, product.getId(), userId);
+        return product;
     }
 
     @PatchMapping("{id}")
@@ -62,7 +151,9 @@ public class ProductController {
     ) {
         Long userId = parseToken(authorization);
 
-        return productService.updateProduct(id, productData);
+        Product product = productService.updateProduct(id, productData);
+        auditLog.productChanged(ChangeType.UPDATED, id, userId);
+        return product;
     }
 
     @DeleteMapping("{id}")
@@ -74,6 +165,22 @@ public class ProductController {
         Long userId = parseToken(authorization);
 
         productService.deleteProduct(id);
+        auditLog.productChanged(ChangeType.DELETED, id, userId);
+    }
+
+    /**
+     * 데이터베이스에 닿지 못하면 snapshot으로 응답하고, 이후 조회도 snapshot으로 돌립니다.
+     */
+    private <T> T orFromSnapshot(Supplier<T> fromService, Supplier<T> fromSnapshot) {
+        try {
+            return fromService.get();
+        } catch (DataAccessException | TransactionException e) {
+            if (!catalogSnapshots.isAvailable()) {
+                throw e;
+            }
+            catalogSnapshots.databaseUnavailable();
+            return fromSnapshot.get();
+        }
     }
 
     private Long parseToken(String token) {
@@ -0,0 +1,51 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.ProductPriceService;
+import com.codesoom.assignment.domain.ProductPrice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/products/{id}/prices")
+@CrossOrigin
+public class ProductPriceController {
+    private final ProductPriceService productPriceService;
+
+    public ProductPriceController(ProductPriceService productPriceService) {
+        this.productPriceService = productPriceService;
+    }
+
+    /**
+     * {@code at} 시점에 적용되던 가격을 리턴합니다.
+     */
+    @GetMapping(params = "at")
+    public ProductPrice priceAt(
+            @PathVariable Long id,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        return productPriceService.getPriceAt(id, at);
+    }
+
+    /**
+     * {@code from} 시점의 가격과 {@code to}까지의 변경을 오래된 순서로 리턴합니다.
+     */
+    @GetMapping(params = {"from", "to"})
+    public List<ProductPrice> prices(
+            @PathVariable Long id,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return productPriceService.getPrices(id, from, to);
+    }
+}
@@ -0,0 +1,6 @@
+package com.codesoom.assignment.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
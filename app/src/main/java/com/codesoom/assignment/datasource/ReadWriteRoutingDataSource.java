@@ -0,0 +1,38 @@
+package com.codesoom.assignment.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 그 외에는 primary로 보내는 DataSource입니다.
+ * <p>
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에 정해지므로
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로
+ * 감싸서 첫 구문을 실행할 때 커넥션을 고르도록 해야 합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primary,
+                DataSourceRole.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReplicaRoutingContext.isPrimaryForced()) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.REPLICA;
+        }
+
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,70 @@
+package com.codesoom.assignment.datasource;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 최근에 쓰기를 한 클라이언트의 읽기를 primary로 보내서
+ * replica 지연 때문에 자신이 쓴 내용을 못 보는 일이 없게 합니다.
+ * <p>
+ * 클라이언트는 Authorization 헤더로 구분하고, 없으면 원격 주소로 구분합니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final Set<String> SAFE_METHODS =
+            Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window, long maximumClients) {
+        this.recentWriters = CacheBuilder.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumClients)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = clientOf(request);
+
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                recentWriters.put(client, true);
+            }
+            return;
+        }
+
+        if (recentWriters.getIfPresent(client) == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingContext.forcePrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null) {
+            return authorization;
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,24 @@
+package com.codesoom.assignment.datasource;
+
+/**
+ * 현재 스레드의 읽기를 replica 대신 primary로 보내야 하는지 보관합니다.
+ */
+public final class ReplicaRoutingContext {
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED =
+            ThreadLocal.withInitial(() -> false);
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(true);
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get();
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+}
@@ -0,0 +1,7 @@
+package com.codesoom.assignment.domain;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,39 @@
+package com.codesoom.assignment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 유저가 상품을 {@code quantity}개 주문한 기록입니다. {@code price}는 주문할 때의 판매가입니다.
+ */
+@Entity
+@Table(name = "orders",
+        indexes = @Index(name = "idx_orders_user", columnList = "userId"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Order {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private Long productId;
+
+    private Long userId;
+
+    private Integer quantity;
+
+    private Integer price;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package com.codesoom.assignment.domain;
+
+import java.util.List;
+
+public interface OrderRepository {
+    <S extends Order> Iterable<S> saveAll(Iterable<S> orders);
+
+    /**
+     * 유저의 주문을 오래된 순서로 가져옵니다.
+     */
+    List<Order> findAllByUserIdOrderById(Long userId);
+}
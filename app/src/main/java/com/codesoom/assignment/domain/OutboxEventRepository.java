@@ -0,0 +1,20 @@
+package com.codesoom.assignment.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository {
+    OutboxEvent save(OutboxEvent outboxEvent);
+
+    /**
+     * 가장 오래된 이벤트부터 잠금을 걸고 가져옵니다.
+     * 여러 노드의 relay가 같은 이벤트를 동시에 전달하지 않도록 합니다.
+     */
+    List<OutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+    void deleteByIdIn(Collection<Long> ids);
+
+    long count();
+}
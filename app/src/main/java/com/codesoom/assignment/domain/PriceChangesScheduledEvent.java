@@ -0,0 +1,12 @@
+package com.codesoom.assignment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PriceChangesScheduledEvent {
+    private final List<ScheduledPriceChange> changes;
+}
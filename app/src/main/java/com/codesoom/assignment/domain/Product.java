@@ -13,6 +13,7 @@
 // 2. 제조사 - 냥이월드
 // 3. 가격 - 5,000원 (판매가)
 // 4. 이미지 - static, CDN => image URL
+// 5. 재고 - 주문할 수 있는 수량
 
 package com.codesoom.assignment.domain;
 
@@ -20,12 +21,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 
+/**
+ * 재고는 주문이 조건부로 바로 줄이므로, 상품을 고칠 때 읽어 둔 재고를 다시 쓰지 않도록
+ * 바뀐 column만 update 합니다.
+ */
 @Entity
+@DynamicUpdate
 @Getter
 @Builder
 @NoArgsConstructor
@@ -43,10 +50,23 @@ public class Product {
 
     private String imageUrl;
 
+    private Integer stock;
+
     public void changeWith(Product source) {
         this.name = source.name;
         this.maker = source.maker;
         this.price = source.price;
         this.imageUrl = source.imageUrl;
+        if (source.stock != null) {
+            this.stock = source.stock;
+        }
+    }
+
+    public void changePrice(Integer price) {
+        this.price = price;
+    }
+
+    public void changeStock(Integer stock) {
+        this.stock = stock;
     }
 }
@@ -0,0 +1,37 @@
+package com.codesoom.assignment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private final ChangeType type;
+
+    private final Product product;
+
+    /**
+     * 수정 전 가격입니다. 수정이 아니면 {@code null}입니다.
+     */
+    private final Integer previousPrice;
+
+    public ProductChangedEvent(ChangeType type, Product product) {
+        this(type, product, null);
+    }
+
+    /**
+     * 이 변경으로 가격이 정해지거나 바뀌었는지 여부입니다.
+     */
+    public boolean isPriceChanged() {
+        switch (type) {
+            case CREATED:
+                return product.getPrice() != null;
+            case UPDATED:
+                return !Objects.equals(previousPrice, product.getPrice());
+            default:
+                return false;
+        }
+    }
+}
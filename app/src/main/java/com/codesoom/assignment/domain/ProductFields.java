@@ -0,0 +1,64 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.errors.InvalidFieldsException;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 응답에 포함할 {@link Product} 속성의 집합입니다.
+ * <p>
+ * 속성은 항상 {@link #ALL} 순서로 정렬되므로 요청한 순서가 달라도 같은 집합은 같은 값입니다.
+ */
+@EqualsAndHashCode
+public class ProductFields {
+    public static final List<String> ALL =
+            List.of("id", "name", "maker", "price", "imageUrl", "stock");
+
+    private final List<String> names;
+
+    private ProductFields(List<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * 쉼표로 구분된 속성 이름을 해석합니다.
+     *
+     * @param fields 예) {@code id,name,price}
+     * @return 속성 집합
+     * @throws InvalidFieldsException 비어 있거나 Product에 없는 속성이 있을 때
+     */
+    public static ProductFields parse(String fields) {
+        Set<String> requested = fields == null
+                ? Set.of()
+                : Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+
+        if (requested.isEmpty() || !ALL.containsAll(requested)) {
+            throw new InvalidFieldsException(fields);
+        }
+
+        List<String> names = new ArrayList<>();
+        for (String name : ALL) {
+            if (requested.contains(name)) {
+                names.add(name);
+            }
+        }
+        return new ProductFields(List.copyOf(names));
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", names);
+    }
+}
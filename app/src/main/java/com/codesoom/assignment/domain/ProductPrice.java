@@ -0,0 +1,36 @@
+package com.codesoom.assignment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 가격이 {@code changedAt}부터 {@code price}가 되었다는 기록입니다.
+ * 추가만 하고 고치지 않습니다. 조회는 {@code (productId, changedAt)} 색인으로 합니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_product_price_product_changed",
+        columnList = "productId, changedAt"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPrice {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private Long productId;
+
+    private Integer price;
+
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,23 @@
+package com.codesoom.assignment.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductPriceRepository {
+    <S extends ProductPrice> Iterable<S> saveAll(Iterable<S> prices);
+
+    /**
+     * {@code at}까지 바뀐 가격을 최근 것부터 가져옵니다.
+     * 첫 번째가 {@code at} 시점에 적용되던 가격입니다.
+     */
+    List<ProductPrice> findLatest(Long productId, LocalDateTime at,
+                                  Pageable pageable);
+
+    /**
+     * {@code from} 다음부터 {@code to}까지 바뀐 가격을 오래된 것부터 가져옵니다.
+     */
+    List<ProductPrice> findChanges(Long productId, LocalDateTime from,
+                                   LocalDateTime to);
+}
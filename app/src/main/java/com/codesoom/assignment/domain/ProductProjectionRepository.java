@@ -0,0 +1,14 @@
+package com.codesoom.assignment.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품의 일부 속성만 조회합니다. 결과는 속성 이름과 값의 map이며 {@link ProductFields} 순서를 따릅니다.
+ */
+public interface ProductProjectionRepository {
+    List<Map<String, Object>> findAll(ProductFields fields);
+
+    Optional<Map<String, Object>> findById(Long id, ProductFields fields);
+}
@@ -1,6 +1,8 @@
 package com.codesoom.assignment.domain;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -8,7 +10,26 @@ public interface ProductRepository {
 
     Optional<Product> findById(Long id);
 
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
     Product save(Product product);
 
     void delete(Product product);
+
+    /**
+     * 상품 id별 새 가격을 한꺼번에 반영합니다. 없는 상품은 건너뜁니다.
+     * 영속성 컨텍스트를 거치지 않으므로 이미 읽어 둔 상품 객체에는 반영되지 않습니다.
+     *
+     * @return 가격을 바꾼 상품 수
+     */
+    int updatePrices(Map<Long, Integer> prices);
+
+    /**
+     * 재고가 {@code quantity} 이상일 때만 그만큼 줄입니다. 읽고 고쳐 쓰지 않고 한 문장으로 줄이므로
+     * 상품 행을 잠그는 시간은 이 문장 하나와 트랜잭션 커밋까지입니다.
+     * {@link #updatePrices(Map)}처럼 이미 읽어 둔 상품 객체에는 반영되지 않습니다.
+     *
+     * @return 줄였으면 1, 상품이 없거나 재고가 모자라면 0
+     */
+    int decreaseStock(Long id, int quantity);
 }
@@ -0,0 +1,28 @@
+package com.codesoom.assignment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 상품의 누적 조회 횟수입니다. 조회마다 쓰지 않고 주기적으로 모아서 더합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductView {
+    @Id
+    private Long productId;
+
+    private Long views;
+
+    public void addViews(long count) {
+        this.views += count;
+    }
+}
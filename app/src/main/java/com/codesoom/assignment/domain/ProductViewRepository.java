@@ -0,0 +1,18 @@
+package com.codesoom.assignment.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductViewRepository {
+    <S extends ProductView> Iterable<S> saveAll(Iterable<S> views);
+
+    /**
+     * 주어진 상품의 조회 횟수를 잠그고 가져옵니다.
+     * 여러 노드가 같은 상품의 횟수를 동시에 더해 하나가 사라지지 않도록 합니다.
+     */
+    List<ProductView> findAllByProductIdIn(Collection<Long> productIds);
+
+    List<ProductView> findAllByOrderByViewsDesc(Pageable pageable);
+}
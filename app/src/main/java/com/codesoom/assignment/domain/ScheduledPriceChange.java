@@ -0,0 +1,52 @@
+package com.codesoom.assignment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * {@code effectiveAt}에 상품 가격을 {@code price}로 바꾸라는 예약입니다.
+ * 적용되면 {@code appliedAt}이 채워지고, 그 뒤로는 다시 적용되지 않습니다.
+ * 같은 상품의 더 늦은 예약이 먼저 적용돼 가격을 바꾸지 않고 넘어간 예약은 {@code superseded}입니다.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_scheduled_price_change_pending",
+                columnList = "appliedAt, effectiveAt"),
+        @Index(name = "idx_scheduled_price_change_product",
+                columnList = "productId, effectiveAt")})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledPriceChange {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private Long productId;
+
+    private Integer price;
+
+    private LocalDateTime effectiveAt;
+
+    private LocalDateTime appliedAt;
+
+    private boolean superseded;
+
+    /**
+     * @return 적용 순서(예약 시각, 같으면 id)가 {@code other}보다 뒤이면 true
+     */
+    public boolean isAfter(ScheduledPriceChange other) {
+        int compared = effectiveAt.compareTo(other.effectiveAt);
+        return compared > 0 || (compared == 0 && id > other.id);
+    }
+}
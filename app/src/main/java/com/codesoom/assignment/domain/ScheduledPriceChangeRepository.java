@@ -0,0 +1,39 @@
+package com.codesoom.assignment.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduledPriceChangeRepository {
+    <S extends ScheduledPriceChange> Iterable<S> saveAll(Iterable<S> changes);
+
+    /**
+     * 적용되지 않은 예약을 id 순으로 {@code afterId} 다음부터 가져옵니다.
+     */
+    List<ScheduledPriceChange> findPending(Long afterId, Pageable pageable);
+
+    /**
+     * {@code at}까지 적용됐어야 하는데 아직 적용되지 않은 예약을 가져옵니다.
+     */
+    List<ScheduledPriceChange> findOverdue(LocalDateTime at, Pageable pageable);
+
+    /**
+     * 주어진 예약 중 아직 적용되지 않은 것을 잠그고 적용할 순서로 가져옵니다.
+     * 여러 노드가 같은 예약을 동시에 적용하지 않도록 합니다.
+     */
+    List<ScheduledPriceChange> findPendingByIdIn(Collection<Long> ids);
+
+    /**
+     * 상품마다 가격을 바꾼 예약 중 예약 시각이 가장 늦은 것을 가져옵니다.
+     */
+    List<ScheduledPriceChange> findLastApplied(Collection<Long> productIds);
+
+    int markApplied(Collection<Long> ids, LocalDateTime appliedAt);
+
+    /**
+     * 가격을 바꾸지 않고 밀려난 것으로 표시합니다. 다시 적용되지 않습니다.
+     */
+    int markSuperseded(Collection<Long> ids, LocalDateTime appliedAt);
+}
@@ -0,0 +1,26 @@
+package com.codesoom.assignment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceChangeData {
+    @NotNull
+    private Long productId;
+
+    @NotNull
+    private Integer price;
+
+    @NotNull
+    private LocalDateTime effectiveAt;
+}
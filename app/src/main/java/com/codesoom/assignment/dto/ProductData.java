@@ -9,6 +9,7 @@ import lombok.Setter;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
 
 @Setter
 @Getter
@@ -32,4 +33,8 @@ public class ProductData {
 
     @Mapping("imageUrl")
     private String imageUrl;
+
+    @PositiveOrZero
+    @Mapping("stock")
+    private Integer stock;
 }
@@ -0,0 +1,18 @@
+package com.codesoom.assignment.errors;
+
+/**
+ * 도메인 예외의 공통 부모입니다.
+ * <p>
+ * 없는 id나 잘못된 토큰을 찔러보는 요청이 많으면 스택 트레이스를 채우는 비용이 커집니다.
+ * {@code -Derrors.capture-stack-trace=false}로 실행하면 스택 트레이스를 남기지 않습니다.
+ * 이 예외들은 {@code ControllerErrorAdvice}에서 응답으로 바뀌므로 스택 트레이스가 없어도
+ * 원인을 찾는 데 지장이 없습니다.
+ */
+public abstract class DomainException extends RuntimeException {
+    static final boolean CAPTURE_STACK_TRACE = Boolean.parseBoolean(
+            System.getProperty("errors.capture-stack-trace", "true"));
+
+    protected DomainException(String message) {
+        super(message, null, false, CAPTURE_STACK_TRACE);
+    }
+}
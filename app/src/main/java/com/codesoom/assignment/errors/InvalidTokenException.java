@@ -1,6 +1,6 @@
 package com.codesoom.assignment.errors;
 
-public class InvalidTokenException extends RuntimeException {
+public class InvalidTokenException extends DomainException {
 
     public InvalidTokenException(String token) {
         super("Invalid token: " + token);
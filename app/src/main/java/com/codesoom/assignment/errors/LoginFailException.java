@@ -1,6 +1,6 @@
 package com.codesoom.assignment.errors;
 
-public class LoginFailException extends RuntimeException {
+public class LoginFailException extends DomainException {
     public LoginFailException(String email) {
         super("Login fail - email : " + email);
     }
@@ -0,0 +1,7 @@
+package com.codesoom.assignment.errors;
+
+public class OrderQueueFullException extends DomainException {
+    public OrderQueueFullException() {
+        super("Too many orders waiting to be written");
+    }
+}
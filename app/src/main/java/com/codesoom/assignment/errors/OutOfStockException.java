@@ -0,0 +1,7 @@
+package com.codesoom.assignment.errors;
+
+public class OutOfStockException extends DomainException {
+    public OutOfStockException(Long productId) {
+        super("Out of stock: " + productId);
+    }
+}
@@ -1,6 +1,6 @@
 package com.codesoom.assignment.errors;
 
-public class ProductNotFoundException extends RuntimeException {
+public class ProductNotFoundException extends DomainException {
     public ProductNotFoundException(Long id) {
         super("Product not found: " + id);
     }
@@ -0,0 +1,7 @@
+package com.codesoom.assignment.errors;
+
+public class ProductPriceNotFoundException extends DomainException {
+    public ProductPriceNotFoundException(Long productId) {
+        super("Product price not found: " + productId);
+    }
+}
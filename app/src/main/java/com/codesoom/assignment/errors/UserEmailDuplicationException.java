@@ -1,6 +1,6 @@
 package com.codesoom.assignment.errors;
 
-public class UserEmailDuplicationException extends RuntimeException {
+public class UserEmailDuplicationException extends DomainException {
     public UserEmailDuplicationException(String email) {
         super("User email is alreay existed: " + email);
     }
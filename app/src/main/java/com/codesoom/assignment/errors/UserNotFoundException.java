@@ -1,6 +1,6 @@
 package com.codesoom.assignment.errors;
 
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends DomainException {
 
     public UserNotFoundException(Long id) {
         super("User not found: " + id);
@@ -0,0 +1,53 @@
+package com.codesoom.assignment.execution;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실행 중인 JDK가 가상 스레드를 지원하면 가상 스레드 executor를 만듭니다.
+ * <p>
+ * JDK 21 API를 리플렉션으로 찾기 때문에 이전 JDK에서도 컴파일되고 실행됩니다.
+ */
+public final class VirtualThreads {
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+            findFactory();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 executor를 리턴합니다.
+     *
+     * @return 지원하지 않는 JDK라면 empty
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of((ExecutorService)
+                    NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke());
+        } catch (Throwable e) {
+            return Optional.empty();
+        }
+    }
+
+    private static MethodHandle findFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
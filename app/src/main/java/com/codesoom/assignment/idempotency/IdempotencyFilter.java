@@ -0,0 +1,218 @@
+package com.codesoom.assignment.idempotency;
+
+import com.google.common.hash.Hashing;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@code Idempotency-Key} 헤더가 있는 POST 요청을 한 번만 처리합니다.
+ * <p>
+ * 같은 키(와 같은 경로, 같은 Authorization)로 다시 들어온 요청에는 저장된 응답을 돌려주고,
+ * 처리 중인 요청이 있으면 끝날 때까지 기다립니다.
+ * 같은 키로 다른 본문을 보내면 422로 거절합니다. 2xx 응답만 저장합니다.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore store;
+
+    private final Duration waitTimeout;
+
+    public IdempotencyFilter(IdempotencyStore store, Duration waitTimeout) {
+        this.store = store;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        String key = keyOf(request);
+        String requestHash = Hashing.sha256().hashBytes(body).toString();
+
+        while (true) {
+            IdempotencyStore.Entry entry = store.begin(key, requestHash);
+
+            if (!entry.getRequestHash().equals(requestHash)) {
+                response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        "Idempotency-Key was used with a different request");
+                return;
+            }
+
+            if (entry.isOwner()) {
+                proceed(new CachedBodyRequest(request, body), response,
+                        filterChain, key, entry);
+                return;
+            }
+
+            StoredResponse stored = await(entry, response);
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            if (response.isCommitted()) {
+                return;
+            }
+        }
+    }
+
+    private void proceed(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         String key,
+                         IdempotencyStore.Entry entry)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper =
+                new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            if (HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+                store.complete(entry, new StoredResponse(
+                        wrapper.getStatus(),
+                        wrapper.getContentType(),
+                        wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.abandon(key, entry);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 처리 중인 요청을 기다립니다. 원래 요청이 저장하지 않을 결과로 끝났으면 null을 돌려주고,
+     * 제한 시간 안에 끝나지 않으면 409를 보내고 null을 돌려줍니다.
+     */
+    private StoredResponse await(IdempotencyStore.Entry entry,
+                                 HttpServletResponse response)
+            throws IOException {
+        try {
+            return entry.getResponse()
+                    .get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            response.sendError(HttpStatus.CONFLICT.value(),
+                    "Request with the same Idempotency-Key is in progress");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private String keyOf(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        return request.getMethod() + " " + request.getRequestURI() + "\n"
+                + (authorization == null ? "" : authorization) + "\n"
+                + request.getHeader(HEADER);
+    }
+
+    /**
+     * 해시를 계산하려고 미리 읽은 본문을 다시 읽을 수 있게 합니다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 모두 읽어 두었으므로 기다리지 않고 바로 알립니다.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null
+                            ? StandardCharsets.UTF_8
+                            : Charset.forName(encoding)));
+        }
+    }
+}
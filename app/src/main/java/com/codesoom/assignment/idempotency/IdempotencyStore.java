@@ -0,0 +1,84 @@
+package com.codesoom.assignment.idempotency;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Idempotency-Key 별로 요청 해시와 응답을 보관합니다.
+ * <p>
+ * 최대 {@code maximumKeys}개를 {@code ttl} 동안 보관하며,
+ * 처리 중인 요청도 같은 자리에 등록되어 중복 요청이 그 결과를 기다릴 수 있습니다.
+ */
+public class IdempotencyStore {
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(Duration ttl, long maximumKeys) {
+        this.entries = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumKeys)
+                .build();
+    }
+
+    /**
+     * 키를 선점합니다. 이미 등록된 요청이 있으면 그 항목을, 없으면 새로 등록한 항목을 돌려줍니다.
+     *
+     * @param key 요청을 구분하는 키
+     * @param requestHash 요청 본문의 해시
+     * @return 등록된 항목. 새로 등록했다면 {@link Entry#isOwner()}가 참입니다.
+     */
+    public Entry begin(String key, String requestHash) {
+        Entry entry = new Entry(requestHash, true);
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing == null) {
+            return entry;
+        }
+        return existing.asWaiter();
+    }
+
+    /**
+     * 성공한 응답을 저장하고 기다리는 요청들에게 전달합니다.
+     */
+    public void complete(Entry entry, StoredResponse response) {
+        entry.response.complete(response);
+    }
+
+    /**
+     * 저장하지 않을 결과였다면 키를 비워서 다음 재시도가 다시 처리되게 합니다.
+     */
+    public void abandon(String key, Entry entry) {
+        entries.asMap().remove(key, entry);
+        entry.response.complete(null);
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    @Getter
+    public static class Entry {
+        private final String requestHash;
+
+        private final boolean owner;
+
+        private final CompletableFuture<StoredResponse> response;
+
+        private Entry(String requestHash, boolean owner) {
+            this(requestHash, owner, new CompletableFuture<>());
+        }
+
+        private Entry(String requestHash, boolean owner,
+                      CompletableFuture<StoredResponse> response) {
+            this.requestHash = requestHash;
+            this.owner = owner;
+            this.response = response;
+        }
+
+        private Entry asWaiter() {
+            return new Entry(requestHash, false, response);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.codesoom.assignment.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재시도 요청에 그대로 돌려줄 원래 응답입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+    private final int status;
+
+    private final String contentType;
+
+    private final byte[] body;
+}
@@ -0,0 +1,14 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.Order;
+import com.codesoom.assignment.domain.OrderRepository;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+
+public interface JpaOrderRepository
+        extends OrderRepository, CrudRepository<Order, Long> {
+    <S extends Order> Iterable<S> saveAll(Iterable<S> orders);
+
+    List<Order> findAllByUserIdOrderById(Long userId);
+}
@@ -0,0 +1,28 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.codesoom.assignment.domain.OutboxEventRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaOutboxEventRepository
+        extends OutboxEventRepository, CrudRepository<OutboxEvent, Long> {
+    OutboxEvent save(OutboxEvent outboxEvent);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    void deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    long count();
+}
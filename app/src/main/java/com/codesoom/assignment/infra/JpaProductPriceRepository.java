@@ -0,0 +1,31 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.ProductPrice;
+import com.codesoom.assignment.domain.ProductPriceRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaProductPriceRepository
+        extends ProductPriceRepository, CrudRepository<ProductPrice, Long> {
+    <S extends ProductPrice> Iterable<S> saveAll(Iterable<S> prices);
+
+    @Query("SELECT p FROM ProductPrice p" +
+            " WHERE p.productId = :productId AND p.changedAt <= :at" +
+            " ORDER BY p.changedAt DESC, p.id DESC")
+    List<ProductPrice> findLatest(@Param("productId") Long productId,
+                                  @Param("at") LocalDateTime at,
+                                  Pageable pageable);
+
+    @Query("SELECT p FROM ProductPrice p" +
+            " WHERE p.productId = :productId" +
+            " AND p.changedAt > :from AND p.changedAt <= :to" +
+            " ORDER BY p.changedAt ASC, p.id ASC")
+    List<ProductPrice> findChanges(@Param("productId") Long productId,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,72 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.ProductFields;
+import com.codesoom.assignment.domain.ProductProjectionRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 요청한 속성만 select 하는 JPQL로 상품을 조회합니다.
+ * <p>
+ * 속성 집합마다 JPQL 문자열을 한 번만 만들어 둡니다.
+ * 같은 문자열이 쓰이므로 Hibernate의 query plan cache에서도 한 번만 해석됩니다.
+ * 속성 집합은 최대 2^6 - 1 가지라서 따로 크기를 제한하지 않습니다.
+ */
+@Repository
+public class JpaProductProjectionRepository implements ProductProjectionRepository {
+    private final EntityManager entityManager;
+
+    private final Map<ProductFields, String> listQueries = new ConcurrentHashMap<>();
+
+    private final Map<ProductFields, String> detailQueries = new ConcurrentHashMap<>();
+
+    public JpaProductProjectionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Map<String, Object>> findAll(ProductFields fields) {
+        String query = listQueries.computeIfAbsent(fields, this::selectOf);
+
+        return entityManager.createQuery(query, Tuple.class)
+                .getResultList()
+                .stream()
+                .map(this::toMap)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findById(Long id, ProductFields fields) {
+        String query = detailQueries.computeIfAbsent(fields,
+                key -> selectOf(key) + " WHERE p.id = :id");
+
+        return entityManager.createQuery(query, Tuple.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(this::toMap);
+    }
+
+    private String selectOf(ProductFields fields) {
+        return fields.getNames().stream()
+                .map(name -> "p." + name + " AS " + name)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Product p"));
+    }
+
+    private Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> product = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            product.put(element.getAlias(), tuple.get(element));
+        }
+        return product;
+    }
+}
@@ -2,18 +2,33 @@ package com.codesoom.assignment.infra;
 
 import com.codesoom.assignment.domain.Product;
 import com.codesoom.assignment.domain.ProductRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface JpaProductRepository
-        extends ProductRepository, CrudRepository<Product, Long> {
+        extends ProductRepository, ProductPriceUpdates,
+        CrudRepository<Product, Long> {
     List<Product> findAll();
 
     Optional<Product> findById(Long id);
 
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
     Product save(Product product);
 
     void delete(Product product);
+
+    int updatePrices(Map<Long, Integer> prices);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity" +
+            " WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
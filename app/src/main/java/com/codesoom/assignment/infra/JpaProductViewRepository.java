@@ -0,0 +1,21 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.ProductView;
+import com.codesoom.assignment.domain.ProductViewRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.CrudRepository;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaProductViewRepository
+        extends ProductViewRepository, CrudRepository<ProductView, Long> {
+    <S extends ProductView> Iterable<S> saveAll(Iterable<S> views);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ProductView> findAllByProductIdIn(Collection<Long> productIds);
+
+    List<ProductView> findAllByOrderByViewsDesc(Pageable pageable);
+}
@@ -0,0 +1,60 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.ScheduledPriceChange;
+import com.codesoom.assignment.domain.ScheduledPriceChangeRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaScheduledPriceChangeRepository
+        extends ScheduledPriceChangeRepository,
+        CrudRepository<ScheduledPriceChange, Long> {
+    <S extends ScheduledPriceChange> Iterable<S> saveAll(Iterable<S> changes);
+
+    @Query("SELECT c FROM ScheduledPriceChange c" +
+            " WHERE c.appliedAt IS NULL AND c.id > :afterId ORDER BY c.id")
+    List<ScheduledPriceChange> findPending(@Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    @Query("SELECT c FROM ScheduledPriceChange c" +
+            " WHERE c.appliedAt IS NULL AND c.effectiveAt <= :at" +
+            " ORDER BY c.effectiveAt, c.id")
+    List<ScheduledPriceChange> findOverdue(@Param("at") LocalDateTime at,
+                                           Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ScheduledPriceChange c" +
+            " WHERE c.appliedAt IS NULL AND c.id IN :ids" +
+            " ORDER BY c.effectiveAt, c.id")
+    List<ScheduledPriceChange> findPendingByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c FROM ScheduledPriceChange c" +
+            " WHERE c.productId IN :productIds" +
+            " AND c.appliedAt IS NOT NULL AND c.superseded = false" +
+            " AND c.effectiveAt = (SELECT MAX(l.effectiveAt) FROM ScheduledPriceChange l" +
+            " WHERE l.productId = c.productId" +
+            " AND l.appliedAt IS NOT NULL AND l.superseded = false)")
+    List<ScheduledPriceChange> findLastApplied(
+            @Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("UPDATE ScheduledPriceChange c SET c.appliedAt = :appliedAt" +
+            " WHERE c.id IN :ids AND c.appliedAt IS NULL")
+    int markApplied(@Param("ids") Collection<Long> ids,
+                    @Param("appliedAt") LocalDateTime appliedAt);
+
+    @Modifying
+    @Query("UPDATE ScheduledPriceChange c" +
+            " SET c.appliedAt = :appliedAt, c.superseded = true" +
+            " WHERE c.id IN :ids AND c.appliedAt IS NULL")
+    int markSuperseded(@Param("ids") Collection<Long> ids,
+                       @Param("appliedAt") LocalDateTime appliedAt);
+}
@@ -0,0 +1,10 @@
+package com.codesoom.assignment.infra;
+
+import java.util.Map;
+
+/**
+ * {@link JpaProductRepository}에 붙는 가격 일괄 변경입니다.
+ */
+public interface ProductPriceUpdates {
+    int updatePrices(Map<Long, Integer> prices);
+}
@@ -0,0 +1,43 @@
+package com.codesoom.assignment.infra;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 같은 가격으로 바뀌는 상품을 묶어 {@code UPDATE ... WHERE id IN (...)} 하나로 바꿉니다.
+ * 할인 행사처럼 많은 상품이 몇 가지 가격으로 바뀌면 문장 수가 가격 수만큼으로 줄어듭니다.
+ * 끝나면 영속성 컨텍스트를 비워 읽어 둔 상품이 옛 가격으로 남지 않게 합니다.
+ */
+public class ProductPriceUpdatesImpl implements ProductPriceUpdates {
+    private static final int MAXIMUM_IDS = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updatePrices(Map<Long, Integer> prices) {
+        Map<Integer, List<Long>> idsByPrice = new TreeMap<>();
+        prices.forEach((id, price) ->
+                idsByPrice.computeIfAbsent(price, key -> new ArrayList<>()).add(id));
+
+        int updated = 0;
+        for (Map.Entry<Integer, List<Long>> entry : idsByPrice.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += MAXIMUM_IDS) {
+                updated += entityManager.createQuery(
+                                "UPDATE Product p SET p.price = :price" +
+                                        " WHERE p.id IN :ids")
+                        .setParameter("price", entry.getKey())
+                        .setParameter("ids", ids.subList(from,
+                                Math.min(from + MAXIMUM_IDS, ids.size())))
+                        .executeUpdate();
+            }
+        }
+        entityManager.clear();
+        return updated;
+    }
+}
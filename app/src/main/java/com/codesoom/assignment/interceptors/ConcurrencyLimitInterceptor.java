@@ -0,0 +1,107 @@
+package com.codesoom.assignment.interceptors;
+
+import com.codesoom.assignment.limits.AimdLimit;
+import com.codesoom.assignment.limits.RouteClass;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 요청 분류별 동시 처리 한도를 넘는 요청을 바로 503으로 거절합니다.
+ * <p>
+ * 한도는 {@link AimdLimit}로 분류마다 따로 조정됩니다.
+ * 우선순위가 높은 분류가 한도의 {@code yieldRatio} 이상을 쓰고 있으면
+ * 낮은 분류의 요청은 자기 한도에 여유가 있어도 거절해서 상품 조회가 자리를 잃지 않게 합니다.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String ACQUIRED =
+            ConcurrencyLimitInterceptor.class.getName() + ".ACQUIRED";
+
+    private static final String STARTED_AT =
+            ConcurrencyLimitInterceptor.class.getName() + ".STARTED_AT";
+
+    private final Map<RouteClass, AimdLimit> limits = new EnumMap<>(RouteClass.class);
+
+    private final double yieldRatio;
+
+    private final String retryAfter;
+
+    public ConcurrencyLimitInterceptor(
+            @Value("${limits.initial:20}") int initialLimit,
+            @Value("${limits.minimum:2}") int minimumLimit,
+            @Value("${limits.maximum:200}") int maximumLimit,
+            @Value("${limits.latency-threshold:250ms}") Duration latencyThreshold,
+            @Value("${limits.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${limits.yield-ratio:0.8}") double yieldRatio,
+            @Value("${limits.retry-after:1s}") Duration retryAfter
+    ) {
+        for (RouteClass routeClass : RouteClass.values()) {
+            limits.put(routeClass, new AimdLimit(initialLimit, minimumLimit,
+                    maximumLimit, latencyThreshold, backoffRatio));
+        }
+        this.yieldRatio = yieldRatio;
+        this.retryAfter = String.valueOf(Math.max(1, retryAfter.getSeconds()));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) {
+        RouteClass routeClass =
+                RouteClass.of(request.getMethod(), request.getRequestURI());
+        if (routeClass == null) {
+            return true;
+        }
+
+        if (higherPriorityIsBusy(routeClass)
+                || !limits.get(routeClass).tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            return false;
+        }
+
+        request.setAttribute(ACQUIRED, routeClass);
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Object handler,
+                                Exception ex) {
+        RouteClass routeClass = (RouteClass) request.getAttribute(ACQUIRED);
+        if (routeClass == null) {
+            return;
+        }
+
+        request.removeAttribute(ACQUIRED);
+        long startedAt = (long) request.getAttribute(STARTED_AT);
+        limits.get(routeClass).release(System.nanoTime() - startedAt);
+    }
+
+    public AimdLimit getLimit(RouteClass routeClass) {
+        return limits.get(routeClass);
+    }
+
+    private boolean higherPriorityIsBusy(RouteClass routeClass) {
+        for (RouteClass other : RouteClass.values()) {
+            if (other == routeClass) {
+                return false;
+            }
+            if (limits.get(other).isBusy(yieldRatio)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
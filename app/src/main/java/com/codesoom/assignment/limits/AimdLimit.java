@@ -0,0 +1,84 @@
+package com.codesoom.assignment.limits;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 측정한 지연 시간으로 조정되는 동시 처리 한도입니다.
+ * <p>
+ * 요청이 {@code latencyThreshold} 안에 끝나면 한도를 조금씩(한도당 1) 늘리고,
+ * 넘기면 {@code backoffRatio}를 곱해 한 번에 줄입니다 (AIMD).
+ */
+public class AimdLimit {
+    private final int minimumLimit;
+
+    private final int maximumLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    public AimdLimit(int initialLimit,
+                     int minimumLimit,
+                     int maximumLimit,
+                     Duration latencyThreshold,
+                     double backoffRatio) {
+        this.limit = initialLimit;
+        this.minimumLimit = minimumLimit;
+        this.maximumLimit = maximumLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * 한도 안이면 자리를 차지하고 참을 돌려줍니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반납하면서 측정한 지연 시간으로 한도를 조정합니다.
+     */
+    public void release(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+
+        synchronized (this) {
+            if (latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minimumLimit, limit * backoffRatio);
+                return;
+            }
+            // 한도 근처까지 쓰고 있을 때만 늘립니다. 한가할 때 한도가 무한정 커지지 않게 합니다.
+            if (current * 2 >= limit) {
+                limit = Math.min(maximumLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 한도의 {@code ratio} 이상을 쓰고 있으면 참입니다.
+     */
+    public boolean isBusy(double ratio) {
+        return inFlight.get() >= getLimit() * ratio;
+    }
+}
@@ -0,0 +1,62 @@
+package com.codesoom.assignment.limits;
+
+/**
+ * 동시 처리 한도를 따로 관리하는 요청 분류입니다. 선언 순서가 우선순위입니다.
+ */
+public enum RouteClass {
+    /**
+     * GET /products, GET /products/{id}
+     */
+    CATALOG_READ,
+
+    /**
+     * POST /session
+     */
+    LOGIN,
+
+    /**
+     * 그 밖의 조회(인기 상품, 가격 이력, 회원, 주문)
+     */
+    READ,
+
+    /**
+     * 상품, 회원, 가격 변경 예약, 주문의 생성, 수정, 삭제
+     */
+    WRITE;
+
+    public static RouteClass of(String method, String path) {
+        if (method.equals("GET") || method.equals("HEAD")) {
+            if (isCatalog(path)) {
+                return CATALOG_READ;
+            }
+            return isLimited(path) ? READ : null;
+        }
+
+        if (path.equals("/session")) {
+            return LOGIN;
+        }
+
+        return isLimited(path) ? WRITE : null;
+    }
+
+    private static boolean isCatalog(String path) {
+        if (path.equals("/products")) {
+            return true;
+        }
+        if (!path.startsWith("/products/")) {
+            return false;
+        }
+
+        String rest = path.substring("/products/".length());
+        return !rest.isEmpty() && rest.indexOf('/') < 0 && !rest.equals("popular");
+    }
+
+    private static boolean isLimited(String path) {
+        return under(path, "/products") || under(path, "/users")
+                || under(path, "/orders") || under(path, "/price-changes");
+    }
+
+    private static boolean under(String path, String prefix) {
+        return path.equals(prefix) || path.startsWith(prefix + "/");
+    }
+}
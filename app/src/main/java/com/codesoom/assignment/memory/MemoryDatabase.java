@@ -0,0 +1,390 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.User;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 상품과 사용자를 메모리에 두고 변경을 write-ahead log로 보존합니다.
+ * <p>
+ * 조회는 {@link ConcurrentHashMap}에서 잠금 없이 복사본을 돌려줍니다.
+ * 변경은 잠금 안에서 로그에 쓰고 map에 반영한 뒤, 잠금 밖에서 fsync를 기다립니다.
+ * 같은 batch window에 들어온 변경은 한 번의 fsync로 함께 내려갑니다.
+ * <p>
+ * 주기적으로 전체 상태를 {@code snapshot.json}에 쓰고 로그를 비웁니다.
+ * 기동할 때는 snapshot을 읽고 그 뒤의 로그를 다시 적용합니다.
+ * id는 JPA의 {@code hibernate_sequence}처럼 상품과 사용자가 한 순번을 같이 씁니다.
+ */
+public class MemoryDatabase implements Closeable {
+    static final String LOG_FILE = "memory.wal";
+
+    static final String SNAPSHOT_FILE = "snapshot.json";
+
+    private final Map<Long, Product> products = new ConcurrentHashMap<>();
+
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> userIdsByEmail = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 상품을 읽고 고쳐 쓰는 동안 잡습니다. 가격, 재고 변경이 서로의 값을 덮어쓰지 않게 합니다.
+     * 로그에 붙일 때까지만 잡고 fsync는 놓은 뒤 기다립니다.
+     */
+    private final Object productLock = new Object();
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Path directory;
+
+    private final WriteAheadLog log;
+
+    public MemoryDatabase(Path directory, Duration batchWindow) throws IOException {
+        this.directory = Files.createDirectories(directory);
+
+        loadSnapshot();
+
+        this.log = new WriteAheadLog(directory.resolve(LOG_FILE), batchWindow);
+        log.replay(payload -> apply(read(payload, MemoryRecord.class)));
+        log.start();
+    }
+
+    public List<Product> findProducts() {
+        return products.values().stream()
+                .map(ReadCopy::new)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<Product> findProduct(Long id) {
+        return Optional.ofNullable(products.get(id))
+                .map(ReadCopy::new);
+    }
+
+    /**
+     * 이미 있는 상품은 재고를 주지 않았거나 읽어 간 값 그대로면 저장된 재고를 둡니다.
+     * 읽어 간 뒤에 주문으로 줄어든 재고를 읽어 간 값으로 되돌리지 않고,
+     * 재고를 새로 준 변경(입고)은 그대로 씁니다. JPA의 {@code @DynamicUpdate}와 같습니다.
+     */
+    public Product saveProduct(Product product) {
+        Product stored;
+        long position;
+        synchronized (productLock) {
+            Long id = product.getId() == null
+                    ? sequence.incrementAndGet()
+                    : product.getId();
+            stored = copyOf(product, id);
+
+            Product current = products.get(id);
+            if (current != null && !changesStock(product)) {
+                stored.changeStock(current.getStock());
+            }
+
+            position = append(List.of(MemoryRecord.putProduct(stored)));
+        }
+        log.awaitDurable(position);
+
+        return new ReadCopy(stored);
+    }
+
+    /**
+     * 있는 상품의 가격만 바꿉니다. 모든 변경을 로그에 쓴 뒤 한 번만 fsync를 기다립니다.
+     *
+     * @return 가격을 바꾼 상품 수
+     */
+    public int updateProductPrices(Map<Long, Integer> prices) {
+        List<MemoryRecord> records = new ArrayList<>();
+        long position;
+        synchronized (productLock) {
+            prices.forEach((id, price) -> {
+                Product product = products.get(id);
+                if (product != null) {
+                    Product changed = copyOf(product);
+                    changed.changePrice(price);
+                    records.add(MemoryRecord.putProduct(changed));
+                }
+            });
+
+            position = append(records);
+        }
+        log.awaitDurable(position);
+
+        return records.size();
+    }
+
+    /**
+     * 재고가 {@code quantity} 이상일 때만 그만큼 줄입니다.
+     *
+     * @return 줄였으면 1, 상품이 없거나 재고가 모자라면 0
+     */
+    public int decreaseStock(Long id, int quantity) {
+        long position;
+        synchronized (productLock) {
+            Product product = products.get(id);
+            if (product == null || product.getStock() == null
+                    || product.getStock() < quantity) {
+                return 0;
+            }
+
+            Product changed = copyOf(product);
+            changed.changeStock(product.getStock() - quantity);
+            position = append(List.of(MemoryRecord.putProduct(changed)));
+        }
+        log.awaitDurable(position);
+        return 1;
+    }
+
+    public void deleteProduct(Long id) {
+        long position;
+        synchronized (productLock) {
+            position = append(List.of(MemoryRecord.deleteProduct(id)));
+        }
+        log.awaitDurable(position);
+    }
+
+    public Optional<User> findUser(Long id) {
+        return Optional.ofNullable(users.get(id))
+                .map(MemoryDatabase::copyOf);
+    }
+
+    public Optional<User> findUserByEmail(String email) {
+        return Optional.ofNullable(userIdsByEmail.get(email))
+                .flatMap(this::findUser);
+    }
+
+    public User saveUser(User user) {
+        Long id = user.getId() == null
+                ? sequence.incrementAndGet()
+                : user.getId();
+        User stored = copyOf(user, id);
+
+        write(MemoryRecord.putUser(stored));
+
+        return copyOf(stored);
+    }
+
+    public void deleteUser(Long id) {
+        write(MemoryRecord.deleteUser(id));
+    }
+
+    /**
+     * 전체 상태를 snapshot으로 쓰고 로그를 비웁니다.
+     * 쓰는 동안에는 변경이 기다리지만 조회는 계속됩니다.
+     */
+    @Scheduled(fixedDelayString = "${memory.snapshot-interval:60000}",
+            initialDelayString = "${memory.snapshot-interval:60000}")
+    public void compact() throws IOException {
+        writeLock.lock();
+        try {
+            MemorySnapshot snapshot = new MemorySnapshot(sequence.get(),
+                    new ArrayList<>(products.values()),
+                    new ArrayList<>(users.values()));
+
+            Path target = directory.resolve(SNAPSHOT_FILE);
+            Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+            Files.write(temporary, objectMapper.writeValueAsBytes(snapshot));
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            // 이름 변경이 디렉터리에 기록된 뒤에야 로그를 비울 수 있습니다.
+            try (FileChannel channel = FileChannel.open(directory,
+                    StandardOpenOption.READ)) {
+                channel.force(true);
+            }
+
+            log.truncate();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long logSize() throws IOException {
+        return log.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    private void write(MemoryRecord record) {
+        write(List.of(record));
+    }
+
+    private void write(List<MemoryRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        log.awaitDurable(append(records));
+    }
+
+    /**
+     * 로그에 붙이고 메모리에 반영합니다. 디스크에 내려가기를 기다리지는 않습니다.
+     *
+     * @return 마지막 기록의 로그 위치. 기록이 없으면 0
+     */
+    private long append(List<MemoryRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        List<byte[]> payloads = new ArrayList<>(records.size());
+        try {
+            for (MemoryRecord record : records) {
+                payloads.add(objectMapper.writeValueAsBytes(record));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long position = 0;
+        writeLock.lock();
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                position = log.append(payloads.get(i));
+                apply(records.get(i));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return position;
+    }
+
+    private void apply(MemoryRecord record) {
+        switch (record.getOperation()) {
+            case PUT_PRODUCT:
+                products.put(record.getId(), record.getProduct());
+                break;
+            case DELETE_PRODUCT:
+                products.remove(record.getId());
+                break;
+            case PUT_USER:
+                User user = record.getUser();
+                User previous = users.put(record.getId(), user);
+                if (previous != null) {
+                    userIdsByEmail.remove(previous.getEmail(), previous.getId());
+                }
+                userIdsByEmail.put(user.getEmail(), user.getId());
+                break;
+            case DELETE_USER:
+                User removed = users.remove(record.getId());
+                if (removed != null) {
+                    userIdsByEmail.remove(removed.getEmail(), removed.getId());
+                }
+                break;
+            default:
+                throw new IllegalStateException(
+                        "Unknown operation: " + record.getOperation());
+        }
+
+        if (record.getId() != null) {
+            sequence.accumulateAndGet(record.getId(), Math::max);
+        }
+    }
+
+    private void loadSnapshot() throws IOException {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        MemorySnapshot snapshot = read(Files.readAllBytes(path),
+                MemorySnapshot.class);
+        snapshot.getProducts().forEach(product ->
+                apply(MemoryRecord.putProduct(product)));
+        snapshot.getUsers().forEach(user ->
+                apply(MemoryRecord.putUser(user)));
+        sequence.accumulateAndGet(snapshot.getSequence(), Math::max);
+    }
+
+    private <T> T read(byte[] payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Product copyOf(Product product) {
+        return copyOf(product, product.getId());
+    }
+
+    /**
+     * 재고를 주지 않았거나 {@link ReadCopy}가 읽어 간 값 그대로면 재고를 바꾸는 저장이 아닙니다.
+     */
+    private static boolean changesStock(Product product) {
+        if (product.getStock() == null) {
+            return false;
+        }
+        return !(product instanceof ReadCopy)
+                || !product.getStock().equals(((ReadCopy) product).readStock);
+    }
+
+    static Product copyOf(Product product, Long id) {
+        return Product.builder()
+                .id(id)
+                .name(product.getName())
+                .maker(product.getMaker())
+                .price(product.getPrice())
+                .imageUrl(product.getImageUrl())
+                .stock(product.getStock())
+                .build();
+    }
+
+    static User copyOf(User user) {
+        return copyOf(user, user.getId());
+    }
+
+    static User copyOf(User user, Long id) {
+        return User.builder()
+                .id(id)
+                .email(user.getEmail())
+                .name(user.getName())
+                .password(user.getPassword())
+                .deleted(user.isDeleted())
+                .build();
+    }
+
+    /**
+     * 밖으로 내주는 상품 사본입니다. 다시 저장될 때 재고가 바뀌었는지 알 수 있도록
+     * 읽은 시점의 재고를 기억합니다.
+     */
+    private static final class ReadCopy extends Product {
+        private final Integer readStock;
+
+        private ReadCopy(Product product) {
+            super(product.getId(), product.getName(), product.getMaker(),
+                    product.getPrice(), product.getImageUrl(), product.getStock());
+            this.readStock = product.getStock();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductFields;
+import com.codesoom.assignment.domain.ProductProjectionRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MemoryDatabase}의 상품에서 요청한 속성만 꺼냅니다.
+ */
+public class MemoryProductProjectionRepository implements ProductProjectionRepository {
+    private final MemoryDatabase database;
+
+    public MemoryProductProjectionRepository(MemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public List<Map<String, Object>> findAll(ProductFields fields) {
+        return database.findProducts().stream()
+                .map(product -> toMap(product, fields))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findById(Long id, ProductFields fields) {
+        return database.findProduct(id)
+                .map(product -> toMap(product, fields));
+    }
+
+    private Map<String, Object> toMap(Product product, ProductFields fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String name : fields.getNames()) {
+            values.put(name, valueOf(product, name));
+        }
+        return values;
+    }
+
+    private Object valueOf(Product product, String name) {
+        switch (name) {
+            case "id":
+                return product.getId();
+            case "name":
+                return product.getName();
+            case "maker":
+                return product.getMaker();
+            case "price":
+                return product.getPrice();
+            case "imageUrl":
+                return product.getImageUrl();
+            case "stock":
+                return product.getStock();
+            default:
+                throw new IllegalArgumentException("Unknown field: " + name);
+        }
+    }
+}
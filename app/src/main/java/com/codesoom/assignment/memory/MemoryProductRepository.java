@@ -0,0 +1,59 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MemoryDatabase}에 상품을 보관합니다.
+ */
+public class MemoryProductRepository implements ProductRepository {
+    private final MemoryDatabase database;
+
+    public MemoryProductRepository(MemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return database.findProducts();
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return database.findProduct(id);
+    }
+
+    @Override
+    public List<Product> findAllByIdIn(Collection<Long> ids) {
+        return ids.stream()
+                .map(database::findProduct)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Product save(Product product) {
+        return database.saveProduct(product);
+    }
+
+    @Override
+    public void delete(Product product) {
+        database.deleteProduct(product.getId());
+    }
+
+    @Override
+    public int updatePrices(Map<Long, Integer> prices) {
+        return database.updateProductPrices(prices);
+    }
+
+    @Override
+    public int decreaseStock(Long id, int quantity) {
+        return database.decreaseStock(id, quantity);
+    }
+}
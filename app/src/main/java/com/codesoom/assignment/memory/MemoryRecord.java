@@ -0,0 +1,46 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * write-ahead log 한 줄에 담기는 변경입니다.
+ * <p>
+ * 저장은 변경 후의 전체 상태를, 삭제는 id만 담습니다.
+ * 따라서 같은 레코드를 여러 번 적용해도 결과가 같습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+class MemoryRecord {
+    enum Operation {
+        PUT_PRODUCT, DELETE_PRODUCT, PUT_USER, DELETE_USER
+    }
+
+    private Operation operation;
+
+    private Long id;
+
+    private Product product;
+
+    private User user;
+
+    static MemoryRecord putProduct(Product product) {
+        return new MemoryRecord(Operation.PUT_PRODUCT, product.getId(), product, null);
+    }
+
+    static MemoryRecord deleteProduct(Long id) {
+        return new MemoryRecord(Operation.DELETE_PRODUCT, id, null, null);
+    }
+
+    static MemoryRecord putUser(User user) {
+        return new MemoryRecord(Operation.PUT_USER, user.getId(), null, user);
+    }
+
+    static MemoryRecord deleteUser(Long id) {
+        return new MemoryRecord(Operation.DELETE_USER, id, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * compaction 시점의 전체 상태입니다. 이후 변경은 write-ahead log에 이어서 기록됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+class MemorySnapshot {
+    private long sequence;
+
+    private List<Product> products;
+
+    private List<User> users;
+}
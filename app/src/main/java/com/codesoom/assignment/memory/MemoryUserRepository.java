@@ -0,0 +1,55 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.User;
+import com.codesoom.assignment.domain.UserRepository;
+
+import java.util.Optional;
+
+/**
+ * {@link MemoryDatabase}에 사용자를 보관합니다. email 조회는 email 색인을 씁니다.
+ */
+public class MemoryUserRepository implements UserRepository {
+    private final MemoryDatabase database;
+
+    public MemoryUserRepository(MemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public User save(User user) {
+        return database.saveUser(user);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return database.findUserByEmail(email).isPresent();
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return database.findUser(id);
+    }
+
+    @Override
+    public Optional<User> findByIdAndDeletedIsFalse(Long id) {
+        return database.findUser(id)
+                .filter(user -> !user.isDeleted());
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return database.findUserByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findByEmailAndPassword(String email, String password) {
+        return database.findUserByEmail(email)
+                .filter(user -> password.equals(user.getPassword()));
+    }
+
+    @Override
+    public void deleteByEmail(String email) {
+        database.findUserByEmail(email)
+                .ifPresent(user -> database.deleteUser(user.getId()));
+    }
+}
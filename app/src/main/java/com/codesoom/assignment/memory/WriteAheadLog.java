@@ -0,0 +1,237 @@
+package com.codesoom.assignment.memory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 추가만 하는 로그 파일입니다.
+ * <p>
+ * 레코드는 {@code [길이 int][CRC32 int][내용]} 형식입니다.
+ * {@link #append(byte[])}는 파일에 쓰기만 하고 바로 돌아오며,
+ * flusher 스레드가 {@code batchWindow} 동안 모인 레코드를 한 번의 fsync로 디스크에 내립니다.
+ * 호출한 쪽은 {@link #awaitDurable(long)}로 자신의 레코드가 내려갈 때까지 기다립니다.
+ */
+public class WriteAheadLog implements Closeable {
+    private static final int HEADER_SIZE = 8;
+
+    private final FileChannel channel;
+
+    private final Duration batchWindow;
+
+    private final Object monitor = new Object();
+
+    private final Thread flusher;
+
+    private long appended;
+
+    private long durable;
+
+    private IOException failure;
+
+    private boolean closed;
+
+    public WriteAheadLog(Path path, Duration batchWindow) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.batchWindow = batchWindow;
+        this.flusher = new Thread(this::flushLoop, "wal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * 처음부터 레코드를 읽어 {@code consumer}에 넘기고, 로그 끝으로 이동합니다.
+     * 마지막 레코드가 잘렸거나 CRC가 맞지 않으면 그 앞에서 파일을 자릅니다.
+     * 기록을 시작하기 전에 한 번만 호출합니다.
+     *
+     * @return 읽은 레코드 수
+     */
+    public long replay(Consumer<byte[]> consumer) throws IOException {
+        long position = 0;
+        long count = 0;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int length = header.getInt();
+            int crc = header.getInt();
+
+            if (length < 0 || position + HEADER_SIZE + length > size) {
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            channel.read(payload, position + HEADER_SIZE);
+            if (crcOf(payload.array()) != crc) {
+                break;
+            }
+
+            consumer.accept(payload.array());
+            position += HEADER_SIZE + length;
+            count++;
+        }
+
+        if (position < size) {
+            channel.truncate(position);
+            channel.force(false);
+        }
+        channel.position(position);
+        return count;
+    }
+
+    public void start() {
+        flusher.start();
+    }
+
+    /**
+     * 레코드를 로그 끝에 씁니다. 디스크에 내려가기를 기다리지 않습니다.
+     *
+     * @return 이 레코드의 순번. {@link #awaitDurable(long)}에 넘깁니다.
+     */
+    public long append(byte[] payload) {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        record.putInt(payload.length).putInt(crcOf(payload)).put(payload).flip();
+
+        synchronized (monitor) {
+            checkOpen();
+            try {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            appended++;
+            monitor.notifyAll();
+            return appended;
+        }
+    }
+
+    /**
+     * {@code sequence}까지의 레코드가 디스크에 내려갈 때까지 기다립니다.
+     */
+    public void awaitDurable(long sequence) {
+        synchronized (monitor) {
+            while (durable < sequence) {
+                checkOpen();
+                try {
+                    monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(
+                            "Interrupted while waiting for write-ahead log", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 로그를 비웁니다. 지금까지의 레코드가 모두 스냅샷에 반영된 뒤에 호출합니다.
+     * 기다리던 레코드는 스냅샷으로 내구성이 보장되므로 모두 내려간 것으로 처리합니다.
+     */
+    public void truncate() throws IOException {
+        synchronized (monitor) {
+            channel.truncate(0);
+            channel.position(0);
+            channel.force(true);
+            durable = appended;
+            monitor.notifyAll();
+        }
+    }
+
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (monitor) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            monitor.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.force(false);
+        channel.close();
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            synchronized (monitor) {
+                try {
+                    while (durable == appended && !closed) {
+                        monitor.wait();
+                    }
+                    awaitBatchWindow();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (closed) {
+                    return;
+                }
+                target = appended;
+            }
+
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                synchronized (monitor) {
+                    failure = e;
+                    closed = true;
+                    monitor.notifyAll();
+                }
+                return;
+            }
+
+            synchronized (monitor) {
+                durable = Math.max(durable, target);
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 다른 레코드가 더 들어오도록 잠시 기다립니다. 기다리는 동안 monitor를 놓으므로
+     * {@link #append(byte[])}와 {@link #close()}가 막히지 않습니다.
+     */
+    private void awaitBatchWindow() throws InterruptedException {
+        long deadline = System.nanoTime() + batchWindow.toNanos();
+        long remaining = batchWindow.toNanos();
+        while (remaining > 0 && !closed) {
+            monitor.wait(Math.max(1, remaining / 1_000_000));
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    private void checkOpen() {
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log failed", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+    }
+
+    private static int crcOf(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,235 @@
+package com.codesoom.assignment.orders;
+
+import com.codesoom.assignment.cache.Invalidation;
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.domain.Order;
+import com.codesoom.assignment.domain.OrderRepository;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.errors.OrderQueueFullException;
+import com.codesoom.assignment.errors.OutOfStockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문을 모아 한 트랜잭션으로 저장하는 스레드입니다(group commit).
+ * <p>
+ * 앞 batch를 커밋하는 동안 들어온 주문을 최대 {@code batchSize}개까지 다음 batch로 묶으므로,
+ * 주문이 몰릴수록 커밋 한 번에 더 많은 주문이 저장됩니다.
+ * batch 안에서는 상품마다 수량을 합쳐 재고를 한 번만 조건부로 줄이므로,
+ * 몰린 상품의 행도 batch마다 한 번만 잠급니다. 여러 노드가 같은 상품들을 줄여도 교착되지 않도록
+ * 상품 id 순서로 줄입니다.
+ * <p>
+ * 합친 수량만큼 줄일 수 없으면 그 상품의 주문을 하나씩 줄여 보고, 줄이지 못한 주문은
+ * {@link OutOfStockException}으로 끝냅니다. {@link StockLedger}의 재고 기록도 이 결과에 맞춥니다.
+ */
+@Slf4j
+public class OrderWriter implements Closeable {
+    private final OrderRepository orderRepository;
+
+    private final ProductRepository productRepository;
+
+    private final StockLedger stockLedger;
+
+    private final InvalidationBus invalidationBus;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PendingOrder> queue;
+
+    private final int batchSize;
+
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    public OrderWriter(OrderRepository orderRepository,
+                       ProductRepository productRepository,
+                       StockLedger stockLedger,
+                       InvalidationBus invalidationBus,
+                       PlatformTransactionManager transactionManager,
+                       int capacity,
+                       int batchSize) {
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.stockLedger = stockLedger;
+        this.invalidationBus = invalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.thread = new Thread(this::run, "order-writer");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * 들어온 주문을 모두 저장한 뒤 돌아갑니다.
+     * 스레드가 멈춘 뒤에 들어와 남은 주문은 {@link OrderQueueFullException}으로 끝냅니다.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingOrder> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(this::reject);
+    }
+
+    /**
+     * 재고를 잡아 둔 주문을 다음 batch에 넣습니다.
+     *
+     * @return 주문이 커밋되면 저장된 주문으로 끝나는 future
+     */
+    public CompletableFuture<Order> submit(Order order) {
+        PendingOrder pending = new PendingOrder(order);
+        if (!running || !queue.offer(pending)) {
+            reject(pending);
+            return pending.future;
+        }
+
+        // close가 큐를 비운 뒤에 넣었으면 아무도 꺼내지 않으므로 직접 끝냅니다.
+        if (!running && queue.remove(pending)) {
+            reject(pending);
+        }
+        return pending.future;
+    }
+
+    /**
+     * @return 저장을 기다리는 주문 수
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            PendingOrder first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (first == null) {
+                continue;
+            }
+
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * batch를 한 트랜잭션으로 저장하고, 커밋된 뒤 주문마다 결과를 알립니다.
+     */
+    private void write(List<PendingOrder> batch) {
+        Map<Long, List<PendingOrder>> byProduct = new TreeMap<>();
+        for (PendingOrder pending : batch) {
+            byProduct.computeIfAbsent(pending.order.getProductId(),
+                    id -> new ArrayList<>()).add(pending);
+        }
+
+        List<PendingOrder> accepted = new ArrayList<>(batch.size());
+        List<PendingOrder> rejected = new ArrayList<>();
+        List<Order> saved = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                byProduct.forEach((productId, orders) ->
+                        decreaseStock(productId, orders, accepted, rejected));
+
+                List<Order> orders = new ArrayList<>(accepted.size());
+                accepted.forEach(pending -> orders.add(pending.order));
+                orderRepository.saveAll(orders).forEach(saved::add);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not write {} orders", batch.size(), e);
+            for (PendingOrder pending : batch) {
+                stockLedger.release(pending.order.getProductId(),
+                        pending.order.getQuantity());
+                pending.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Order order = accepted.get(i).order;
+            stockLedger.confirm(order.getProductId(), order.getQuantity());
+            accepted.get(i).future.complete(saved.get(i));
+        }
+
+        for (PendingOrder pending : rejected) {
+            Long productId = pending.order.getProductId();
+            stockLedger.confirm(productId, pending.order.getQuantity());
+            stockLedger.reset(productId);
+            pending.future.completeExceptionally(new OutOfStockException(productId));
+        }
+
+        byProduct.keySet().forEach(productId ->
+                invalidationBus.publish(Invalidation.product(productId)));
+    }
+
+    private void reject(PendingOrder pending) {
+        stockLedger.release(pending.order.getProductId(),
+                pending.order.getQuantity());
+        pending.future.completeExceptionally(new OrderQueueFullException());
+    }
+
+    private void decreaseStock(Long productId,
+                               List<PendingOrder> orders,
+                               List<PendingOrder> accepted,
+                               List<PendingOrder> rejected) {
+        int total = 0;
+        for (PendingOrder pending : orders) {
+            total += pending.order.getQuantity();
+        }
+
+        if (productRepository.decreaseStock(productId, total) == 1) {
+            accepted.addAll(orders);
+            return;
+        }
+
+        for (PendingOrder pending : orders) {
+            if (productRepository.decreaseStock(productId,
+                    pending.order.getQuantity()) == 1) {
+                accepted.add(pending);
+            } else {
+                rejected.add(pending);
+            }
+        }
+    }
+
+    private static final class PendingOrder {
+        private final Order order;
+
+        private final CompletableFuture<Order> future = new CompletableFuture<>();
+
+        private PendingOrder(Order order) {
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.codesoom.assignment.orders;
+
+import com.codesoom.assignment.cache.Invalidation;
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.cache.InvalidationListener;
+import com.codesoom.assignment.cache.InvalidationType;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주문 전에 재고를 메모리에서 먼저 잡아 두는 장부입니다.
+ * <p>
+ * 상품마다 남은 재고를 {@code stripes}개의 칸에 나눠 두고, 스레드마다 다른 칸에서 CAS로 뺍니다.
+ * 한 상품에 주문이 몰려도 같은 칸을 두고 다투는 스레드가 적고, 잠금이나 상품 행을 기다리지 않습니다.
+ * 자기 칸에 모자라면 그 상품의 모든 칸을 모아 한 번 더 확인합니다.
+ * <p>
+ * 처음 주문할 때와 상품이 바뀐 뒤에는 저장소의 재고에서 아직 커밋되지 않은 주문 수량을 빼고 다시 채웁니다.
+ * 상품이 바뀐 것은 이 노드의 {@link ProductChangedEvent}와 {@link InvalidationBus}로 받은 무효화로 압니다.
+ * 이 노드가 주문을 커밋하고 보낸 무효화도 돌아오므로, 장부는 batch마다 한 번 저장소와 맞춰집니다.
+ * <p>
+ * 장부는 주문을 걸러 내는 첫 관문일 뿐이고, 최종 판단은 저장소의 조건부 차감
+ * ({@link ProductRepository#decreaseStock(Long, int)})입니다.
+ * 다른 노드가 같은 상품을 팔아 장부가 실제보다 많이 남았다고 보더라도 저장소에서 거절되고,
+ * 그때 {@link #reset(Long)}으로 다시 채웁니다.
+ * 반대로 장부가 실제보다 적게 남았다고 보면 주문을 잘못 거절하므로, 모자랄 때는 마지막으로 읽은 지
+ * {@code reloadInterval}이 지났으면 저장소에서 한 번 더 읽고 확인합니다.
+ */
+public class StockLedger implements InvalidationListener {
+    /**
+     * 칸 사이의 간격(long 8개 = 64 byte)입니다. 칸마다 cache line을 따로 쓰게 합니다.
+     */
+    private static final int PADDING = 8;
+
+    private final ProductRepository productRepository;
+
+    private final int stripes;
+
+    private final long reloadIntervalNanos;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param stripes        상품마다 재고를 나눌 칸 수(2의 거듭제곱)
+     * @param reloadInterval 재고가 모자랄 때 저장소에서 다시 읽는 최소 간격
+     */
+    public StockLedger(ProductRepository productRepository,
+                       int stripes,
+                       Duration reloadInterval) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException(
+                    "Stripes must be a power of two: " + stripes);
+        }
+        this.productRepository = productRepository;
+        this.stripes = stripes;
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+    }
+
+    /**
+     * 재고를 {@code quantity}만큼 잡습니다. 잡은 재고는 주문이 커밋되면 {@link #confirm(Long, int)},
+     * 저장하지 못하면 {@link #release(Long, int)}로 돌려줘야 합니다.
+     *
+     * @return 저장소에서 다시 읽어 보아도 재고가 모자라면 false
+     * @throws ProductNotFoundException 상품이 없을 때
+     */
+    public boolean reserve(Long productId, int quantity) {
+        Entry entry = entries.computeIfAbsent(productId, id -> new Entry(stripes));
+        if (entry.stale) {
+            load(productId, entry, false);
+        }
+
+        if (take(entry, quantity)) {
+            return true;
+        }
+        return load(productId, entry, true) && take(entry, quantity);
+    }
+
+    /**
+     * 잡은 재고가 저장소에서도 빠졌음을 알립니다.
+     */
+    public void confirm(Long productId, int quantity) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            entry.inFlight.add(-quantity);
+        }
+    }
+
+    /**
+     * 주문을 저장하지 못해 잡은 재고를 돌려줍니다.
+     */
+    public void release(Long productId, int quantity) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            entry.inFlight.add(-quantity);
+            entry.give(quantity);
+        }
+    }
+
+    /**
+     * 다음 주문 때 저장소에서 재고를 다시 읽게 합니다.
+     */
+    public void reset(Long productId) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            entry.stale = true;
+        }
+    }
+
+    /**
+     * @return 장부에 남은 재고. 아직 읽지 않은 상품은 -1
+     */
+    public long available(Long productId) {
+        Entry entry = entries.get(productId);
+        return entry == null || entry.stale ? -1 : entry.sum();
+    }
+
+    /**
+     * 관리자가 재고를 고쳤을 수 있으므로 커밋된 뒤 다시 읽게 합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        reset(event.getProduct().getId());
+    }
+
+    /**
+     * 다른 노드에서 주문을 받았거나 상품을 고쳤을 수 있으므로 다시 읽게 합니다.
+     */
+    @Override
+    public void onInvalidations(Collection<Invalidation> invalidations) {
+        for (Invalidation invalidation : invalidations) {
+            if (invalidation.getType() == InvalidationType.PRODUCT) {
+                reset(invalidation.getId());
+            }
+        }
+    }
+
+    /**
+     * 잡기 전에 커밋되지 않은 수량에 먼저 더해, 그 사이에 다시 채우는 쪽이 이 수량을 빼게 합니다.
+     */
+    private boolean take(Entry entry, int quantity) {
+        entry.inFlight.add(quantity);
+        if (entry.take(quantity)) {
+            return true;
+        }
+        entry.inFlight.add(-quantity);
+        return false;
+    }
+
+    /**
+     * @param shortfall 모자라서 다시 읽는지. 그렇다면 {@code reloadInterval}에 한 번만 읽습니다.
+     * @return 저장소에서 읽었으면 true
+     */
+    private boolean load(Long productId, Entry entry, boolean shortfall) {
+        synchronized (entry) {
+            if (shortfall
+                    ? System.nanoTime() - entry.loadedAt < reloadIntervalNanos
+                    : !entry.stale) {
+                return false;
+            }
+
+            // 저장소 다음에 읽어, 그 사이에 커밋된 주문은 두 번 빼지 않습니다.
+            // 대신 덜 빼서 많이 남았다고 볼 수 있지만 저장소가 거절합니다.
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+            long stock = product.getStock() == null ? 0 : product.getStock();
+            long inFlight = entry.inFlight.sum();
+
+            entry.fill(Math.max(0, stock - inFlight));
+            entry.loadedAt = System.nanoTime();
+            entry.stale = false;
+            return true;
+        }
+    }
+
+    private static final class Entry {
+        private final AtomicLongArray cells;
+
+        private final int mask;
+
+        /**
+         * 잡았지만 아직 저장소에서 빠지지 않은 수량입니다.
+         */
+        private final LongAdder inFlight = new LongAdder();
+
+        private volatile boolean stale = true;
+
+        private volatile long loadedAt;
+
+        private Entry(int stripes) {
+            this.cells = new AtomicLongArray(stripes * PADDING);
+            this.mask = stripes - 1;
+        }
+
+        private boolean take(long quantity) {
+            int start = probe();
+            for (int i = 0; i <= mask; i++) {
+                int cell = ((start + i) & mask) * PADDING;
+                long value = cells.get(cell);
+                while (value >= quantity) {
+                    if (cells.compareAndSet(cell, value, value - quantity)) {
+                        return true;
+                    }
+                    value = cells.get(cell);
+                }
+            }
+            return gather(quantity);
+        }
+
+        /**
+         * 칸마다는 모자라도 합치면 충분할 수 있으므로, 모든 칸을 비워 합친 뒤 뺀 나머지를 자기 칸에 둡니다.
+         */
+        private synchronized boolean gather(long quantity) {
+            long total = 0;
+            for (int i = 0; i <= mask; i++) {
+                total += cells.getAndSet(i * PADDING, 0);
+            }
+
+            boolean taken = total >= quantity;
+            cells.addAndGet(probe() * PADDING, taken ? total - quantity : total);
+            return taken;
+        }
+
+        private void give(long quantity) {
+            cells.addAndGet(probe() * PADDING, quantity);
+        }
+
+        private synchronized void fill(long stock) {
+            long share = stock / (mask + 1);
+            for (int i = 0; i <= mask; i++) {
+                cells.set(i * PADDING, share);
+            }
+            cells.addAndGet(0, stock - share * (mask + 1));
+        }
+
+        private long sum() {
+            long total = 0;
+            for (int i = 0; i <= mask; i++) {
+                total += cells.get(i * PADDING);
+            }
+            return total;
+        }
+
+        private int probe() {
+            return (int) Thread.currentThread().getId() & mask;
+        }
+    }
+}
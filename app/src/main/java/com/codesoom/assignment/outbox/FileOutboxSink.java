@@ -0,0 +1,70 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트를 한 줄에 하나씩 JSON으로 로컬 파일 끝에 추가하는 sink입니다.
+ * 배치마다 한 번 write 하고 fsync 합니다.
+ */
+public class FileOutboxSink implements OutboxSink, AutoCloseable {
+    private final ObjectMapper objectMapper;
+
+    private final FileChannel channel;
+
+    public FileOutboxSink(Path path, ObjectMapper objectMapper)
+            throws IOException {
+        this.objectMapper = objectMapper;
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxEvent event : events) {
+            lines.append(objectMapper.writeValueAsString(toRecord(event)))
+                    .append('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(
+                lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private Map<String, Object> toRecord(OutboxEvent event) throws IOException {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", event.getId());
+        record.put("aggregateType", event.getAggregateType());
+        record.put("aggregateId", event.getAggregateId());
+        record.put("eventType", event.getEventType());
+        record.put("createdAt", event.getCreatedAt().toString());
+        record.put("payload", objectMapper.readTree(event.getPayload()));
+        return record;
+    }
+}
@@ -0,0 +1,40 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.domain.OutboxEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 전달된 이벤트를 메모리에 보관하는 sink입니다. 테스트와 로컬 개발용입니다.
+ * 가장 최근 {@code capacity}개만 보관합니다.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+    private final int capacity;
+
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    public synchronized List<OutboxEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,100 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.codesoom.assignment.domain.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 테이블의 이벤트를 배치 단위로 꺼내 sink에 전달합니다.
+ * <p>
+ * 배치를 잠그고, 전달하고, 삭제하는 과정이 하나의 트랜잭션입니다.
+ * <ul>
+ *     <li>sink가 실패하면 아무것도 삭제되지 않아 다음 번에 다시 전달됩니다 (at-least-once).</li>
+ *     <li>id 순으로 한 배치씩 전달하고 실패하면 멈추므로,
+ *     같은 aggregate의 이벤트는 기록된 순서대로 전달됩니다.</li>
+ *     <li>배치 행에 쓰기 잠금을 걸어 여러 노드의 relay가 같은 배치를 동시에 전달하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxSink outboxSink;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink outboxSink,
+                       PlatformTransactionManager transactionManager,
+                       int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * outbox가 빌 때까지 배치를 전달합니다.
+     *
+     * @return 전달한 이벤트 수
+     */
+    public int drain() {
+        int relayed = 0;
+
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> relayBatch());
+            if (count == null || count == 0) {
+                return relayed;
+            }
+            relayed += count;
+        }
+    }
+
+    /**
+     * 주기적으로 호출되며, 전달에 실패하면 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500}")
+    public void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Failed to relay outbox events", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository
+                .findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            outboxSink.publish(events);
+        } catch (Exception e) {
+            throw new OutboxRelayException(e);
+        }
+
+        outboxEventRepository.deleteByIdIn(events.stream()
+                .map(OutboxEvent::getId)
+                .collect(Collectors.toList()));
+
+        return events.size();
+    }
+
+    public static class OutboxRelayException extends RuntimeException {
+        public OutboxRelayException(Throwable cause) {
+            super("Failed to publish outbox events", cause);
+        }
+    }
+}
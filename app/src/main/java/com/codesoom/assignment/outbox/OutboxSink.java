@@ -0,0 +1,18 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.domain.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * relay가 outbox 이벤트를 전달하는 대상입니다.
+ */
+public interface OutboxSink {
+    /**
+     * 이벤트를 순서대로 전달합니다.
+     * 예외를 던지면 배치 전체가 outbox에 남아 다음 번에 다시 전달됩니다.
+     *
+     * @param events id 순으로 정렬된 이벤트
+     */
+    void publish(List<OutboxEvent> events) throws Exception;
+}
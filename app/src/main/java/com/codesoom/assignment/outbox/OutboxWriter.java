@@ -0,0 +1,85 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.domain.ChangeType;
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.codesoom.assignment.domain.OutboxEventRepository;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.User;
+import com.codesoom.assignment.domain.UserChangedEvent;
+import com.codesoom.assignment.dto.UserResultData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품과 유저의 변경을 outbox 테이블에 기록합니다.
+ * <p>
+ * 동기 이벤트 리스너이므로 서비스의 트랜잭션 안에서 실행되고,
+ * 변경이 롤백되면 outbox 기록도 함께 롤백됩니다.
+ */
+@Component
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository,
+                        ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        Product product = event.getProduct();
+
+        append("Product", product.getId(),
+                eventType("Product", event.getType()), product);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == ChangeType.UPDATED) {
+            return;
+        }
+
+        User user = event.getUser();
+        UserResultData payload = UserResultData.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .build();
+
+        append("User", user.getId(),
+                eventType("User", event.getType()), payload);
+    }
+
+    private void append(String aggregateType, Long aggregateId,
+                        String eventType, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String eventType(String aggregateType, ChangeType type) {
+        String name = type.name();
+        return aggregateType + name.charAt(0) + name.substring(1).toLowerCase();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Failed to serialize outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.codesoom.assignment.popularity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 조회 횟수를 count-min sketch로 어림하고, 어림값이 큰 상품 {@code capacity}개를 유지합니다.
+ * <p>
+ * sketch는 상품 수와 상관없이 {@code depth × width}칸만 쓰고, 어림값은 실제보다 작지 않습니다.
+ * 후보는 어림값이 가장 작은 것이 맨 위에 오는 heap으로 관리해, 새 상품의 어림값이 그보다 크면 바꿉니다.
+ * {@link #decay()}는 모든 값을 반으로 줄여 최근 조회가 순위에 더 크게 반영되게 합니다.
+ * <p>
+ * 갱신은 한 스레드에서만 합니다. 조회는 {@link #top(int)}가 마지막으로 발행한 목록을 읽으므로
+ * 어느 스레드에서나 잠금 없이 할 수 있습니다.
+ */
+public class HeavyHitters {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL,
+            0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L
+    };
+
+    private final long[][] counters;
+
+    private final int mask;
+
+    private final int capacity;
+
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(
+            Comparator.comparingLong((Candidate candidate) -> candidate.views));
+
+    private volatile List<PopularProduct> published = List.of();
+
+    /**
+     * @param depth    hash 함수 수. 클수록 어림값이 크게 빗나갈 확률이 줄어듭니다.
+     * @param width    행마다의 칸 수(2의 거듭제곱). 클수록 어림값의 오차가 줄어듭니다.
+     * @param capacity 유지할 상위 상품 수
+     */
+    public HeavyHitters(int depth, int width, int capacity) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("Depth must be 1.." + SEEDS.length);
+        }
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException(
+                    "Width must be a power of two: " + width);
+        }
+        this.counters = new long[depth][width];
+        this.mask = width - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 상품의 조회 횟수를 {@code views}만큼 늘립니다.
+     *
+     * @return 늘린 뒤의 어림값
+     */
+    public long add(long id, long views) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            int index = index(id, row);
+            counters[row][index] += views;
+            estimate = Math.min(estimate, counters[row][index]);
+        }
+
+        Candidate candidate = candidates.get(id);
+        if (candidate != null) {
+            heap.remove(candidate);
+            candidate.views = estimate;
+            heap.add(candidate);
+        } else if (candidates.size() < capacity) {
+            candidate = new Candidate(id, estimate);
+            candidates.put(id, candidate);
+            heap.add(candidate);
+        } else if (estimate > heap.peek().views) {
+            candidates.remove(heap.poll().id);
+            candidate = new Candidate(id, estimate);
+            candidates.put(id, candidate);
+            heap.add(candidate);
+        }
+        return estimate;
+    }
+
+    public long estimate(long id) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            estimate = Math.min(estimate, counters[row][index(id, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 칸과 후보의 값을 반으로 줄입니다.
+     */
+    public void decay() {
+        for (long[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        List<Candidate> all = new ArrayList<>(heap);
+        heap.clear();
+        for (Candidate candidate : all) {
+            candidate.views >>>= 1;
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * 지금의 상위 목록을 조회할 수 있게 발행합니다.
+     */
+    public void publish() {
+        List<PopularProduct> products = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates.values()) {
+            products.add(new PopularProduct(candidate.id, candidate.views));
+        }
+        products.sort(Comparator.comparingLong(PopularProduct::getViews)
+                .reversed()
+                .thenComparingLong(PopularProduct::getProductId));
+        published = List.copyOf(products);
+    }
+
+    /**
+     * @return 마지막으로 발행한 목록에서 어림값이 큰 순서로 최대 {@code limit}개
+     */
+    public List<PopularProduct> top(int limit) {
+        List<PopularProduct> products = published;
+        return products.subList(0, Math.max(0, Math.min(limit, products.size())));
+    }
+
+    private int index(long id, int row) {
+        long hash = (id + 1) * SEEDS[row];
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static final class Candidate {
+        private final long id;
+
+        private long views;
+
+        private Candidate(long id, long views) {
+            this.id = id;
+            this.views = views;
+        }
+    }
+}
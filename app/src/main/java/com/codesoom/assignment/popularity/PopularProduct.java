@@ -0,0 +1,15 @@
+package com.codesoom.assignment.popularity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상위 상품과 어림한 조회 횟수입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PopularProduct {
+    private final long productId;
+
+    private final long views;
+}
@@ -0,0 +1,113 @@
+package com.codesoom.assignment.popularity;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 상품별 조회 횟수를 셉니다.
+ * <p>
+ * 존재하는 상품을 조회했을 때만 세므로 키는 상품 수를 넘지 않습니다.
+ * 횟수는 {@link LongAdder}로 세므로 여러 요청 스레드가 같은 상품을 조회해도 한 칸을 두고 다투지 않습니다.
+ * 스냅샷은 한 줄에 {@code id 횟수}를 많이 조회된 순서로 씁니다.
+ */
+public class ProductAccessCounter {
+    private final Map<Long, Count> counts = new ConcurrentHashMap<>();
+
+    public void record(Long id) {
+        Count count = counts.get(id);
+        if (count == null) {
+            count = counts.computeIfAbsent(id, key -> new Count());
+        }
+        count.views.increment();
+    }
+
+    public long count(Long id) {
+        Count count = counts.get(id);
+        return count == null ? 0 : count.views.sum();
+    }
+
+    /**
+     * 지난 호출 뒤로 늘어난 조회 횟수를 상품별로 돌려줍니다. 늘어나지 않은 상품은 빠집니다.
+     * 한 스레드에서만 호출합니다.
+     */
+    public Map<Long, Long> takeIncrements() {
+        Map<Long, Long> increments = new HashMap<>();
+        counts.forEach((id, count) -> {
+            long views = count.views.sum();
+            if (views > count.taken) {
+                increments.put(id, views - count.taken);
+                count.taken = views;
+            }
+        });
+        return increments;
+    }
+
+    /**
+     * 많이 조회된 순서로 최대 {@code limit}개의 id를 돌려줍니다.
+     */
+    public List<Long> top(int limit) {
+        return counts.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<Long, Count> entry) -> entry.getValue().views.sum())
+                        .reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 옮겨서, 쓰는 도중에 종료돼도 이전 스냅샷이 남게 합니다.
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, "access", ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary)) {
+            for (Long id : top(counts.size())) {
+                writer.write(id + " " + count(id));
+                writer.newLine();
+            }
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷에서 많이 조회된 순서로 최대 {@code limit}개의 id를 읽습니다. 파일이 없으면 비어 있습니다.
+     */
+    public static List<Long> readTop(Path path, int limit) throws IOException {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+
+        try (Stream<String> lines = Files.lines(path)) {
+            return lines.map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .limit(limit)
+                    .map(line -> Long.valueOf(line.split(" ")[0]))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static final class Count {
+        private final LongAdder views = new LongAdder();
+
+        /**
+         * {@link #takeIncrements()}가 마지막으로 가져간 시점의 횟수입니다.
+         */
+        private long taken;
+    }
+}
@@ -0,0 +1,127 @@
+package com.codesoom.assignment.popularity;
+
+import com.codesoom.assignment.domain.ProductView;
+import com.codesoom.assignment.domain.ProductViewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ProductAccessCounter}에 쌓인 조회 횟수를 주기적으로 가져가
+ * {@link HeavyHitters}에 더하고 저장소의 누적 횟수에 한 트랜잭션으로 더합니다.
+ * <p>
+ * 저장에 실패하면 가져간 횟수를 들고 있다가 다음 번에 함께 더하므로 횟수가 사라지지 않습니다.
+ * {@code halfLife}마다 {@link HeavyHitters}의 값을 반으로 줄여 인기 순위가 최근 조회를 따르게 합니다.
+ * 기동할 때는 저장소에서 누적 횟수가 큰 상품으로 순위를 채워 둡니다.
+ */
+@Slf4j
+public class ProductViewFlusher {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ProductAccessCounter counter;
+
+    private final HeavyHitters heavyHitters;
+
+    private final ProductViewRepository productViewRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long halfLifeNanos;
+
+    private final Map<Long, Long> unsaved = new HashMap<>();
+
+    private long lastDecay = System.nanoTime();
+
+    public ProductViewFlusher(ProductAccessCounter counter,
+                              HeavyHitters heavyHitters,
+                              ProductViewRepository productViewRepository,
+                              PlatformTransactionManager transactionManager,
+                              Duration halfLife) {
+        this.counter = counter;
+        this.heavyHitters = heavyHitters;
+        this.productViewRepository = productViewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.halfLifeNanos = halfLife.toNanos();
+    }
+
+    /**
+     * 누적 횟수가 큰 상품으로 순위를 채웁니다.
+     */
+    public synchronized void start() {
+        try {
+            productViewRepository.findAllByOrderByViewsDesc(PageRequest.of(0, 1000))
+                    .forEach(view ->
+                            heavyHitters.add(view.getProductId(), view.getViews()));
+            heavyHitters.publish();
+        } catch (RuntimeException e) {
+            log.warn("Could not load product views; popular products start empty", e);
+        }
+    }
+
+    /**
+     * @return 저장소에 더한 상품 수
+     */
+    @Scheduled(fixedDelayString = "${popularity.flush-interval:10000}")
+    public synchronized int flush() {
+        Map<Long, Long> increments = counter.takeIncrements();
+
+        increments.forEach(heavyHitters::add);
+        if (System.nanoTime() - lastDecay >= halfLifeNanos) {
+            heavyHitters.decay();
+            lastDecay = System.nanoTime();
+        }
+        heavyHitters.publish();
+
+        increments.forEach((id, views) -> unsaved.merge(id, views, Long::sum));
+        if (unsaved.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> save());
+        } catch (RuntimeException e) {
+            log.warn("Could not save views of {} products; will retry",
+                    unsaved.size(), e);
+            return 0;
+        }
+
+        int saved = unsaved.size();
+        unsaved.clear();
+        return saved;
+    }
+
+    private void save() {
+        List<Long> ids = new ArrayList<>(unsaved.keySet());
+        ids.sort(null);
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from,
+                    Math.min(from + CHUNK_SIZE, ids.size()));
+            Map<Long, ProductView> existing = productViewRepository
+                    .findAllByProductIdIn(chunk).stream()
+                    .collect(Collectors.toMap(ProductView::getProductId,
+                            Function.identity()));
+
+            List<ProductView> views = new ArrayList<>(chunk.size());
+            for (Long id : chunk) {
+                ProductView view = existing.getOrDefault(id, ProductView.builder()
+                        .productId(id)
+                        .views(0L)
+                        .build());
+                view.addViews(unsaved.get(id));
+                views.add(view);
+            }
+            productViewRepository.saveAll(views);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.codesoom.assignment.pricing;
+
+import com.codesoom.assignment.application.PriceChangeService;
+import com.codesoom.assignment.domain.PriceChangesScheduledEvent;
+import com.codesoom.assignment.domain.ScheduledPriceChange;
+import com.codesoom.assignment.domain.ScheduledPriceChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 예약된 가격 변경을 {@link TimingWheel}에 올려 두고, 때가 되면 모아서 적용합니다.
+ * <p>
+ * 기동하면 적용되지 않은 예약을 모두 다시 올리므로 재시작 중에 때가 지난 예약도 바로 적용됩니다.
+ * 적용은 {@link PriceChangeService}가 예약 행을 잠그고 적용 여부를 확인하므로,
+ * 여러 노드가 같은 예약을 올려 두어도 한 번만 적용됩니다.
+ * 때가 된 예약은 예약 시각 순서로 batch를 나눠 적용하므로, 앞선 예약이 뒤 batch에서 늦게 적용되지 않습니다.
+ * 적용에 실패한 예약은 다음 tick에 다시 시도합니다.
+ * 다른 노드가 예약을 받고 적용하기 전에 멈춘 경우를 위해 {@link #rescan()}이 때가 지난 예약을 찾아 적용합니다.
+ */
+@Slf4j
+public class PriceChangeScheduler {
+    private final PriceChangeService priceChangeService;
+
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository;
+
+    private final Clock clock;
+
+    private final long tickMillis;
+
+    private final int batchSize;
+
+    private final TimingWheel wheel;
+
+    public PriceChangeScheduler(
+            PriceChangeService priceChangeService,
+            ScheduledPriceChangeRepository scheduledPriceChangeRepository,
+            Clock clock,
+            Duration tick,
+            int batchSize
+    ) {
+        this.priceChangeService = priceChangeService;
+        this.scheduledPriceChangeRepository = scheduledPriceChangeRepository;
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel(Math.floorDiv(clock.millis(), tickMillis));
+    }
+
+    /**
+     * 적용되지 않은 예약을 모두 올립니다.
+     *
+     * @return 올린 예약 수
+     */
+    public int start() {
+        int loaded = 0;
+        long afterId = 0;
+        while (true) {
+            List<ScheduledPriceChange> changes = scheduledPriceChangeRepository
+                    .findPending(afterId, PageRequest.of(0, batchSize));
+            if (changes.isEmpty()) {
+                break;
+            }
+            add(changes);
+            loaded += changes.size();
+            afterId = changes.get(changes.size() - 1).getId();
+        }
+        log.info("Loaded {} pending price changes", loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChangesScheduled(PriceChangesScheduledEvent event) {
+        add(event.getChanges());
+    }
+
+    /**
+     * @return 적용을 기다리는 예약 수
+     */
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    /**
+     * 지금까지 때가 된 예약을 {@code batchSize}개씩 적용합니다.
+     *
+     * @return 적용한 예약 수
+     */
+    @Scheduled(fixedDelayString = "${pricing.schedule.tick:100}")
+    public int tick() {
+        List<long[]> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceWithDeadlines(Math.floorDiv(clock.millis(), tickMillis),
+                    (id, deadline) -> due.add(new long[]{deadline, id}));
+        }
+        // 재시작이나 재시도로 늦게 올라온 예약은 섞여 나오므로 예약 시각 순서로 맞춥니다.
+        due.sort(Comparator.comparingLong(entry -> entry[0]));
+
+        List<Long> ids = new ArrayList<>(due.size());
+        due.forEach(entry -> ids.add(entry[1]));
+        return apply(ids);
+    }
+
+    /**
+     * 때가 지났는데 적용되지 않은 예약을 예약 시각 순서로 찾아 적용합니다.
+     * 적용한 예약은 다음 조회에서 빠지므로, 남은 예약이 없거나 한 batch를 다 적용하지 못할 때까지 이어서 찾습니다.
+     *
+     * @return 적용한 예약 수
+     */
+    @Scheduled(fixedDelayString = "${pricing.schedule.rescan-interval:60000}",
+            initialDelayString = "${pricing.schedule.rescan-interval:60000}")
+    public int rescan() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int applied = 0;
+        while (true) {
+            List<Long> overdue = scheduledPriceChangeRepository
+                    .findOverdue(now, PageRequest.of(0, batchSize))
+                    .stream()
+                    .map(ScheduledPriceChange::getId)
+                    .collect(Collectors.toList());
+            int count = apply(overdue);
+            applied += count;
+            if (overdue.size() < batchSize || count < overdue.size()) {
+                return applied;
+            }
+        }
+    }
+
+    private int apply(List<Long> ids) {
+        int applied = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from,
+                    Math.min(from + batchSize, ids.size()));
+            try {
+                applied += priceChangeService.applyPriceChanges(batch,
+                        LocalDateTime.now(clock));
+            } catch (RuntimeException e) {
+                log.warn("Could not apply {} price changes; will retry",
+                        batch.size(), e);
+                retry(batch);
+            }
+        }
+        return applied;
+    }
+
+    private synchronized void add(List<ScheduledPriceChange> changes) {
+        for (ScheduledPriceChange change : changes) {
+            wheel.add(change.getId(), deadlineOf(change.getEffectiveAt()));
+        }
+    }
+
+    private synchronized void retry(List<Long> ids) {
+        long next = wheel.currentTick() + 1;
+        ids.forEach(id -> wheel.add(id, next));
+    }
+
+    /**
+     * 예약 시각 이후의 첫 tick입니다. 예약 시각보다 먼저 적용되지 않도록 올림합니다.
+     */
+    private long deadlineOf(LocalDateTime effectiveAt) {
+        long millis = effectiveAt.atZone(clock.getZone()).toInstant().toEpochMilli();
+        return Math.floorDiv(millis + tickMillis - 1, tickMillis);
+    }
+}
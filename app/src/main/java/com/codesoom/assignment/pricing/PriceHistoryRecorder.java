@@ -0,0 +1,112 @@
+package com.codesoom.assignment.pricing;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductPrice;
+import com.codesoom.assignment.domain.ProductPriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 상품 가격이 정해지거나 바뀌면 가격 이력에 추가합니다.
+ * <p>
+ * 변경이 커밋된 뒤 요청 스레드에서는 큐에 넣기만 하고, {@link #flush()}가 모인 기록을
+ * 한 번에 저장합니다. 그래서 상품 수정 요청은 이력 저장을 기다리지 않습니다.
+ * 큐가 가득 차면 기록을 버리고 {@code pricing.history.dropped}를 올립니다.
+ * 저장에 실패한 batch는 버리지 않고 다음 flush에서 다시 저장합니다.
+ * <p>
+ * 기록은 저장되기 전까지 메모리에만 있습니다. 상품 변경은 커밋되었지만 아직 저장하지 않은
+ * 기록은 프로세스가 비정상 종료되면 사라집니다. 평소에는 마지막 flush 이후의
+ * {@code pricing.history.flush-interval} 동안 쌓인 기록이고, 저장소 장애로 재시도 중이면
+ * 장애 동안 쌓인 기록 전부입니다. 정상 종료할 때는 bean을 닫으면서 {@link #flush()}합니다.
+ * 상품 수정 트랜잭션에 이력 저장을 넣지 않으려고 이 유실을 감수하므로,
+ * 빠짐없는 이력이 필요하면 outbox의 상품 변경 이벤트로 보충해야 합니다.
+ */
+@Slf4j
+public class PriceHistoryRecorder {
+    private final ProductPriceRepository productPriceRepository;
+
+    private final Clock clock;
+
+    private final int batchSize;
+
+    private final BlockingQueue<ProductPrice> queue;
+
+    private final Counter dropped;
+
+    private final List<ProductPrice> batch = new ArrayList<>();
+
+    public PriceHistoryRecorder(ProductPriceRepository productPriceRepository,
+                                Clock clock,
+                                int capacity,
+                                int batchSize,
+                                MeterRegistry meterRegistry) {
+        this.productPriceRepository = productPriceRepository;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.dropped = meterRegistry.counter("pricing.history.dropped");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!event.isPriceChanged()) {
+            return;
+        }
+
+        Product product = event.getProduct();
+        ProductPrice price = ProductPrice.builder()
+                .productId(product.getId())
+                .price(product.getPrice())
+                .changedAt(LocalDateTime.now(clock))
+                .build();
+        if (!queue.offer(price)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 큐가 빌 때까지 {@code batchSize}개씩 저장합니다.
+     *
+     * @return 저장한 기록 수
+     */
+    @Scheduled(fixedDelayString = "${pricing.history.flush-interval:200}")
+    public synchronized int flush() {
+        int saved = 0;
+        while (true) {
+            if (batch.isEmpty()) {
+                queue.drainTo(batch, batchSize);
+            }
+            if (batch.isEmpty()) {
+                return saved;
+            }
+
+            try {
+                productPriceRepository.saveAll(new ArrayList<>(batch));
+            } catch (RuntimeException e) {
+                log.warn("Could not save {} price changes; will retry",
+                        batch.size(), e);
+                return saved;
+            }
+            saved += batch.size();
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return 아직 저장하지 않은 기록 수
+     */
+    public synchronized int pending() {
+        return batch.size() + queue.size();
+    }
+}
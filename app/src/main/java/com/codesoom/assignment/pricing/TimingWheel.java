@@ -0,0 +1,218 @@
+package com.codesoom.assignment.pricing;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 여러 단계의 바퀴로 된 timer입니다. 항목은 {@code long} id와 만료 tick 쌍입니다.
+ * <p>
+ * 단계마다 {@value #SLOTS}칸이 있고, 한 칸의 폭은 0단계가 1 tick, 그 위는 아래 단계 한 바퀴입니다.
+ * 항목은 현재 tick과 같은 상위 칸을 공유하는 가장 낮은 단계에 들어가므로 추가는 상수 시간입니다.
+ * 시간이 흘러 어느 단계의 칸에 들어서면 그 칸의 항목을 한 단계 아래로 옮기고,
+ * 0단계 칸에 들어서면 그 칸의 항목이 만료됩니다. 항목은 칸마다 {@code long} 배열에 담아
+ * 항목 수백만 개에도 객체를 만들지 않습니다.
+ * <p>
+ * 스레드 안전하지 않습니다. 호출한 쪽이 잠급니다.
+ */
+public class TimingWheel {
+    private static final int BITS = 6;
+
+    private static final int SLOTS = 1 << BITS;
+
+    private static final int MASK = SLOTS - 1;
+
+    private static final int LEVELS = 7;
+
+    private final Slot[][] wheels = new Slot[LEVELS][SLOTS];
+
+    private final Slot overflow = new Slot();
+
+    private final Slot expired = new Slot();
+
+    private long current;
+
+    private int size;
+
+    public TimingWheel(long startTick) {
+        this.current = startTick;
+        for (Slot[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = new Slot();
+            }
+        }
+    }
+
+    public long currentTick() {
+        return current;
+    }
+
+    /**
+     * @return 만료되지 않고 남아 있는 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 항목을 넣습니다. {@code deadline}이 이미 지났으면 다음 {@link #advanceTo}에서 만료됩니다.
+     */
+    public void add(long id, long deadline) {
+        size++;
+        place(id, deadline);
+    }
+
+    /**
+     * 현재 tick을 {@code tick}까지 옮기고, 그 사이 만료된 항목의 id를 {@code consumer}에 넘깁니다.
+     * 항목이 없는 칸과 단계는 건너뛰므로, 한참 뒤로 옮겨도 지나는 tick 수가 아니라
+     * 항목이 있는 칸 수만큼만 일합니다.
+     *
+     * @return 만료된 항목 수
+     */
+    public int advanceTo(long tick, LongConsumer consumer) {
+        return advanceWithDeadlines(tick, (id, deadline) -> consumer.accept(id));
+    }
+
+    /**
+     * {@link #advanceTo(long, LongConsumer)}와 같고, 만료된 항목의 만료 tick도 함께 넘깁니다.
+     *
+     * @return 만료된 항목 수
+     */
+    public int advanceWithDeadlines(long tick, ExpiryConsumer consumer) {
+        int count = drain(expired, consumer);
+
+        while (current < tick) {
+            long next = nextOccupied();
+            if (next > tick) {
+                current = tick;
+                break;
+            }
+            current = next;
+
+            for (int level = highestBoundary(current); level > 0; level--) {
+                Slot slot = wheels[level][index(current, level)];
+                cascade(slot);
+            }
+            if (highestBoundary(current) == LEVELS - 1
+                    && index(current, LEVELS - 1) == 0) {
+                cascade(overflow);
+            }
+
+            count += drain(wheels[0][index(current, 0)], consumer);
+            count += drain(expired, consumer);
+        }
+        return count;
+    }
+
+    /**
+     * 항목은 단계마다 현재 칸보다 뒤의 칸에만 있고, 낮은 단계의 남은 칸은 모두 높은 단계의
+     * 다음 칸보다 먼저 시작하므로, 낮은 단계부터 찾은 첫 칸이 가장 이른 칸입니다.
+     *
+     * @return 현재 tick 뒤에 항목이 있는 가장 이른 칸의 시작 tick. 항목이 없으면 {@link Long#MAX_VALUE}
+     */
+    private long nextOccupied() {
+        for (int level = 0; level < LEVELS; level++) {
+            Slot[] wheel = wheels[level];
+            for (int i = index(current, level) + 1; i < SLOTS; i++) {
+                if (wheel[i].count > 0) {
+                    int shift = BITS * (level + 1);
+                    return (current >>> shift << shift) | ((long) i << (BITS * level));
+                }
+            }
+        }
+        if (overflow.count > 0) {
+            int shift = BITS * LEVELS;
+            return ((current >>> shift) + 1) << shift;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private void place(long id, long deadline) {
+        if (deadline <= current) {
+            expired.add(id, deadline);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * (level + 1);
+            if ((deadline >>> shift) == (current >>> shift)) {
+                wheels[level][index(deadline, level)].add(id, deadline);
+                return;
+            }
+        }
+        overflow.add(id, deadline);
+    }
+
+    private void cascade(Slot slot) {
+        if (slot.count == 0) {
+            return;
+        }
+        long[] entries = slot.entries;
+        int count = slot.count;
+        slot.reset();
+        for (int i = 0; i < count; i++) {
+            place(entries[i * 2], entries[i * 2 + 1]);
+        }
+    }
+
+    private int drain(Slot slot, ExpiryConsumer consumer) {
+        int count = slot.count;
+        if (count == 0) {
+            return 0;
+        }
+        long[] entries = slot.entries;
+        slot.reset();
+        for (int i = 0; i < count; i++) {
+            consumer.accept(entries[i * 2], entries[i * 2 + 1]);
+        }
+        size -= count;
+        return count;
+    }
+
+    /**
+     * @return {@code tick}에서 칸 경계가 시작되는 가장 높은 단계. 0단계 칸 경계는 매 tick입니다.
+     */
+    private static int highestBoundary(long tick) {
+        int level = 0;
+        while (level < LEVELS - 1
+                && (tick & ((1L << (BITS * (level + 1))) - 1)) == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    private static int index(long tick, int level) {
+        return (int) (tick >>> (BITS * level)) & MASK;
+    }
+
+    /**
+     * 만료된 항목을 받습니다.
+     */
+    @FunctionalInterface
+    public interface ExpiryConsumer {
+        void accept(long id, long deadline);
+    }
+
+    private static final class Slot {
+        private static final long[] EMPTY = new long[0];
+
+        private long[] entries = EMPTY;
+
+        private int count;
+
+        void add(long id, long deadline) {
+            if (count * 2 == entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(8, entries.length * 2));
+            }
+            entries[count * 2] = id;
+            entries[count * 2 + 1] = deadline;
+            count++;
+        }
+
+        /**
+         * 배열을 떼어 내고 비웁니다. 떼어 낸 배열은 호출한 쪽이 끝까지 읽습니다.
+         */
+        void reset() {
+            entries = EMPTY;
+            count = 0;
+        }
+    }
+}
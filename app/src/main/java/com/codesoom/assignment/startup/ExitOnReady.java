@@ -0,0 +1,35 @@
+package com.codesoom.assignment.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+/**
+ * 애플리케이션이 준비되자마자 종료합니다.
+ * <p>
+ * AppCDS 아카이브를 만들 때 기동에 쓰인 클래스만 기록하려고 씁니다.
+ * 기동 시간을 반복 측정할 때도 씁니다.
+ */
+@Slf4j
+public class ExitOnReady implements ApplicationListener<ApplicationReadyEvent> {
+    private final IntConsumer exit;
+
+    public ExitOnReady() {
+        this(System::exit);
+    }
+
+    ExitOnReady(IntConsumer exit) {
+        this.exit = exit;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info("Ready {} ms after JVM start; exiting",
+                ManagementFactory.getRuntimeMXBean().getUptime());
+        exit.accept(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.codesoom.assignment.startup;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빈마다 생성 시작부터 초기화 완료까지 걸린 시간을 기록하고,
+ * 애플리케이션이 준비되면 오래 걸린 순서로 로그에 남깁니다.
+ * <p>
+ * 시간은 의존하는 빈을 만드는 시간까지 포함합니다(inclusive).
+ * 어떤 빈이 느린지 찾을 때는 가장 깊은 곳에 있는 느린 빈부터 봅니다.
+ */
+@Slf4j
+public class StartupTimeline implements InstantiationAwareBeanPostProcessor,
+        ApplicationListener<ApplicationReadyEvent> {
+    private final int reportSize;
+
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    public StartupTimeline(int reportSize) {
+        this.reportSize = reportSize;
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass,
+                                                 String beanName) {
+        startedAt.putIfAbsent(beanName, System.nanoTime());
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Long started = startedAt.remove(beanName);
+        if (started != null) {
+            synchronized (entries) {
+                entries.add(new Entry(beanName, bean.getClass().getName(),
+                        (System.nanoTime() - started) / 1_000_000));
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        List<Entry> slowest = getSlowest();
+        log.info("Ready {} ms after JVM start; {} beans recorded, slowest {}:",
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                entries.size(), slowest.size());
+        for (Entry entry : slowest) {
+            log.info("{} ms\t{}\t{}", entry.getMillis(), entry.getBeanName(),
+                    entry.getType());
+        }
+    }
+
+    public List<Entry> getSlowest() {
+        synchronized (entries) {
+            List<Entry> sorted = new ArrayList<>(entries);
+            sorted.sort(Comparator.comparingLong(Entry::getMillis).reversed());
+            return sorted.subList(0, Math.min(reportSize, sorted.size()));
+        }
+    }
+
+    @Getter
+    public static class Entry {
+        private final String beanName;
+
+        private final String type;
+
+        private final long millis;
+
+        Entry(String beanName, String type, long millis) {
+            this.beanName = beanName;
+            this.type = type;
+            this.millis = millis;
+        }
+    }
+}
@@ -1,22 +1,42 @@
 package com.codesoom.assignment.utils;
 
+import com.codesoom.assignment.cache.CacheNames;
 import com.codesoom.assignment.errors.InvalidTokenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 
 @Component
 public class JwtUtil {
 
+    private static final int REJECTED_TOKENS_CAPACITY = 4096;
+
+    private static final Duration REJECTED_TOKENS_TTL = Duration.ofMinutes(1);
+
     private final Key key;
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    private final RejectedTokens rejectedTokens;
+
+    public JwtUtil(String secret) {
+        this(secret, REJECTED_TOKENS_CAPACITY, REJECTED_TOKENS_TTL);
+    }
+
+    @Autowired
+    public JwtUtil(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.rejected-tokens.capacity:4096}") int rejectedTokensCapacity,
+            @Value("${jwt.rejected-tokens.ttl:1m}") Duration rejectedTokensTtl
+    ) {
         key = Keys.hmacShaKeyFor(secret.getBytes());
+        rejectedTokens = new RejectedTokens(rejectedTokensCapacity, rejectedTokensTtl);
     }
 
     /**
@@ -34,14 +54,21 @@ public class JwtUtil {
 
     /**
      * token을 디코딩하여 payload 정보를 리턴합니다.
+     * 디코딩된 결과는 tokens 캐시에 보관되며, 유저가 변경되면 무효화됩니다.
+     * 서명 검증에 실패한 토큰은 잠시 기억해 두고 다시 검증하지 않습니다.
      * @param token
      * @return
      */
+    @Cacheable(CacheNames.TOKENS)
     public Claims decode(String token) {
         if (token == null || token.isBlank()) {
             throw new InvalidTokenException(token);
         }
 
+        if (rejectedTokens.contains(token)) {
+            throw new InvalidTokenException(token);
+        }
+
         try {
             return Jwts.parserBuilder()
                     .setSigningKey(key)
@@ -49,6 +76,7 @@ public class JwtUtil {
                     .parseClaimsJws(token)
                     .getBody();
         } catch (SignatureException e) {
+            rejectedTokens.add(token);
             throw new InvalidTokenException(token);
         }
     }
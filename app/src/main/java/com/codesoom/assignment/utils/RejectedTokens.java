@@ -0,0 +1,71 @@
+package com.codesoom.assignment.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+
+/**
+ * 서명 검증에 실패한 토큰을 잠시 기억하는 고정 크기 표입니다.
+ * <p>
+ * 토큰 자체 대신 SHA-256 digest의 앞 64비트를 저장하고, digest로 자리를 정해 덮어씁니다.
+ * JDK의 digest만 쓰므로 이 클래스를 가져다 쓰는 reactive 모듈에 Guava가 없어도 됩니다.
+ * 충돌하면 이전 기록이 밀려날 뿐이므로 메모리는 {@code capacity}에 비례해 고정됩니다.
+ * 두 배열을 잠금 없이 읽고 쓰므로 경쟁 상황에서 유효 기간이 어긋날 수 있지만,
+ * digest가 일치해야만 거절하므로 정상 토큰이 거절되지는 않습니다.
+ */
+public class RejectedTokens {
+    private static final ThreadLocal<MessageDigest> SHA_256 =
+            ThreadLocal.withInitial(RejectedTokens::sha256);
+
+    private final long[] digests;
+
+    private final long[] expiresAt;
+
+    private final int mask;
+
+    private final long ttlNanos;
+
+    /**
+     * @param capacity 기억할 토큰 수. 2의 거듭제곱으로 올림합니다.
+     * @param ttl 기억하는 기간
+     */
+    public RejectedTokens(int capacity, Duration ttl) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.digests = new long[size];
+        this.expiresAt = new long[size];
+        this.mask = size - 1;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public boolean contains(String token) {
+        long digest = digestOf(token);
+        int slot = slotOf(digest);
+        return digests[slot] == digest && expiresAt[slot] - System.nanoTime() > 0;
+    }
+
+    public void add(String token) {
+        long digest = digestOf(token);
+        int slot = slotOf(digest);
+        expiresAt[slot] = System.nanoTime() + ttlNanos;
+        digests[slot] = digest;
+    }
+
+    private long digestOf(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(digest).getLong();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int slotOf(long digest) {
+        return (int) (digest ^ (digest >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,35 @@
+package com.codesoom.assignment.warmup;
+
+import com.codesoom.assignment.popularity.ProductAccessCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 조회 횟수 스냅샷을 주기적으로, 그리고 종료할 때 저장합니다.
+ * 다음 기동의 {@link Warmup}이 이 파일로 자주 조회되는 상품을 미리 읽습니다.
+ */
+@Slf4j
+public class AccessSnapshotWriter {
+    private final ProductAccessCounter counter;
+
+    private final Path path;
+
+    public AccessSnapshotWriter(ProductAccessCounter counter, Path path) {
+        this.counter = counter;
+        this.path = path;
+    }
+
+    @Scheduled(fixedDelayString = "${warmup.snapshot.interval:60000}")
+    @PreDestroy
+    public void write() {
+        try {
+            counter.writeSnapshot(path);
+        } catch (IOException e) {
+            log.warn("Failed to write access snapshot to {}", path, e);
+        }
+    }
+}
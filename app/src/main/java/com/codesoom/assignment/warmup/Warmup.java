@@ -0,0 +1,191 @@
+package com.codesoom.assignment.warmup;
+
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import com.codesoom.assignment.popularity.ProductAccessCounter;
+import com.codesoom.assignment.utils.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntSupplier;
+
+/**
+ * 트래픽을 받기 전에 캐시를 채우고 자주 쓰이는 코드 경로를 JIT가 컴파일하게 합니다.
+ * <ol>
+ *     <li>조회 횟수 스냅샷의 상위 상품을 products 캐시에 읽어 둡니다.</li>
+ *     <li>토큰 인코딩/디코딩을 반복합니다.</li>
+ *     <li>웹 서버가 떠 있으면 상품 조회, 로그인 요청을 자기 자신에게 보냅니다.</li>
+ * </ol>
+ * Spring Boot는 모든 {@link ApplicationRunner}가 끝난 뒤 readiness를 ACCEPTING_TRAFFIC으로 바꾸므로,
+ * 이 작업이 끝나거나 {@code deadline}이 지나기 전에는 준비되지 않은 상태로 남습니다.
+ * <p>
+ * 자기 자신에게 보내는 요청에는 기동할 때마다 새로 만드는 토큰을 {@link #HEADER}로 붙입니다.
+ * {@link WarmupRequestFilter}가 루프백에서 온, 토큰이 맞는 요청에만 {@link #ATTRIBUTE}를 표시하고
+ * 컨트롤러는 표시된 요청을 상품 조회 횟수에 세지 않습니다.
+ */
+@Slf4j
+public class Warmup implements ApplicationRunner {
+    /**
+     * 예열 요청의 토큰을 담는 헤더입니다.
+     */
+    public static final String HEADER = "X-Warmup";
+
+    /**
+     * 확인된 예열 요청에 붙는 요청 속성입니다.
+     */
+    public static final String ATTRIBUTE = Warmup.class.getName() + ".REQUEST";
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final String LOGIN_JSON =
+            "{\"email\":\"warmup@invalid\",\"password\":\"warmup\"}";
+
+    private final ProductService productService;
+
+    private final JwtUtil jwtUtil;
+
+    private final Path snapshot;
+
+    private final int topProducts;
+
+    private final int iterations;
+
+    private final Duration deadline;
+
+    private final IntSupplier port;
+
+    private final String token = newToken();
+
+    public Warmup(ProductService productService,
+                  JwtUtil jwtUtil,
+                  Path snapshot,
+                  int topProducts,
+                  int iterations,
+                  Duration deadline,
+                  IntSupplier port) {
+        this.productService = productService;
+        this.jwtUtil = jwtUtil;
+        this.snapshot = snapshot;
+        this.topProducts = topProducts;
+        this.iterations = iterations;
+        this.deadline = deadline;
+        this.port = port;
+    }
+
+    /**
+     * 이번 기동의 예열 요청 토큰을 리턴합니다.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+                new Thread(runnable, "warmup"));
+        Future<?> task = executor.submit(() -> {
+            warmUp();
+            return null;
+        });
+
+        try {
+            task.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Warmup finished in {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("Warmup did not finish within {}; continuing", deadline);
+        } catch (ExecutionException e) {
+            log.warn("Warmup failed; continuing", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    void warmUp() throws IOException, InterruptedException {
+        List<Long> hotProducts = ProductAccessCounter.readTop(snapshot, topProducts);
+        int loaded = preload(hotProducts);
+        log.info("Preloaded {} of {} hot products", loaded, hotProducts.size());
+
+        for (long i = 1; i <= iterations && !Thread.currentThread().isInterrupted(); i++) {
+            jwtUtil.decode(jwtUtil.encode(-i));
+        }
+
+        int serverPort = port.getAsInt();
+        if (serverPort > 0) {
+            sendRequests(serverPort, hotProducts);
+        }
+    }
+
+    private int preload(List<Long> ids) {
+        int loaded = 0;
+        for (Long id : ids) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            try {
+                productService.getProduct(id);
+                loaded++;
+            } catch (ProductNotFoundException e) {
+                // 스냅샷 이후 삭제된 상품
+            }
+        }
+        return loaded;
+    }
+
+    private void sendRequests(int serverPort, List<Long> hotProducts)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        String base = "http://localhost:" + serverPort;
+        String authorization = "Bearer " + jwtUtil.encode(-1L);
+
+        for (int i = 0; i < iterations; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+
+            String detail = hotProducts.isEmpty()
+                    ? "/products"
+                    : "/products/" + hotProducts.get(i % hotProducts.size());
+
+            send(client, HttpRequest.newBuilder(URI.create(base + detail))
+                    .header("Accept-Encoding", "gzip")
+                    .header("Authorization", authorization));
+            send(client, HttpRequest.newBuilder(
+                    URI.create(base + "/products?fields=id,name,price")));
+            send(client, HttpRequest.newBuilder(URI.create(base + "/session"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(LOGIN_JSON)));
+        }
+    }
+
+    private void send(HttpClient client, HttpRequest.Builder request)
+            throws IOException, InterruptedException {
+        client.send(request.header(HEADER, token).build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
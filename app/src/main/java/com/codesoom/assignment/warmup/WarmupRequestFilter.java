@@ -0,0 +1,52 @@
+package com.codesoom.assignment.warmup;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * {@link Warmup}이 자기 자신에게 보낸 요청에 {@link Warmup#ATTRIBUTE}를 표시합니다.
+ * <p>
+ * 루프백 주소에서 왔고 {@link Warmup#HEADER} 값이 이번 기동의 토큰과 같은 요청만 믿습니다.
+ * 외부 클라이언트가 헤더를 붙여도 조회 횟수에서 빠지지 않습니다.
+ */
+public class WarmupRequestFilter extends OncePerRequestFilter {
+    private final byte[] token;
+
+    public WarmupRequestFilter(String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isWarmup(request)) {
+            request.setAttribute(Warmup.ATTRIBUTE, Boolean.TRUE);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isWarmup(HttpServletRequest request) throws IOException {
+        String header = request.getHeader(Warmup.HEADER);
+        if (header == null) {
+            return false;
+        }
+
+        // 원격 주소는 IP 문자열이라 이름 조회 없이 바로 변환됩니다.
+        if (!InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress()) {
+            return false;
+        }
+
+        return MessageDigest.isEqual(token,
+                header.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+CREATE SEQUENCE IF NOT EXISTS hibernate_sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS product (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    maker VARCHAR(255),
+    price INTEGER,
+    image_url VARCHAR(255),
+    stock INTEGER,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE product ADD COLUMN IF NOT EXISTS stock INTEGER;
+
+CREATE TABLE IF NOT EXISTS user (
+    id BIGINT NOT NULL,
+    email VARCHAR(255),
+    name VARCHAR(255),
+    password VARCHAR(255),
+    deleted BOOLEAN NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id BIGINT NOT NULL,
+    aggregate_type VARCHAR(255),
+    aggregate_id BIGINT,
+    event_type VARCHAR(255),
+    payload CLOB,
+    created_at TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS product_price (
+    id BIGINT NOT NULL,
+    product_id BIGINT,
+    price INTEGER,
+    changed_at TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_price_product_changed
+    ON product_price (product_id, changed_at);
+
+CREATE TABLE IF NOT EXISTS scheduled_price_change (
+    id BIGINT NOT NULL,
+    product_id BIGINT,
+    price INTEGER,
+    effective_at TIMESTAMP,
+    applied_at TIMESTAMP,
+    superseded BOOLEAN DEFAULT FALSE NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE scheduled_price_change
+    ADD COLUMN IF NOT EXISTS superseded BOOLEAN DEFAULT FALSE NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_scheduled_price_change_pending
+    ON scheduled_price_change (applied_at, effective_at);
+
+CREATE INDEX IF NOT EXISTS idx_scheduled_price_change_product
+    ON scheduled_price_change (product_id, effective_at);
+
+CREATE TABLE IF NOT EXISTS product_view (
+    product_id BIGINT NOT NULL,
+    views BIGINT,
+    PRIMARY KEY (product_id)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT NOT NULL,
+    product_id BIGINT,
+    user_id BIGINT,
+    quantity INTEGER,
+    price INTEGER,
+    created_at TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_orders_user ON orders (user_id);
@@ -0,0 +1,113 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.Order;
+import com.codesoom.assignment.domain.OrderRepository;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.dto.OrderData;
+import com.codesoom.assignment.errors.OutOfStockException;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import com.codesoom.assignment.orders.OrderWriter;
+import com.codesoom.assignment.orders.StockLedger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OrderServiceTest {
+    private final ProductService productService = mock(ProductService.class);
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+
+    private final StockLedger stockLedger = mock(StockLedger.class);
+
+    private final OrderWriter orderWriter = mock(OrderWriter.class);
+
+    private final OrderService orderService = new OrderService(productService,
+            orderRepository, stockLedger, orderWriter);
+
+    @BeforeEach
+    void setUp() {
+        given(productService.getProduct(1L)).willReturn(Product.builder()
+                .id(1L)
+                .name("쥐돌이")
+                .price(5000)
+                .stock(10)
+                .build());
+
+        given(productService.getProduct(1000L))
+                .willThrow(new ProductNotFoundException(1000L));
+
+        given(orderWriter.submit(any(Order.class))).will(invocation ->
+                CompletableFuture.completedFuture(invocation.getArgument(0)));
+    }
+
+    @Test
+    void placeOrder() {
+        given(stockLedger.reserve(1L, 2)).willReturn(true);
+
+        Order order = orderService.placeOrder(7L, orderData(1L, 2));
+
+        assertThat(order.getUserId()).isEqualTo(7L);
+        assertThat(order.getPrice()).isEqualTo(5000);
+        assertThat(order.getCreatedAt()).isNotNull();
+
+        ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+        verify(orderWriter).submit(captor.capture());
+        assertThat(captor.getValue().getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    void placeOrderOutOfStock() {
+        given(stockLedger.reserve(1L, 20)).willReturn(false);
+
+        assertThatThrownBy(() -> orderService.placeOrder(7L, orderData(1L, 20)))
+                .isInstanceOf(OutOfStockException.class);
+
+        verify(orderWriter, never()).submit(any(Order.class));
+    }
+
+    @Test
+    void placeOrderRejectedWhenWriting() {
+        given(stockLedger.reserve(1L, 2)).willReturn(true);
+        given(orderWriter.submit(any(Order.class)))
+                .willReturn(CompletableFuture.failedFuture(new OutOfStockException(1L)));
+
+        assertThatThrownBy(() -> orderService.placeOrder(7L, orderData(1L, 2)))
+                .isInstanceOf(OutOfStockException.class);
+    }
+
+    @Test
+    void placeOrderWithNotExistedProduct() {
+        assertThatThrownBy(() -> orderService.placeOrder(7L, orderData(1000L, 1)))
+                .isInstanceOf(ProductNotFoundException.class);
+
+        verify(stockLedger, never()).reserve(anyLong(), anyInt());
+    }
+
+    @Test
+    void getOrders() {
+        Order order = Order.builder().id(1L).userId(7L).build();
+        given(orderRepository.findAllByUserIdOrderById(7L)).willReturn(List.of(order));
+
+        assertThat(orderService.getOrders(7L)).containsExactly(order);
+    }
+
+    private static OrderData orderData(Long productId, int quantity) {
+        return OrderData.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.ChangeType;
+import com.codesoom.assignment.domain.PriceChangesScheduledEvent;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.domain.ScheduledPriceChange;
+import com.codesoom.assignment.domain.ScheduledPriceChangeRepository;
+import com.codesoom.assignment.dto.PriceChangeData;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PriceChangeServiceTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository =
+            mock(ScheduledPriceChangeRepository.class);
+
+    private final ProductRepository productRepository =
+            mock(ProductRepository.class);
+
+    private final ApplicationEventPublisher eventPublisher =
+            mock(ApplicationEventPublisher.class);
+
+    private final PriceChangeService priceChangeService = new PriceChangeService(
+            scheduledPriceChangeRepository, productRepository, eventPublisher);
+
+    @Test
+    void schedulePriceChanges() {
+        given(scheduledPriceChangeRepository.saveAll(any()))
+                .will(invocation -> invocation.getArgument(0));
+
+        List<ScheduledPriceChange> scheduled =
+                priceChangeService.schedulePriceChanges(List.of(
+                        PriceChangeData.builder()
+                                .productId(1L)
+                                .price(4000)
+                                .effectiveAt(T0)
+                                .build()));
+
+        assertThat(scheduled).extracting(ScheduledPriceChange::getPrice)
+                .containsExactly(4000);
+        verify(eventPublisher).publishEvent(any(PriceChangesScheduledEvent.class));
+    }
+
+    @Test
+    void applyUsesLatestPricePerProductAndPublishesChanges() {
+        given(scheduledPriceChangeRepository.findPendingByIdIn(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(
+                        change(1L, 1L, 4000, T0),
+                        change(2L, 2L, 900, T0),
+                        change(3L, 1L, 3500, T0.plusSeconds(1))));
+        given(productRepository.findAllByIdIn(Set.of(1L, 2L)))
+                .willReturn(List.of(product(1L, 5000), product(2L, 1000)));
+
+        int applied = priceChangeService.applyPriceChanges(List.of(1L, 2L, 3L), T0);
+
+        assertThat(applied).isEqualTo(3);
+
+        Map<Long, Integer> prices = new LinkedHashMap<>();
+        prices.put(1L, 3500);
+        prices.put(2L, 900);
+        verify(productRepository).updatePrices(prices);
+        verify(scheduledPriceChangeRepository)
+                .markApplied(List.of(1L, 2L, 3L), T0);
+
+        List<ProductChangedEvent> events = publishedEvents();
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getType()).isEqualTo(ChangeType.UPDATED);
+        assertThat(events.get(0).getPreviousPrice()).isEqualTo(5000);
+        assertThat(events.get(0).getProduct().getPrice()).isEqualTo(3500);
+    }
+
+    @Test
+    void applySkipsAlreadyAppliedChanges() {
+        given(scheduledPriceChangeRepository.findPendingByIdIn(List.of(1L)))
+                .willReturn(List.of());
+
+        assertThat(priceChangeService.applyPriceChanges(List.of(1L), T0)).isZero();
+
+        verify(productRepository, never()).updatePrices(anyMap());
+        verify(scheduledPriceChangeRepository, never())
+                .markApplied(anyCollection(), any());
+    }
+
+    @Test
+    void applySupersedesChangesOlderThanAppliedOne() {
+        given(scheduledPriceChangeRepository.findPendingByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(
+                        change(1L, 1L, 4000, T0),
+                        change(2L, 2L, 900, T0)));
+        given(scheduledPriceChangeRepository.findLastApplied(Set.of(1L, 2L)))
+                .willReturn(List.of(change(5L, 1L, 3500, T0.plusSeconds(1))));
+        given(productRepository.findAllByIdIn(Set.of(2L)))
+                .willReturn(List.of(product(2L, 1000)));
+
+        assertThat(priceChangeService.applyPriceChanges(List.of(1L, 2L), T0))
+                .isEqualTo(2);
+
+        verify(scheduledPriceChangeRepository).markSuperseded(List.of(1L), T0);
+        verify(scheduledPriceChangeRepository).markApplied(List.of(2L), T0);
+        verify(productRepository).updatePrices(Map.of(2L, 900));
+        assertThat(publishedEvents()).hasSize(1);
+    }
+
+    @Test
+    void applyOnlySupersededChangesLeavesPrices() {
+        given(scheduledPriceChangeRepository.findPendingByIdIn(List.of(1L)))
+                .willReturn(List.of(change(1L, 1L, 4000, T0)));
+        given(scheduledPriceChangeRepository.findLastApplied(Set.of(1L)))
+                .willReturn(List.of(change(5L, 1L, 3500, T0.plusSeconds(1))));
+
+        assertThat(priceChangeService.applyPriceChanges(List.of(1L), T0))
+                .isEqualTo(1);
+
+        verify(scheduledPriceChangeRepository).markSuperseded(List.of(1L), T0);
+        verify(productRepository, never()).updatePrices(anyMap());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private List<ProductChangedEvent> publishedEvents() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce())
+                .publishEvent(captor.capture());
+        List<ProductChangedEvent> events = new ArrayList<>();
+        captor.getAllValues().forEach(event ->
+                events.add((ProductChangedEvent) event));
+        return events;
+    }
+
+    private static ScheduledPriceChange change(Long id, Long productId,
+                                               int price, LocalDateTime at) {
+        return ScheduledPriceChange.builder()
+                .id(id)
+                .productId(productId)
+                .price(price)
+                .effectiveAt(at)
+                .build();
+    }
+
+    private static Product product(Long id, int price) {
+        return Product.builder()
+                .id(id)
+                .name("쥐돌이")
+                .price(price)
+                .build();
+    }
+}
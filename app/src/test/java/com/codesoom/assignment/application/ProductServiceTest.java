@@ -1,6 +1,12 @@
 package com.codesoom.assignment.application;
 
+import com.codesoom.assignment.cache.CacheNames;
+import com.codesoom.assignment.cache.SharedProductCache;
+import com.codesoom.assignment.domain.ChangeType;
 import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductFields;
+import com.codesoom.assignment.domain.ProductProjectionRepository;
 import com.codesoom.assignment.domain.ProductRepository;
 import com.codesoom.assignment.dto.ProductData;
 import com.codesoom.assignment.errors.ProductNotFoundException;
@@ -8,8 +14,12 @@ import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,6 +27,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class ProductServiceTest {
@@ -25,11 +37,23 @@ class ProductServiceTest {
     private final ProductRepository productRepository =
             mock(ProductRepository.class);
 
+    private final ProductProjectionRepository productProjectionRepository =
+            mock(ProductProjectionRepository.class);
+
+    private final ApplicationEventPublisher eventPublisher =
+            mock(ApplicationEventPublisher.class);
+
+    private final SharedProductCache sharedProductCache =
+            mock(SharedProductCache.class);
+
     @BeforeEach
     void setUp() {
         Mapper mapper = DozerBeanMapperBuilder.buildDefault();
 
-        productService = new ProductService(mapper, productRepository);
+        productService = new ProductService(mapper, productRepository,
+                productProjectionRepository, eventPublisher,
+                new ConcurrentMapCacheManager(CacheNames.MISSING_PRODUCTS),
+                sharedProductCache);
 
         Product product = Product.builder()
                 .id(1L)
@@ -79,12 +103,87 @@ class ProductServiceTest {
         assertThat(product.getName()).isEqualTo("쥐돌이");
     }
 
+    @Test
+    void getProductFillsSharedCacheWithStamp() {
+        given(sharedProductCache.stamp(1L)).willReturn(42L);
+
+        Product product = productService.getProduct(1L);
+
+        verify(sharedProductCache).put(product, 42L);
+    }
+
+    @Test
+    void getProductFromSharedCache() {
+        given(sharedProductCache.get(1L)).willReturn(Optional.of(
+                Product.builder().id(1L).name("공유된 쥐돌이").build()));
+
+        assertThat(productService.getProduct(1L).getName())
+                .isEqualTo("공유된 쥐돌이");
+
+        verify(productRepository, never()).findById(1L);
+    }
+
     @Test
     void getProductWithNotExsitedId() {
         assertThatThrownBy(() -> productService.getProduct(1000L))
                 .isInstanceOf(ProductNotFoundException.class);
     }
 
+    @Test
+    void getProductWithNotExsitedIdRemembersMiss() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> productService.getProduct(1000L))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+
+        verify(productRepository, times(1)).findById(1000L);
+    }
+
+    @Test
+    void createProductForgetsMissOfAssignedId() {
+        assertThatThrownBy(() -> productService.getProduct(2L))
+                .isInstanceOf(ProductNotFoundException.class);
+
+        Product created = productService.createProduct(ProductData.builder()
+                .name("쥐돌이")
+                .maker("냥이월드")
+                .price(5000)
+                .build());
+        given(productRepository.findById(2L)).willReturn(Optional.of(created));
+
+        assertThat(productService.getProduct(2L)).isEqualTo(created);
+    }
+
+    @Test
+    void getProductsWithFields() {
+        ProductFields fields = ProductFields.parse("id,name");
+        given(productProjectionRepository.findAll(fields))
+                .willReturn(List.of(Map.of("id", 1L, "name", "쥐돌이")));
+
+        assertThat(productService.getProducts(fields))
+                .containsExactly(Map.of("id", 1L, "name", "쥐돌이"));
+    }
+
+    @Test
+    void getProductWithFields() {
+        ProductFields fields = ProductFields.parse("name");
+        given(productProjectionRepository.findById(1L, fields))
+                .willReturn(Optional.of(Map.of("name", "쥐돌이")));
+
+        assertThat(productService.getProduct(1L, fields))
+                .isEqualTo(Map.of("name", "쥐돌이"));
+    }
+
+    @Test
+    void getProductWithFieldsAndNotExsitedId() {
+        ProductFields fields = ProductFields.parse("name");
+        given(productProjectionRepository.findById(1000L, fields))
+                .willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productService.getProduct(1000L, fields))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
     @Test
     void createProduct() {
         ProductData productData = ProductData.builder()
@@ -100,6 +199,8 @@ class ProductServiceTest {
         assertThat(product.getId()).isEqualTo(2L);
         assertThat(product.getName()).isEqualTo("쥐돌이");
         assertThat(product.getMaker()).isEqualTo("냥이월드");
+
+        assertThat(publishedEvent().getType()).isEqualTo(ChangeType.CREATED);
     }
 
     @Test
@@ -112,8 +213,29 @@ class ProductServiceTest {
 
         Product product = productService.updateProduct(1L, productData);
 
+        verify(productRepository).save(product);
+
         assertThat(product.getId()).isEqualTo(1L);
         assertThat(product.getName()).isEqualTo("쥐순이");
+
+        assertThat(publishedEvent().getType()).isEqualTo(ChangeType.UPDATED);
+        assertThat(publishedEvent().isPriceChanged()).isFalse();
+    }
+
+    @Test
+    void updateProductWithNewPrice() {
+        ProductData productData = ProductData.builder()
+                .name("쥐돌이")
+                .maker("냥이월드")
+                .price(6000)
+                .build();
+
+        productService.updateProduct(1L, productData);
+
+        ProductChangedEvent event = publishedEvent();
+        assertThat(event.getPreviousPrice()).isEqualTo(5000);
+        assertThat(event.getProduct().getPrice()).isEqualTo(6000);
+        assertThat(event.isPriceChanged()).isTrue();
     }
 
     @Test
@@ -133,6 +255,8 @@ class ProductServiceTest {
         productService.deleteProduct(1L);
 
         verify(productRepository).delete(any(Product.class));
+
+        assertThat(publishedEvent().getType()).isEqualTo(ChangeType.DELETED);
     }
 
     @Test
@@ -140,4 +264,11 @@ class ProductServiceTest {
         assertThatThrownBy(() -> productService.deleteProduct(1000L))
                 .isInstanceOf(ProductNotFoundException.class);
     }
+
+    private ProductChangedEvent publishedEvent() {
+        ArgumentCaptor<ProductChangedEvent> captor =
+                ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
 }
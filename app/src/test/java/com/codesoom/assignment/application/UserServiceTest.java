@@ -1,6 +1,8 @@
 package com.codesoom.assignment.application;
 
+import com.codesoom.assignment.domain.ChangeType;
 import com.codesoom.assignment.domain.User;
+import com.codesoom.assignment.domain.UserChangedEvent;
 import com.codesoom.assignment.domain.UserRepository;
 import com.codesoom.assignment.dto.UserModificationData;
 import com.codesoom.assignment.dto.UserRegistrationData;
@@ -10,6 +12,8 @@ import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -29,11 +33,14 @@ class UserServiceTest {
 
     private final UserRepository userRepository = mock(UserRepository.class);
 
+    private final ApplicationEventPublisher eventPublisher =
+            mock(ApplicationEventPublisher.class);
+
     @BeforeEach
     void setUp() {
         Mapper mapper = DozerBeanMapperBuilder.buildDefault();
 
-        userService = new UserService(mapper, userRepository);
+        userService = new UserService(mapper, userRepository, eventPublisher);
 
         given(userRepository.existsByEmail(EXISTED_EMAIL_ADDRESS))
                 .willReturn(true);
@@ -78,6 +85,8 @@ class UserServiceTest {
         assertThat(user.getName()).isEqualTo("Tester");
 
         verify(userRepository).save(any(User.class));
+
+        assertThat(publishedEvent().getType()).isEqualTo(ChangeType.CREATED);
     }
 
     @Test
@@ -108,6 +117,9 @@ class UserServiceTest {
         assertThat(user.getName()).isEqualTo("TEST");
 
         verify(userRepository).findByIdAndDeletedIsFalse(1L);
+        verify(userRepository).save(user);
+
+        assertThat(publishedEvent().getType()).isEqualTo(ChangeType.UPDATED);
     }
 
     @Test
@@ -147,6 +159,9 @@ class UserServiceTest {
         assertThat(user.isDeleted()).isTrue();
 
         verify(userRepository).findByIdAndDeletedIsFalse(1L);
+        verify(userRepository).save(user);
+
+        assertThat(publishedEvent().getType()).isEqualTo(ChangeType.DELETED);
     }
 
     @Test
@@ -164,4 +179,11 @@ class UserServiceTest {
 
         verify(userRepository).findByIdAndDeletedIsFalse(DELETED_USER_ID);
     }
+
+    private UserChangedEvent publishedEvent() {
+        ArgumentCaptor<UserChangedEvent> captor =
+                ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
 }
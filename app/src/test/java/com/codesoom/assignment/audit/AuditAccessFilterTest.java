@@ -0,0 +1,46 @@
+package com.codesoom.assignment.audit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AuditAccessFilterTest {
+    private final AuditLog auditLog = mock(AuditLog.class);
+
+    private final AuditAccessFilter filter = new AuditAccessFilter(auditLog);
+
+    @Test
+    void recordsResponseStatus() throws Exception {
+        FilterChain chain = (request, response) ->
+                ((HttpServletResponse) response).setStatus(201);
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/products"),
+                new MockHttpServletResponse(), chain);
+
+        verify(auditLog).access(eq("POST"), eq("/products"), eq(201), anyLong());
+    }
+
+    @Test
+    void recordsServerErrorWhenHandlerThrows() {
+        FilterChain chain = (request, response) -> {
+            throw new ServletException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/products/1"),
+                new MockHttpServletResponse(), chain))
+                .isInstanceOf(ServletException.class);
+
+        verify(auditLog).access(eq("GET"), eq("/products/1"), eq(500), anyLong());
+    }
+}
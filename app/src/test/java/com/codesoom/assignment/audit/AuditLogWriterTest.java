@@ -0,0 +1,130 @@
+package com.codesoom.assignment.audit;
+
+import com.codesoom.assignment.domain.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogWriterTest {
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AuditRingBuffer ringBuffer = new AuditRingBuffer(1024);
+
+    private final RingBufferAuditLog auditLog =
+            new RingBufferAuditLog(ringBuffer, meterRegistry);
+
+    private AuditLogWriter writer(long segmentSize, int retain) {
+        return new AuditLogWriter(ringBuffer, directory, segmentSize, retain,
+                Duration.ofMillis(10), 16, Duration.ofMillis(1), meterRegistry);
+    }
+
+    @Test
+    void writesEventsAsJsonLinesOnClose() throws IOException {
+        AuditLogWriter writer = writer(1 << 20, 4);
+        writer.start();
+
+        auditLog.access("GET", "/products/\"1\"", 404, 2_000_000);
+        auditLog.productChanged(ChangeType.CREATED, 3L, 7L);
+        writer.close();
+
+        List<String> lines = lines(writer);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0))
+                .startsWith("{\"seq\":0,")
+                .contains("\"type\":\"ACCESS\"", "\"method\":\"GET\"",
+                        "\"path\":\"/products/\\\"1\\\"\"", "\"status\":404",
+                        "\"durationMicros\":2000")
+                .endsWith("}");
+        assertThat(lines.get(1))
+                .startsWith("{\"seq\":1,")
+                .contains("\"type\":\"PRODUCT_CREATED\"", "\"productId\":3",
+                        "\"userId\":7");
+    }
+
+    @Test
+    void escapesControlCharactersAndEncodesUtf8() throws IOException {
+        AuditLogWriter writer = writer(1 << 20, 4);
+        writer.start();
+
+        auditLog.access("GET", "/products/쥐돌이\t\u001f", 200, 1_000);
+        auditLog.access("GET", "/products/" + "a".repeat(4096), 200, 1_000);
+        writer.close();
+
+        List<String> lines = lines(writer);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0))
+                .contains("\"path\":\"/products/쥐돌이\\u0009\\u001f\"");
+        assertThat(lines.get(1)).contains("a".repeat(4096) + "\"");
+    }
+
+    @Test
+    void rollsSegmentsAndKeepsRecentOnes() throws IOException, InterruptedException {
+        AuditLogWriter writer = writer(1, 2);
+        writer.start();
+
+        for (int i = 0; i < 5; i++) {
+            auditLog.productChanged(ChangeType.UPDATED, i, 1L);
+            while (ringBuffer.backlog() > 0) {
+                Thread.sleep(1);
+            }
+        }
+        writer.close();
+
+        List<Path> segments = writer.segmentFiles();
+        assertThat(segments).hasSize(2);
+        assertThat(lines(writer)).hasSize(2);
+        assertThat(lines(writer).get(1)).contains("\"productId\":4");
+    }
+
+    @Test
+    void syncsWithinIntervalWhileEventsKeepComing() throws Exception {
+        AuditLogWriter writer = writer(1 << 20, 4);
+        writer.start();
+
+        AtomicBoolean producing = new AtomicBoolean(true);
+        Thread producer = new Thread(() -> {
+            for (long i = 0; producing.get(); i++) {
+                auditLog.productChanged(ChangeType.UPDATED, i, 1L);
+            }
+        });
+        producer.start();
+
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.counter("audit.syncs").count() < 2
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(meterRegistry.counter("audit.syncs").count())
+                    .isGreaterThanOrEqualTo(2);
+            assertThat(producer.isAlive()).isTrue();
+        } finally {
+            producing.set(false);
+            producer.join();
+            writer.close();
+        }
+    }
+
+    private List<String> lines(AuditLogWriter writer) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Path segment : writer.segmentFiles()) {
+            lines.addAll(Files.readAllLines(segment));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,94 @@
+package com.codesoom.assignment.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditRingBufferTest {
+    @Test
+    void capacityMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new AuditRingBuffer(1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void claimFailsWhenFull() throws Exception {
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(2);
+
+        publish(ringBuffer, 1);
+        publish(ringBuffer, 2);
+
+        assertThat(ringBuffer.tryClaim()).isEqualTo(-1);
+
+        assertThat(drain(ringBuffer, 1)).containsExactly(1L);
+        assertThat(ringBuffer.tryClaim()).isEqualTo(2);
+    }
+
+    @Test
+    void drainStopsAtUnpublishedSlot() throws Exception {
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(4);
+
+        long first = ringBuffer.tryClaim();
+        long second = ringBuffer.tryClaim();
+        ringBuffer.get(second).product(0, AuditEventType.PRODUCT_UPDATED, 2, 0);
+        ringBuffer.publish(second);
+
+        assertThat(drain(ringBuffer, 10)).isEmpty();
+
+        ringBuffer.get(first).product(0, AuditEventType.PRODUCT_UPDATED, 1, 0);
+        ringBuffer.publish(first);
+
+        assertThat(drain(ringBuffer, 10)).containsExactly(1L, 2L);
+        assertThat(ringBuffer.backlog()).isZero();
+    }
+
+    @Test
+    void concurrentProducersLoseNothingWhileThereIsRoom() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(1 << 16);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 1; i <= perProducer; i++) {
+                    publish(ringBuffer, base + i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> ids = drain(ringBuffer, Integer.MAX_VALUE);
+        assertThat(ids).hasSize(producers * perProducer)
+                .doesNotHaveDuplicates();
+    }
+
+    private static void publish(AuditRingBuffer ringBuffer, long productId) {
+        long sequence = ringBuffer.tryClaim();
+        assertThat(sequence).isNotNegative();
+        ringBuffer.get(sequence)
+                .product(0, AuditEventType.PRODUCT_CREATED, productId, 0);
+        ringBuffer.publish(sequence);
+    }
+
+    private static List<Long> drain(AuditRingBuffer ringBuffer, int limit)
+            throws Exception {
+        List<Long> ids = new ArrayList<>();
+        ringBuffer.drain((event, sequence) -> ids.add(event.getProductId()), limit);
+        return ids;
+    }
+}
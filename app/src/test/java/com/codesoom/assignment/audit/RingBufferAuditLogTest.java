@@ -0,0 +1,51 @@
+package com.codesoom.assignment.audit;
+
+import com.codesoom.assignment.domain.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAuditLogTest {
+    private final AuditRingBuffer ringBuffer = new AuditRingBuffer(2);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RingBufferAuditLog auditLog =
+            new RingBufferAuditLog(ringBuffer, meterRegistry);
+
+    @Test
+    void recordsEvents() throws Exception {
+        auditLog.productChanged(ChangeType.UPDATED, 1L, 7L);
+        auditLog.access("GET", "/products/1", 200, 1_500);
+
+        List<AuditEventType> types = new ArrayList<>();
+        ringBuffer.drain((event, sequence) -> {
+            types.add(event.getType());
+            if (event.getType() == AuditEventType.PRODUCT_UPDATED) {
+                assertThat(event.getProductId()).isEqualTo(1L);
+                assertThat(event.getUserId()).isEqualTo(7L);
+            } else {
+                assertThat(event.getPath()).isEqualTo("/products/1");
+                assertThat(event.getStatus()).isEqualTo(200);
+            }
+        }, 10);
+
+        assertThat(types).containsExactly(
+                AuditEventType.PRODUCT_UPDATED, AuditEventType.ACCESS);
+    }
+
+    @Test
+    void dropsEventsInsteadOfBlockingWhenFull() {
+        auditLog.access("GET", "/products", 200, 1);
+        auditLog.access("GET", "/products", 200, 1);
+        auditLog.access("GET", "/products", 200, 1);
+        auditLog.productChanged(ChangeType.DELETED, 1L, 1L);
+
+        assertThat(meterRegistry.counter("audit.events.dropped",
+                "reason", "overflow").count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,83 @@
+package com.codesoom.assignment.cache;
+
+import com.codesoom.assignment.App;
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.dto.ProductData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 데이터베이스를 공유하는 두 애플리케이션 컨텍스트를 띄워
+ * 한 노드의 변경이 다른 노드의 캐시를 무효화하는지 확인합니다.
+ */
+class CacheInvalidationClusterTest {
+    private ConfigurableApplicationContext nodeA;
+
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void updateOnOneNodeEvictsProductCachedOnOtherNode() throws Exception {
+        ProductService serviceA = nodeA.getBean(ProductService.class);
+        ProductService serviceB = nodeB.getBean(ProductService.class);
+
+        Product product = serviceA.createProduct(productData("쥐돌이"));
+        serviceB.getProduct(product.getId());
+
+        Cache cacheB = nodeB.getBean(CacheManager.class)
+                .getCache(CacheNames.PRODUCTS);
+        assertThat(cacheB.get(product.getId())).isNotNull();
+
+        serviceA.updateProduct(product.getId(), productData("쥐순이"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cacheB.get(product.getId()) != null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertThat(cacheB.get(product.getId())).isNull();
+        assertThat(serviceB.getProduct(product.getId()).getName())
+                .isEqualTo("쥐순이");
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(App.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:cluster;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "cache.invalidation.transport=jdbc",
+                        "cache.invalidation.flush-interval=10ms",
+                        "cache.invalidation.jdbc.poll-interval=20ms"
+                )
+                .run();
+    }
+
+    private ProductData productData(String name) {
+        return ProductData.builder()
+                .name(name)
+                .maker("냥이월드")
+                .price(5000)
+                .build();
+    }
+}
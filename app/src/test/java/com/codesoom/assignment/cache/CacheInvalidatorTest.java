@@ -0,0 +1,67 @@
+package com.codesoom.assignment.cache;
+
+import com.codesoom.assignment.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheInvalidatorTest {
+    private final JwtUtil jwtUtil =
+            new JwtUtil("12345678901234567890123456789010");
+
+    private final ConcurrentMapCacheManager cacheManager =
+            new ConcurrentMapCacheManager(CacheNames.PRODUCTS, CacheNames.TOKENS,
+                    CacheNames.MISSING_PRODUCTS);
+
+    private final CacheInvalidator cacheInvalidator =
+            new CacheInvalidator(cacheManager);
+
+    private Cache products;
+
+    private Cache tokens;
+
+    @BeforeEach
+    void setUp() {
+        products = cacheManager.getCache(CacheNames.PRODUCTS);
+        tokens = cacheManager.getCache(CacheNames.TOKENS);
+
+        products.put(1L, "product 1");
+        products.put(2L, "product 2");
+
+        for (long userId = 1; userId <= 2; userId++) {
+            String token = jwtUtil.encode(userId);
+            tokens.put(token, jwtUtil.decode(token));
+        }
+    }
+
+    @Test
+    void productInvalidationEvictsOnlyThatProduct() {
+        cacheInvalidator.onInvalidations(List.of(Invalidation.product(1L)));
+
+        assertThat(products.get(1L)).isNull();
+        assertThat(products.get(2L)).isNotNull();
+    }
+
+    @Test
+    void productInvalidationForgetsMissingProduct() {
+        Cache missingProducts = cacheManager.getCache(CacheNames.MISSING_PRODUCTS);
+        missingProducts.put(3L, Boolean.TRUE);
+
+        cacheInvalidator.onInvalidations(List.of(Invalidation.product(3L)));
+
+        assertThat(missingProducts.get(3L)).isNull();
+    }
+
+    @Test
+    void userInvalidationEvictsTokensOfThatUser() {
+        cacheInvalidator.onInvalidations(List.of(Invalidation.user(1L)));
+
+        assertThat(tokens.get(jwtUtil.encode(1L))).isNull();
+        assertThat(tokens.get(jwtUtil.encode(2L))).isNotNull();
+    }
+}
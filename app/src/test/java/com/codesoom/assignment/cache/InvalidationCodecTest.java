@@ -0,0 +1,47 @@
+package com.codesoom.assignment.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvalidationCodecTest {
+    @Test
+    void encodeAndDecode() {
+        List<Invalidation> invalidations =
+                List.of(Invalidation.product(1L), Invalidation.user(2L));
+
+        byte[] bytes = InvalidationCodec.encode(7L, 100L, invalidations);
+        InvalidationCodec.Batch batch =
+                InvalidationCodec.decode(bytes, 0, bytes.length);
+
+        assertThat(batch.getOrigin()).isEqualTo(7L);
+        assertThat(batch.getSentAt()).isEqualTo(100L);
+        assertThat(batch.getInvalidations()).isEqualTo(invalidations);
+    }
+
+    @Test
+    void decodeRejectsCountLargerThanPacket() {
+        byte[] bytes = ByteBuffer.allocate(InvalidationCodec.HEADER_SIZE)
+                .putLong(7L)
+                .putLong(100L)
+                .putInt(Integer.MAX_VALUE)
+                .array();
+
+        assertThatThrownBy(() -> InvalidationCodec.decode(bytes, 0, bytes.length))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsUnknownType() {
+        byte[] bytes = InvalidationCodec.encode(7L, 100L,
+                List.of(Invalidation.product(1L)));
+        bytes[InvalidationCodec.HEADER_SIZE] = 9;
+
+        assertThatThrownBy(() -> InvalidationCodec.decode(bytes, 0, bytes.length))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.codesoom.assignment.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcInvalidationBusTest {
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:invalidation;DB_CLOSE_DELAY=-1");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JdbcInvalidationBus nodeA;
+
+    private JdbcInvalidationBus nodeB;
+
+    private final List<Invalidation> receivedByA = new CopyOnWriteArrayList<>();
+
+    private final List<Invalidation> receivedByB = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        nodeA = createBus();
+        nodeB = createBus();
+
+        nodeA.subscribe(receivedByA::addAll);
+        nodeB.subscribe(receivedByB::addAll);
+
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void publishDeliversLocallyAndToOtherNodes() throws Exception {
+        nodeA.publish(Invalidation.product(1L));
+
+        assertThat(receivedByA).containsExactly(Invalidation.product(1L));
+
+        nodeA.flush();
+        nodeB.poll();
+
+        assertThat(receivedByB).containsExactly(Invalidation.product(1L));
+    }
+
+    @Test
+    void duplicatedInvalidationsAreCoalesced() throws Exception {
+        nodeA.publish(Invalidation.product(1L));
+        nodeA.publish(Invalidation.product(1L));
+        nodeA.publish(Invalidation.user(1L));
+
+        nodeA.flush();
+        nodeB.poll();
+
+        assertThat(receivedByB).containsExactlyInAnyOrder(
+                Invalidation.product(1L), Invalidation.user(1L));
+        assertThat(meterRegistry.counter("cache.invalidation.coalesced",
+                "transport", "jdbc").count()).isEqualTo(1);
+    }
+
+    @Test
+    void pollDoesNotDeliverSameRowTwice() throws Exception {
+        nodeA.publish(Invalidation.product(2L));
+        nodeA.flush();
+
+        nodeB.poll();
+        nodeB.poll();
+
+        assertThat(receivedByB).containsExactly(Invalidation.product(2L));
+    }
+
+    @Test
+    void ownBatchesAreIgnored() throws Exception {
+        nodeA.publish(Invalidation.product(3L));
+        nodeA.flush();
+
+        nodeA.poll();
+
+        assertThat(receivedByA).containsExactly(Invalidation.product(3L));
+    }
+
+    private JdbcInvalidationBus createBus() {
+        return new JdbcInvalidationBus(dataSource,
+                Duration.ofHours(1), Duration.ofHours(1),
+                Duration.ofSeconds(5), Duration.ofHours(1), 1000,
+                meterRegistry);
+    }
+}
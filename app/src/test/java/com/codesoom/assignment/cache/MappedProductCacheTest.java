@@ -0,0 +1,183 @@
+package com.codesoom.assignment.cache;
+
+import com.codesoom.assignment.domain.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedProductCacheTest {
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MappedProductCache cache;
+
+    private static Product product(long id, String name) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .maker("냥이월드")
+                .price(5000)
+                .build();
+    }
+
+    private MappedProductCache open() throws IOException {
+        return new MappedProductCache(directory.resolve("products.cache"),
+                64, 128, meterRegistry);
+    }
+
+    /**
+     * 쓰다가 죽은 프로세스처럼 모든 slot의 seq를 홀수로 남깁니다.
+     */
+    private void leaveSlotsMidWrite() throws IOException {
+        try (FileChannel channel = FileChannel.open(
+                directory.resolve("products.cache"), StandardOpenOption.WRITE)) {
+            ByteBuffer seq = ByteBuffer.allocate(Long.BYTES)
+                    .order(ByteOrder.nativeOrder());
+            for (int slot = 0; slot < 64; slot++) {
+                seq.clear();
+                seq.putLong(0, 7);
+                channel.write(seq, 64 + slot * 128);
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        cache.close();
+    }
+
+    @Test
+    void putAndGet() {
+        assertThat(cache.get(1L)).isEmpty();
+
+        assertThat(cache.put(product(1L, "쥐돌이"), cache.stamp(1L))).isTrue();
+
+        assertThat(cache.get(1L).get().getName()).isEqualTo("쥐돌이");
+        assertThat(meterRegistry.counter("cache.shared.requests", "result", "hit")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void sharedBetweenMappings() throws IOException {
+        cache.put(product(1L, "쥐돌이"), cache.stamp(1L));
+
+        MappedProductCache other = new MappedProductCache(
+                directory.resolve("products.cache"), 1024, 512, meterRegistry);
+
+        assertThat(other.slots()).isEqualTo(64);
+        assertThat(other.get(1L).get().getName()).isEqualTo("쥐돌이");
+
+        other.evict(1L);
+
+        assertThat(cache.get(1L)).isEmpty();
+        other.close();
+    }
+
+    @Test
+    void releasesStuckSlotsWhenNoOtherMappingIsOpen() throws IOException {
+        cache.put(product(1L, "쥐돌이"), cache.stamp(1L));
+        cache.close();
+        leaveSlotsMidWrite();
+
+        cache = open();
+
+        assertThat(cache.stamp(1L)).isEqualTo(8);
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.put(product(1L, "쥐돌이"), cache.stamp(1L))).isTrue();
+        assertThat(cache.get(1L)).isPresent();
+    }
+
+    @Test
+    void keepsStuckSlotsWhileAnotherMappingIsOpen() throws IOException {
+        leaveSlotsMidWrite();
+
+        try (MappedProductCache other = open()) {
+            assertThat(other.stamp(1L)).isNegative();
+            assertThat(cache.stamp(1L)).isNegative();
+        }
+    }
+
+    @Test
+    void evictionInvalidatesEarlierStamp() {
+        long stamp = cache.stamp(1L);
+
+        cache.onInvalidations(List.of(Invalidation.product(1L),
+                Invalidation.user(1L)));
+
+        assertThat(cache.put(product(1L, "오래된 쥐돌이"), stamp)).isFalse();
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    void rejectsTooLargeProduct() {
+        Product large = product(1L, "쥐".repeat(100));
+
+        assertThat(cache.put(large, cache.stamp(1L))).isFalse();
+        assertThat(cache.put(product(1L, "쥐돌이"), -1)).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidSlotSize() {
+        assertThatThrownBy(() -> new MappedProductCache(
+                directory.resolve("other.cache"), 64, 100, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readersNeverSeeTornProducts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; running.get(); i++) {
+                String name = (i % 2 == 0) ? "a".repeat(10) : "b".repeat(60);
+                cache.put(product(1L, name), cache.stamp(1L));
+                if (i % 7 == 0) {
+                    cache.evict(1L);
+                }
+            }
+        });
+        List<Future<?>> readers = List.of(executor.submit(this::readConsistently),
+                executor.submit(this::readConsistently));
+
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        writer.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    private void readConsistently() {
+        for (int i = 0; i < 200_000; i++) {
+            cache.get(1L).ifPresent(product -> assertThat(product.getName())
+                    .isIn("a".repeat(10), "b".repeat(60)));
+        }
+    }
+}
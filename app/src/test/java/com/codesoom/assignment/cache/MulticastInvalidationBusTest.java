@@ -0,0 +1,73 @@
+package com.codesoom.assignment.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.NetworkInterface;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MulticastInvalidationBusTest {
+    private static final String GROUP = "239.255.26.2";
+
+    private static final int PORT = 45627;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MulticastInvalidationBus nodeA;
+
+    private MulticastInvalidationBus nodeB;
+
+    private final List<Invalidation> receivedByB = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        NetworkInterface loopback = NetworkInterface.getByName("lo");
+        assumeTrue(loopback != null && loopback.supportsMulticast(),
+                "loopback multicast is not available");
+
+        nodeA = createBus();
+        nodeB = createBus();
+
+        nodeB.subscribe(receivedByB::addAll);
+
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (nodeA != null) {
+            nodeA.close();
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void batchReachesOtherNode() throws Exception {
+        nodeA.publish(Invalidation.product(1L));
+        nodeA.publish(Invalidation.user(2L));
+        nodeA.flush();
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (receivedByB.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(receivedByB).containsExactlyInAnyOrder(
+                Invalidation.product(1L), Invalidation.user(2L));
+        assertThat(meterRegistry.timer("cache.invalidation.lag",
+                "transport", "multicast").count()).isEqualTo(1);
+    }
+
+    private MulticastInvalidationBus createBus() throws Exception {
+        return new MulticastInvalidationBus(GROUP, PORT, "lo", 1,
+                Duration.ofHours(1), meterRegistry);
+    }
+}
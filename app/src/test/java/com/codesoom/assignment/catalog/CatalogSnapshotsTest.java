@@ -0,0 +1,161 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CatalogSnapshotsTest {
+    @TempDir
+    Path directory;
+
+    private ProductRepository productRepository;
+
+    private final Clock clock =
+            Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private static Product product(long id, String name) {
+        return Product.builder().id(id).name(name).price(1000).build();
+    }
+
+    private CatalogSnapshots snapshots(boolean enabled) {
+        return new CatalogSnapshots(productRepository, directory,
+                Duration.ofMinutes(5), 2, clock, enabled);
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        given(productRepository.findAll())
+                .willReturn(List.of(product(1L, "쥐돌이")));
+    }
+
+    @Test
+    void startsWithoutSnapshot() throws IOException {
+        CatalogSnapshots snapshots = snapshots(true);
+
+        snapshots.start();
+
+        assertThat(snapshots.isAvailable()).isFalse();
+        assertThat(snapshots.isServing()).isFalse();
+        assertThat(snapshots.findAll()).isEmpty();
+        assertThat(snapshots.findById(1L)).isEmpty();
+    }
+
+    @Test
+    void newNodeServesLatestSnapshotUntilCaughtUp() throws IOException {
+        CatalogSnapshots first = snapshots(true);
+        first.start();
+        first.tick();
+
+        given(productRepository.findAll())
+                .willReturn(List.of(product(1L, "쥐돌이 2")));
+        CatalogSnapshots second = snapshots(true);
+        second.start();
+
+        assertThat(second.isServing()).isTrue();
+        assertThat(second.getVersion()).isEqualTo(1L);
+        assertThat(second.findById(1L).get().getName()).isEqualTo("쥐돌이");
+
+        second.tick();
+
+        assertThat(second.isServing()).isFalse();
+        assertThat(second.getVersion()).isEqualTo(2L);
+        assertThat(second.findAll())
+                .extracting(Product::getName)
+                .containsExactly("쥐돌이 2");
+    }
+
+    @Test
+    void skipsUnreadableSnapshot() throws IOException {
+        CatalogSnapshots first = snapshots(true);
+        first.start();
+        first.tick();
+        Files.write(directory.resolve("catalog-00000000000000000009.snapshot"),
+                new byte[8]);
+
+        CatalogSnapshots second = snapshots(true);
+        second.start();
+
+        assertThat(second.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void writesOnlyWhenIntervalPassed() throws IOException {
+        CatalogSnapshots snapshots = snapshots(true);
+        snapshots.start();
+
+        snapshots.tick();
+        snapshots.tick();
+
+        verify(productRepository, times(1)).findAll();
+    }
+
+    @Test
+    void keepsServingSnapshotDuringOutage() throws IOException {
+        CatalogSnapshots snapshots = snapshots(true);
+        snapshots.start();
+        snapshots.tick();
+
+        given(productRepository.findAll())
+                .willThrow(new DataAccessResourceFailureException("down"));
+        snapshots.databaseUnavailable();
+        snapshots.tick();
+
+        assertThat(snapshots.isServing()).isTrue();
+        assertThat(snapshots.findById(1L)).isNotEmpty();
+    }
+
+    @Test
+    void retainsRecentSnapshots() throws IOException {
+        CatalogSnapshots snapshots = snapshots(true);
+        snapshots.start();
+
+        for (int i = 0; i < 4; i++) {
+            snapshots.writeSnapshot();
+        }
+
+        assertThat(files()).containsExactly(
+                "catalog-00000000000000000003.snapshot",
+                "catalog-00000000000000000004.snapshot");
+    }
+
+    @Test
+    void disabled() throws IOException {
+        CatalogSnapshots snapshots = snapshots(false);
+
+        snapshots.start();
+        snapshots.tick();
+
+        assertThat(snapshots.isAvailable()).isFalse();
+        verify(productRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,67 @@
+package com.codesoom.assignment.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongLongHashMapTest {
+    @Test
+    void putGetRemove() {
+        LongLongHashMap map = new LongLongHashMap(0);
+
+        assertThat(map.put(1L, 10L)).isEqualTo(LongLongHashMap.MISSING);
+        assertThat(map.put(1L, 11L)).isEqualTo(10L);
+        assertThat(map.get(1L)).isEqualTo(11L);
+        assertThat(map.get(2L)).isEqualTo(LongLongHashMap.MISSING);
+
+        assertThat(map.remove(1L)).isEqualTo(11L);
+        assertThat(map.remove(1L)).isEqualTo(LongLongHashMap.MISSING);
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void rejectsZeroKey() {
+        assertThatThrownBy(() -> new LongLongHashMap(4).put(0L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void behavesLikeHashMapUnderRandomChanges() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                Long removed = expected.remove(key);
+                assertThat(map.remove(key))
+                        .isEqualTo(removed == null ? LongLongHashMap.MISSING : removed);
+            } else {
+                expected.put(key, (long) i);
+                map.put(key, i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        assertThat(map.sortedKeys()).hasSize(expected.size()).isSorted();
+    }
+
+    @Test
+    void copyIsIndependent() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.put(1L, 10L);
+
+        LongLongHashMap copy = map.copy();
+        copy.put(1L, 20L);
+
+        assertThat(map.get(1L)).isEqualTo(10L);
+        assertThat(copy.get(1L)).isEqualTo(20L);
+    }
+}
@@ -0,0 +1,98 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCatalogTest {
+    @TempDir
+    Path directory;
+
+    private static Product product(long id) {
+        return Product.builder()
+                .id(id)
+                .name("상품 " + id)
+                .maker("냥이월드")
+                .price(1000)
+                .build();
+    }
+
+    @Test
+    void writeAndOpen() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        List<Product> products = LongStream.of(5, 1, 3)
+                .mapToObj(MappedCatalogTest::product)
+                .collect(Collectors.toList());
+
+        MappedCatalog.write(path, 7L, products);
+        MappedCatalog catalog = MappedCatalog.open(path);
+
+        assertThat(catalog.getVersion()).isEqualTo(7L);
+        assertThat(catalog.getCreatedAt()).isPositive();
+        assertThat(catalog.size()).isEqualTo(3);
+        assertThat(catalog.findAll())
+                .extracting(Product::getId)
+                .containsExactly(1L, 3L, 5L);
+        assertThat(catalog.findById(3L).get().getName()).isEqualTo("상품 3");
+        assertThat(catalog.findById(2L)).isEmpty();
+        assertThat(catalog.findById(6L)).isEmpty();
+    }
+
+    @Test
+    void spansWriteBuffers() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        List<Product> products = LongStream.rangeClosed(1, 50_000)
+                .mapToObj(MappedCatalogTest::product)
+                .collect(Collectors.toList());
+
+        MappedCatalog.write(path, 1L, products);
+        MappedCatalog catalog = MappedCatalog.open(path);
+
+        assertThat(catalog.findById(49_999L).get().getName())
+                .isEqualTo("상품 49999");
+    }
+
+    @Test
+    void emptyCatalog() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+
+        MappedCatalog.write(path, 1L, List.of());
+
+        assertThat(MappedCatalog.open(path).findAll()).isEmpty();
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        MappedCatalog.write(path, 1L, List.of(product(1L)));
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 1);
+        }
+
+        assertThatThrownBy(() -> MappedCatalog.open(path))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path path = Files.write(directory.resolve("other"), new byte[64]);
+
+        assertThatThrownBy(() -> MappedCatalog.open(path))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> MappedCatalog.open(
+                Files.write(directory.resolve("short"), new byte[4])))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.domain.Product;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCodecTest {
+    @Test
+    void writeAndRead() {
+        Product product = Product.builder()
+                .id(1L)
+                .name("쥐돌이 🐭")
+                .maker("냥이월드")
+                .price(5000)
+                .imageUrl("https://example.com/mouse.png")
+                .stock(7)
+                .build();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        buffer.position(10);
+
+        ProductCodec.write(buffer, product);
+
+        assertThat(buffer.position() - 10).isEqualTo(ProductCodec.sizeOf(product));
+        assertThat(ProductCodec.sizeAt(buffer, 10))
+                .isEqualTo(ProductCodec.sizeOf(product));
+        assertThat(ProductCodec.readId(buffer, 10)).isEqualTo(1L);
+
+        Product read = ProductCodec.read(buffer, 10);
+
+        assertThat(read.getName()).isEqualTo("쥐돌이 🐭");
+        assertThat(read.getMaker()).isEqualTo("냥이월드");
+        assertThat(read.getPrice()).isEqualTo(5000);
+        assertThat(read.getImageUrl()).isEqualTo("https://example.com/mouse.png");
+        assertThat(read.getStock()).isEqualTo(7);
+    }
+
+    @Test
+    void nullFields() {
+        Product product = Product.builder().id(2L).build();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        ProductCodec.write(buffer, product);
+
+        Product read = ProductCodec.read(buffer, 0);
+
+        assertThat(read.getId()).isEqualTo(2L);
+        assertThat(read.getName()).isNull();
+        assertThat(read.getPrice()).isNull();
+        assertThat(read.getImageUrl()).isNull();
+        assertThat(read.getStock()).isNull();
+        assertThat(ProductCodec.sizeAt(buffer, 0)).isEqualTo(buffer.position());
+    }
+}
@@ -0,0 +1,133 @@
+package com.codesoom.assignment.catalog;
+
+import com.codesoom.assignment.cache.Invalidation;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ProductReadModelTest {
+    private ProductRepository productRepository;
+
+    private ProductReadModel readModel;
+
+    private static Product product(long id, String name) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .maker("냥이월드")
+                .price(5000)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        given(productRepository.findAll()).willReturn(List.of(
+                product(2L, "쥐순이"), product(1L, "쥐돌이")));
+
+        readModel = new ProductReadModel(productRepository, true, 1024);
+    }
+
+    @Test
+    void notReadyBeforeFirstRefresh() {
+        assertThat(readModel.isReady()).isFalse();
+        assertThat(readModel.findAll()).isEmpty();
+        assertThat(readModel.findById(1L)).isEmpty();
+    }
+
+    @Test
+    void firstRefreshLoadsAllProducts() {
+        readModel.refresh();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.size()).isEqualTo(2);
+        assertThat(readModel.findAll())
+                .extracting(Product::getName)
+                .containsExactly("쥐돌이", "쥐순이");
+        assertThat(readModel.findById(1L).get().getName()).isEqualTo("쥐돌이");
+        assertThat(readModel.findById(3L)).isEmpty();
+    }
+
+    @Test
+    void invalidatedProductsArePublishedAsNewVersion() {
+        readModel.refresh();
+        long version = readModel.getVersion();
+
+        given(productRepository.findById(1L))
+                .willReturn(Optional.of(product(1L, "쥐돌이 2")));
+        given(productRepository.findById(2L)).willReturn(Optional.empty());
+        given(productRepository.findById(3L))
+                .willReturn(Optional.of(product(3L, "쥐삼이")));
+
+        readModel.onInvalidations(List.of(Invalidation.product(1L),
+                Invalidation.product(2L), Invalidation.product(3L),
+                Invalidation.user(1L)));
+        readModel.refresh();
+
+        assertThat(readModel.getVersion()).isGreaterThan(version);
+        assertThat(readModel.findAll())
+                .extracting(Product::getName)
+                .containsExactly("쥐돌이 2", "쥐삼이");
+    }
+
+    @Test
+    void refreshWithoutChangesKeepsVersion() {
+        readModel.refresh();
+        long version = readModel.getVersion();
+
+        readModel.refresh();
+
+        assertThat(readModel.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void compactsWhenGarbageOutgrowsLiveProducts() {
+        readModel.refresh();
+        given(productRepository.findById(1L))
+                .willReturn(Optional.of(product(1L, "쥐돌이")));
+
+        for (int i = 0; i < 100; i++) {
+            readModel.onInvalidations(List.of(Invalidation.product(1L)));
+            readModel.refresh();
+        }
+
+        assertThat(readModel.offHeapBytes()).isEqualTo(1024);
+        assertThat(readModel.findAll()).hasSize(2);
+    }
+
+    @Test
+    void manySegments() {
+        List<Product> products = LongStream.rangeClosed(1, 1_000)
+                .mapToObj(id -> product(id, "상품 " + id))
+                .collect(Collectors.toList());
+
+        readModel.load(products);
+
+        assertThat(readModel.offHeapBytes()).isGreaterThan(1024);
+        assertThat(readModel.findById(777L).get().getName()).isEqualTo("상품 777");
+    }
+
+    @Test
+    void disabled() {
+        ProductReadModel disabled =
+                new ProductReadModel(productRepository, false, 1024);
+
+        disabled.onInvalidations(List.of(Invalidation.product(1L)));
+        disabled.refresh();
+
+        assertThat(disabled.isReady()).isFalse();
+        verify(productRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,112 @@
+package com.codesoom.assignment.compression;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressionFilterTest {
+    private static final String BODY = "[" + "{\"name\":\"쥐돌이\"},".repeat(200)
+            + "{\"name\":\"쥐돌이\"}]";
+
+    private final CompressedBodyCache cache = new CompressedBodyCache(1 << 20, 6);
+
+    private final CompressionFilter filter = new CompressionFilter(cache,
+            List.of(ContentCodec.GZIP, ContentCodec.DEFLATE), 1024,
+            List.of(MediaType.APPLICATION_JSON));
+
+    @Test
+    void compressesWithPreferredAcceptedCodec() throws Exception {
+        MockHttpServletResponse response = get("deflate, gzip;q=0.5", json(BODY));
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentLength())
+                .isEqualTo(response.getContentAsByteArray().length)
+                .isLessThan(BODY.length());
+        assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(
+                response.getContentAsByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    void skipsRejectedCodec() throws Exception {
+        MockHttpServletResponse response = get("gzip;q=0, deflate", json(BODY));
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+        assertThat(new String(new InflaterInputStream(new ByteArrayInputStream(
+                response.getContentAsByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    void sameBodyIsCompressedOnce() throws Exception {
+        byte[] first = get("gzip", json(BODY)).getContentAsByteArray();
+        byte[] second = get("gzip", json(BODY)).getContentAsByteArray();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void leavesSmallBodiesAlone() throws Exception {
+        MockHttpServletResponse response = get("gzip", json("{\"name\":\"쥐돌이\"}"));
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"name\":\"쥐돌이\"}");
+    }
+
+    @Test
+    void leavesOtherMimeTypesAlone() throws Exception {
+        MockHttpServletResponse response = get("gzip", (request, res) -> {
+            res.setContentType("image/png");
+            res.getOutputStream().write(new byte[4096]);
+        });
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsByteArray()).hasSize(4096);
+    }
+
+    @Test
+    void leavesRequestsWithoutAcceptEncodingAlone() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        MockHttpServletResponse response = get(null, (request, res) -> {
+            calls.incrementAndGet();
+            json(BODY).doFilter(request, res);
+        });
+
+        assertThat(calls).hasValue(1);
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    private FilterChain json(String body) {
+        return (request, response) -> {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse get(String acceptEncoding, FilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,65 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.audit.AuditAccessFilter;
+import com.codesoom.assignment.audit.AuditLog;
+import com.codesoom.assignment.audit.AuditLogWriter;
+import com.codesoom.assignment.audit.AuditRingBuffer;
+import com.codesoom.assignment.domain.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditConfigTest {
+    private final AuditConfig auditConfig = new AuditConfig();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void noAuditLogIgnoresEvents() {
+        AuditLog auditLog = auditConfig.noAuditLog();
+
+        auditLog.access("GET", "/products", 200, 1_000);
+        auditLog.productChanged(ChangeType.CREATED, 1L, 1L);
+
+        assertThat(auditLog).isSameAs(AuditLog.NONE);
+    }
+
+    @Test
+    void enabledAuditWritesEventsToSegments() throws IOException {
+        AuditRingBuffer ringBuffer = auditConfig.auditRingBuffer(64);
+        AuditLog auditLog = auditConfig.auditLog(ringBuffer, meterRegistry);
+        AuditLogWriter writer = auditConfig.auditLogWriter(ringBuffer,
+                meterRegistry, directory, DataSize.ofMegabytes(1), 2,
+                Duration.ofMillis(10), 16, Duration.ofMillis(1));
+
+        writer.start();
+        auditLog.productChanged(ChangeType.CREATED, 1L, 1L);
+        writer.close();
+
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments).hasSize(1);
+        }
+    }
+
+    @Test
+    void auditAccessFilterRunsFirst() {
+        FilterRegistrationBean<AuditAccessFilter> registration =
+                auditConfig.auditAccessFilter(AuditLog.NONE);
+
+        assertThat(registration.getOrder()).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
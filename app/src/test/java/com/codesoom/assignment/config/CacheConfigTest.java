@@ -0,0 +1,150 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.cache.CacheNames;
+import com.codesoom.assignment.cache.Invalidation;
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.cache.JdbcInvalidationBus;
+import com.codesoom.assignment.cache.MappedProductCache;
+import com.codesoom.assignment.cache.MulticastInvalidationBus;
+import com.codesoom.assignment.cache.SharedProductCache;
+import com.codesoom.assignment.domain.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.net.NetworkInterface;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class CacheConfigTest {
+    private final CacheConfig cacheConfig = new CacheConfig();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path directory;
+
+    private CacheManager cacheManager;
+
+    private Cache products;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = cacheConfig.cacheManager(
+                10, Duration.ofMinutes(1), 10, Duration.ofMinutes(1),
+                10, Duration.ofSeconds(30));
+        ((SimpleCacheManager) cacheManager)
+                .afterPropertiesSet();
+
+        products = cacheManager.getCache(CacheNames.PRODUCTS);
+        products.put(1L, "product 1");
+    }
+
+    @Test
+    void cacheManagerHasBoundedCaches() {
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder(
+                CacheNames.PRODUCTS, CacheNames.TOKENS,
+                CacheNames.MISSING_PRODUCTS);
+    }
+
+    @Test
+    void localInvalidationBusEvictsCaches() {
+        InvalidationBus bus = cacheConfig.localInvalidationBus(cacheManager);
+
+        bus.publish(Invalidation.product(1L));
+
+        assertThat(products.get(1L)).isNull();
+    }
+
+    @Test
+    void jdbcInvalidationBusEvictsCaches() throws Exception {
+        try (JdbcInvalidationBus bus = cacheConfig.jdbcInvalidationBus(
+                cacheManager,
+                new DriverManagerDataSource(
+                        "jdbc:h2:mem:cache-config;DB_CLOSE_DELAY=-1"),
+                meterRegistry, Duration.ofMillis(50), Duration.ofMillis(200),
+                Duration.ofSeconds(5), Duration.ofHours(1), 1000)) {
+            bus.start();
+
+            bus.publish(Invalidation.product(1L));
+
+            assertThat(products.get(1L)).isNull();
+        }
+    }
+
+    @Test
+    void multicastInvalidationBusEvictsCaches() throws Exception {
+        NetworkInterface loopback = NetworkInterface.getByName("lo");
+        assumeTrue(loopback != null && loopback.supportsMulticast(),
+                "loopback multicast is not available");
+
+        try (MulticastInvalidationBus bus = cacheConfig.multicastInvalidationBus(
+                cacheManager, meterRegistry, "239.255.26.3", 45628, "lo", 1,
+                Duration.ofMillis(50))) {
+            bus.start();
+
+            bus.publish(Invalidation.product(1L));
+
+            assertThat(products.get(1L)).isNull();
+        }
+    }
+
+    @Test
+    void sharedProductCacheIsNoneWhenDisabled() throws Exception {
+        SharedProductCache cache = cacheConfig.sharedProductCache(
+                cacheConfig.localInvalidationBus(cacheManager),
+                meterRegistryProvider(), false,
+                directory.resolve("products.cache"), 16, 256);
+
+        assertThat(cache).isSameAs(SharedProductCache.NONE);
+        assertThat(cache.stamp(1L)).isNegative();
+        assertThat(cache.put(product(1L), 0)).isFalse();
+        cache.evict(1L);
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    void sharedProductCacheIsEvictedThroughBusWhenEnabled() throws Exception {
+        InvalidationBus bus = cacheConfig.localInvalidationBus(cacheManager);
+        SharedProductCache cache = cacheConfig.sharedProductCache(
+                bus, meterRegistryProvider(), true,
+                directory.resolve("products.cache"), 16, 256);
+
+        assertThat(cache).isInstanceOf(MappedProductCache.class);
+        assertThat(cache.put(product(1L), cache.stamp(1L))).isTrue();
+        assertThat(cache.get(1L)).isPresent();
+
+        bus.publish(Invalidation.product(1L));
+
+        assertThat(cache.get(1L)).isEmpty();
+        ((MappedProductCache) cache).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<MeterRegistry> meterRegistryProvider() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        given(provider.getObject()).willReturn(meterRegistry);
+        return provider;
+    }
+
+    private static Product product(Long id) {
+        return Product.builder()
+                .id(id)
+                .name("쥐돌이")
+                .maker("냥이월드")
+                .price(5000)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceRoutingConfigTest {
+    private final DataSourceRoutingConfig dataSourceRoutingConfig =
+            new DataSourceRoutingConfig();
+
+    @Test
+    void dataSourcesArePooledAndRouted() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:routing-primary");
+
+        try (HikariDataSource primary =
+                     dataSourceRoutingConfig.primaryDataSource(properties);
+             HikariDataSource replica = dataSourceRoutingConfig.replicaDataSource(
+                     "jdbc:h2:mem:routing-replica", "sa", "")) {
+            assertThat(primary.getPoolName()).isEqualTo("primary");
+            assertThat(primary.isReadOnly()).isFalse();
+            assertThat(replica.getPoolName()).isEqualTo("replica");
+            assertThat(replica.isReadOnly()).isTrue();
+
+            DataSource dataSource =
+                    dataSourceRoutingConfig.dataSource(primary, replica);
+
+            assertThat(dataSource)
+                    .isInstanceOf(LazyConnectionDataSourceProxy.class);
+        }
+    }
+
+    @Test
+    void readYourWritesFilterIsRegistered() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                dataSourceRoutingConfig.readYourWritesFilter(
+                        Duration.ofSeconds(5), 100);
+
+        assertThat(registration.getFilter()).isNotNull();
+    }
+}
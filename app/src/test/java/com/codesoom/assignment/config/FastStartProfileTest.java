@@ -0,0 +1,54 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.dto.ProductData;
+import com.codesoom.assignment.outbox.OutboxRelay;
+import com.codesoom.assignment.startup.StartupTimeline;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * faststart 프로필에서 스키마 검증을 통과하고, 지연 초기화 중에도 필요한 빈은 바로 만들어지는지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:faststart")
+@ActiveProfiles("faststart")
+class FastStartProfileTest {
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private StartupTimeline startupTimeline;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void eagerBeansAreCreatedAtStartup() {
+        assertThat(beanFactory.getBeanDefinition("outboxRelay").isLazyInit())
+                .isFalse();
+        assertThat(beanFactory.getBeanNamesForType(OutboxRelay.class))
+                .isNotEmpty();
+    }
+
+    @Test
+    void lazyBeansStillWork() {
+        assertThat(beanFactory.getBeanDefinition("dozerMapper").isLazyInit())
+                .isTrue();
+
+        assertThat(productService.createProduct(ProductData.builder()
+                .name("쥐돌이")
+                .maker("냥이월드")
+                .price(5000)
+                .build()).getId()).isNotNull();
+    }
+
+    @Test
+    void timelineIsRecorded() {
+        assertThat(startupTimeline.getSlowest()).isNotEmpty();
+    }
+}
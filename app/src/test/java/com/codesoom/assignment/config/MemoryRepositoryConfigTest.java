@@ -0,0 +1,58 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductFields;
+import com.codesoom.assignment.domain.User;
+import com.codesoom.assignment.memory.MemoryDatabase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryRepositoryConfigTest {
+    private final MemoryRepositoryConfig memoryRepositoryConfig =
+            new MemoryRepositoryConfig();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void repositoriesShareOneDatabase() throws IOException {
+        try (MemoryDatabase database = memoryRepositoryConfig.memoryDatabase(
+                directory, Duration.ZERO)) {
+            Product product = memoryRepositoryConfig
+                    .memoryProductRepository(database)
+                    .save(Product.builder()
+                            .name("쥐돌이")
+                            .maker("냥이월드")
+                            .price(5000)
+                            .imageUrl("mouse.png")
+                            .stock(7)
+                            .build());
+            User user = memoryRepositoryConfig.memoryUserRepository(database)
+                    .save(User.builder()
+                            .email("tester@example.com")
+                            .name("Tester")
+                            .password("test")
+                            .build());
+
+            Map<String, Object> projected = memoryRepositoryConfig
+                    .memoryProductProjectionRepository(database)
+                    .findById(product.getId(),
+                            ProductFields.parse("id,name,maker,price,imageUrl,stock"))
+                    .get();
+
+            assertThat(projected).containsEntry("name", "쥐돌이")
+                    .containsEntry("maker", "냥이월드")
+                    .containsEntry("price", 5000)
+                    .containsEntry("imageUrl", "mouse.png")
+                    .containsEntry("stock", 7);
+            assertThat(database.findUser(user.getId())).isPresent();
+        }
+    }
+}
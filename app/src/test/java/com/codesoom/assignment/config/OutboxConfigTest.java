@@ -0,0 +1,34 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.outbox.FileOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxConfigTest {
+    private final OutboxConfig outboxConfig = new OutboxConfig();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void inMemoryOutboxSinkStartsEmpty() {
+        assertThat(outboxConfig.inMemoryOutboxSink(10).getEvents()).isEmpty();
+    }
+
+    @Test
+    void fileOutboxSinkCreatesFile() throws IOException {
+        Path path = directory.resolve("outbox/events.log");
+
+        try (FileOutboxSink ignored =
+                     outboxConfig.fileOutboxSink(new ObjectMapper(), path)) {
+            assertThat(Files.exists(path)).isTrue();
+        }
+    }
+}
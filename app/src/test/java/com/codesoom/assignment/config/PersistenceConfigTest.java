@@ -0,0 +1,105 @@
+package com.codesoom.assignment.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PersistenceConfigTest {
+    @Test
+    void tuneAppliesPoolSettingsAndRegistersSaturationGauge() {
+        PersistencePoolProperties properties = new PersistencePoolProperties();
+        properties.setMaximumSize(8);
+        properties.setMinimumIdle(4);
+        properties.setConnectionTimeout(Duration.ofMillis(500));
+        properties.setDataSourceProperties(Map.of("QUERY_CACHE_SIZE", "64"));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            PersistenceConfig.tune(dataSource, "dataSource",
+                    properties, meterRegistry);
+
+            assertThat(dataSource.getPoolName()).isEqualTo("dataSource");
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(8);
+            assertThat(dataSource.getMinimumIdle()).isEqualTo(4);
+            assertThat(dataSource.getConnectionTimeout()).isEqualTo(500);
+            assertThat(dataSource.getDataSourceProperties())
+                    .containsEntry("QUERY_CACHE_SIZE", "64");
+            assertThat(dataSource.getMetricsTrackerFactory()).isNotNull();
+
+            assertThat(meterRegistry.get("persistence.pool.saturation")
+                    .tag("pool", "dataSource")
+                    .gauge()
+                    .value()).isZero();
+        }
+    }
+
+    @Test
+    void tuneKeepsConfiguredPoolNameWithoutMeterRegistry() {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setPoolName("replica");
+
+            PersistenceConfig.tune(dataSource, "replicaDataSource",
+                    new PersistencePoolProperties(), null);
+
+            assertThat(dataSource.getPoolName()).isEqualTo("replica");
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(20);
+            assertThat(dataSource.getMetricsTrackerFactory()).isNull();
+        }
+    }
+
+    @Test
+    void saturationCountsActiveConnections() throws SQLException {
+        PersistencePoolProperties properties = new PersistencePoolProperties();
+        properties.setMaximumSize(4);
+        properties.setMinimumIdle(1);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl("jdbc:h2:mem:saturation");
+            PersistenceConfig.tune(dataSource, "dataSource",
+                    properties, meterRegistry);
+
+            try (Connection ignored = dataSource.getConnection()) {
+                assertThat(meterRegistry.get("persistence.pool.saturation")
+                        .gauge()
+                        .value()).isEqualTo(0.25);
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void hikariPoolTunerTunesOnlyHikariDataSources() {
+        ObjectProvider<PersistencePoolProperties> properties =
+                mock(ObjectProvider.class);
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        given(properties.getObject()).willReturn(new PersistencePoolProperties());
+
+        BeanPostProcessor tuner =
+                PersistenceConfig.hikariPoolTuner(properties, meterRegistry);
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            assertThat(tuner.postProcessAfterInitialization(
+                    dataSource, "dataSource")).isSameAs(dataSource);
+            assertThat(dataSource.getPoolName()).isEqualTo("dataSource");
+        }
+
+        Object other = new Object();
+        assertThat(tuner.postProcessAfterInitialization(other, "other"))
+                .isSameAs(other);
+    }
+}
@@ -0,0 +1,30 @@
+package com.codesoom.assignment.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 프로필에서 schema.sql 이 엔티티와 일치해서 스키마 검증을 통과하는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:production;QUERY_CACHE_SIZE=64"
+})
+@ActiveProfiles("production")
+class ProductionProfileTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void contextStartsWithValidatedSchemaAndTunedPool() {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        assertThat(((HikariDataSource) dataSource).getMaximumPoolSize())
+                .isEqualTo(20);
+    }
+}
@@ -0,0 +1,12 @@
+package com.codesoom.assignment.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+    @Test
+    void exitOnReadyIsCreated() {
+        assertThat(new StartupConfig().exitOnReady()).isNotNull();
+    }
+}
@@ -0,0 +1,44 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.execution.VirtualThreadPinningMonitor;
+import com.codesoom.assignment.execution.VirtualThreads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class VirtualThreadConfigTest {
+    private final VirtualThreadConfig virtualThreadConfig =
+            new VirtualThreadConfig();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void protocolHandlerUsesVirtualThreadsOnlyWhenSupported() {
+        TomcatProtocolHandlerCustomizer<ProtocolHandler> customizer =
+                (TomcatProtocolHandlerCustomizer<ProtocolHandler>)
+                        virtualThreadConfig.virtualThreadProtocolHandler();
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        customizer.customize(protocolHandler);
+
+        verify(protocolHandler, times(VirtualThreads.isSupported() ? 1 : 0))
+                .setExecutor(any(Executor.class));
+    }
+
+    @Test
+    void pinningMonitorCanStart() {
+        try (VirtualThreadPinningMonitor monitor =
+                     virtualThreadConfig.virtualThreadPinningMonitor(
+                             new SimpleMeterRegistry(), Duration.ofMillis(20))) {
+            monitor.start();
+        }
+    }
+}
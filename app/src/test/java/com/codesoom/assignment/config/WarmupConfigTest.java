@@ -0,0 +1,76 @@
+package com.codesoom.assignment.config;
+
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.popularity.ProductAccessCounter;
+import com.codesoom.assignment.utils.JwtUtil;
+import com.codesoom.assignment.warmup.AccessSnapshotWriter;
+import com.codesoom.assignment.warmup.Warmup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class WarmupConfigTest {
+    private final WarmupConfig warmupConfig = new WarmupConfig();
+
+    private final ProductService productService = mock(ProductService.class);
+
+    private final JwtUtil jwtUtil = new JwtUtil("12345678901234567890123456789010");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void accessSnapshotWriterWritesCounter() {
+        ProductAccessCounter counter = warmupConfig.productAccessCounter();
+        Path path = directory.resolve("access.snapshot");
+
+        AccessSnapshotWriter writer =
+                warmupConfig.accessSnapshotWriter(counter, path);
+        writer.write();
+
+        assertThat(path).exists();
+    }
+
+    @Test
+    void warmupWithoutWebServerSendsNoRequests() throws Exception {
+        ApplicationContext context = mock(ApplicationContext.class);
+
+        warmup(context).run(null);
+    }
+
+    @Test
+    void warmupAsksWebServerForPort() throws Exception {
+        WebServerApplicationContext context =
+                mock(WebServerApplicationContext.class);
+        WebServer webServer = mock(WebServer.class);
+        given(context.getWebServer()).willReturn(webServer);
+        given(webServer.getPort()).willReturn(-1);
+
+        warmup(context).run(null);
+
+        verify(webServer).getPort();
+    }
+
+    @Test
+    void warmupRequestFilterUsesWarmupToken() {
+        Warmup warmup = warmup(mock(ApplicationContext.class));
+
+        assertThat(warmupConfig.warmupRequestFilter(warmup).getFilter())
+                .isNotNull();
+    }
+
+    private Warmup warmup(ApplicationContext context) {
+        return warmupConfig.warmup(context, productService, jwtUtil,
+                directory.resolve("none"), 10, 1, Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,139 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.AuthenticationService;
+import com.codesoom.assignment.application.OrderService;
+import com.codesoom.assignment.domain.Order;
+import com.codesoom.assignment.dto.OrderData;
+import com.codesoom.assignment.errors.InvalidTokenException;
+import com.codesoom.assignment.errors.OrderQueueFullException;
+import com.codesoom.assignment.errors.OutOfStockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderController.class)
+class OrderControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderService orderService;
+
+    @MockBean
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        given(authenticationService.parseToken("VALID")).willReturn(7L);
+        given(authenticationService.parseToken("INVALID"))
+                .willThrow(new InvalidTokenException("INVALID"));
+
+        given(orderService.placeOrder(eq(7L), any(OrderData.class)))
+                .will(invocation -> {
+                    OrderData orderData = invocation.getArgument(1);
+                    if (orderData.getProductId() == 2L) {
+                        throw new OutOfStockException(2L);
+                    }
+                    if (orderData.getProductId() == 3L) {
+                        throw new OrderQueueFullException();
+                    }
+                    return order(10L, orderData.getQuantity());
+                });
+
+        given(orderService.getOrders(7L)).willReturn(List.of(order(10L, 2)));
+    }
+
+    @Test
+    void createWithAccessToken() throws Exception {
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":1,\"quantity\":2}")
+                        .header("Authorization", "Bearer VALID"))
+                .andExpect(status().isCreated())
+                .andExpect(content().json(
+                        "{\"id\":10,\"productId\":1,\"userId\":7,\"quantity\":2}"));
+    }
+
+    @Test
+    void createOutOfStock() throws Exception {
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":2,\"quantity\":2}")
+                        .header("Authorization", "Bearer VALID"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void createWhenQueueIsFull() throws Exception {
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":3,\"quantity\":1}")
+                        .header("Authorization", "Bearer VALID"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void createWithInvalidQuantity() throws Exception {
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":1,\"quantity\":0}")
+                        .header("Authorization", "Bearer VALID"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).placeOrder(anyLong(), any(OrderData.class));
+    }
+
+    @Test
+    void createWithWrongAccessToken() throws Exception {
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":1,\"quantity\":2}")
+                        .header("Authorization", "Bearer INVALID"))
+                .andExpect(status().isUnauthorized());
+
+        verify(orderService, never()).placeOrder(anyLong(), any(OrderData.class));
+    }
+
+    @Test
+    void createWithoutAccessToken() throws Exception {
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":1,\"quantity\":2}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void listWithAccessToken() throws Exception {
+        mockMvc.perform(get("/orders")
+                        .header("Authorization", "Bearer VALID"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":10,\"quantity\":2}]"));
+    }
+
+    private static Order order(Long id, int quantity) {
+        return Order.builder()
+                .id(id)
+                .productId(1L)
+                .userId(7L)
+                .quantity(quantity)
+                .price(5000)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.AuthenticationService;
+import com.codesoom.assignment.popularity.HeavyHitters;
+import com.codesoom.assignment.popularity.PopularProduct;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PopularProductController.class)
+class PopularProductControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HeavyHitters heavyHitters;
+
+    @MockBean
+    private AuthenticationService authenticationService;
+
+    @Test
+    void listWithDefaultLimit() throws Exception {
+        given(heavyHitters.top(10)).willReturn(List.of(
+                new PopularProduct(2L, 50L), new PopularProduct(1L, 10L)));
+
+        mockMvc.perform(get("/products/popular"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(
+                        "[{\"productId\":2,\"views\":50}," +
+                                "{\"productId\":1,\"views\":10}]"));
+    }
+
+    @Test
+    void listWithLimit() throws Exception {
+        given(heavyHitters.top(1)).willReturn(List.of(new PopularProduct(2L, 50L)));
+
+        mockMvc.perform(get("/products/popular").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"productId\":2,\"views\":50}]"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.AuthenticationService;
+import com.codesoom.assignment.application.PriceChangeService;
+import com.codesoom.assignment.domain.ScheduledPriceChange;
+import com.codesoom.assignment.errors.InvalidTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PriceChangeController.class)
+class PriceChangeControllerTest {
+    private static final String BODY = "{\"changes\":[{\"productId\":1," +
+            "\"price\":4000,\"effectiveAt\":\"2026-01-01T00:00:00\"}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PriceChangeService priceChangeService;
+
+    @MockBean
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        given(priceChangeService.schedulePriceChanges(anyList()))
+                .willReturn(List.of(ScheduledPriceChange.builder()
+                        .id(10L)
+                        .productId(1L)
+                        .price(4000)
+                        .effectiveAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                        .build()));
+
+        given(authenticationService.parseToken("VALID")).willReturn(1L);
+        given(authenticationService.parseToken("INVALID"))
+                .willThrow(new InvalidTokenException("INVALID"));
+    }
+
+    @Test
+    void createWithAccessToken() throws Exception {
+        mockMvc.perform(post("/price-changes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY)
+                        .header("Authorization", "Bearer VALID"))
+                .andExpect(status().isCreated())
+                .andExpect(content().json(
+                        "[{\"id\":10,\"productId\":1,\"price\":4000}]"));
+    }
+
+    @Test
+    void createWithWrongAccessToken() throws Exception {
+        mockMvc.perform(post("/price-changes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY)
+                        .header("Authorization", "Bearer INVALID"))
+                .andExpect(status().isUnauthorized());
+
+        verify(priceChangeService, never()).schedulePriceChanges(anyList());
+    }
+
+    @Test
+    void createWithoutChanges() throws Exception {
+        mockMvc.perform(post("/price-changes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"changes\":[{\"productId\":1}]}")
+                        .header("Authorization", "Bearer VALID"))
+                .andExpect(status().isBadRequest());
+    }
+}
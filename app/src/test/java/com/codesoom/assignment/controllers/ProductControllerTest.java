@@ -2,25 +2,42 @@ package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.application.AuthenticationService;
 import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.audit.AuditLog;
+import com.codesoom.assignment.catalog.CatalogSnapshots;
+import com.codesoom.assignment.catalog.ProductReadModel;
+import com.codesoom.assignment.domain.ChangeType;
 import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductFields;
 import com.codesoom.assignment.dto.ProductData;
 import com.codesoom.assignment.errors.InvalidTokenException;
 import com.codesoom.assignment.errors.ProductNotFoundException;
+import com.codesoom.assignment.popularity.ProductAccessCounter;
 import com.codesoom.assignment.utils.JwtUtil;
+import com.codesoom.assignment.warmup.Warmup;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -37,6 +54,11 @@ class ProductControllerTest {
 
     private static final String INVALID_TOKEN = VALID_TOKEN + "INVALID";
 
+    private static final MediaType SMILE =
+            MediaType.parseMediaType("application/x-jackson-smile");
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -49,6 +71,18 @@ class ProductControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private ProductAccessCounter productAccessCounter;
+
+    @MockBean
+    private ProductReadModel productReadModel;
+
+    @MockBean
+    private CatalogSnapshots catalogSnapshots;
+
+    @MockBean
+    private AuditLog auditLog;
+
     @BeforeEach
     void setUp() {
         Product product = Product.builder()
@@ -61,6 +95,12 @@ class ProductControllerTest {
 
         given(productService.getProduct(1L)).willReturn(product);
 
+        given(productService.getProducts(any(ProductFields.class)))
+                .willReturn(List.of(Map.of("id", 1L, "name", "쥐돌이")));
+
+        given(productService.getProduct(eq(1L), any(ProductFields.class)))
+                .willReturn(Map.of("name", "쥐돌이"));
+
         given(productService.getProduct(1000L))
                 .willThrow(new ProductNotFoundException(1000L));
 
@@ -108,6 +148,90 @@ class ProductControllerTest {
                 .andExpect(content().string(containsString("쥐돌이")));
     }
 
+    @Test
+    void listFromReadModel() throws Exception {
+        given(productReadModel.isReady()).willReturn(true);
+        given(productReadModel.findAll()).willReturn(List.of(
+                Product.builder().id(2L).name("쥐순이").build()));
+
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("쥐순이")));
+
+        verify(productService, never()).getProducts();
+    }
+
+    @Test
+    void detailFromReadModel() throws Exception {
+        given(productReadModel.findById(2L)).willReturn(Optional.of(
+                Product.builder().id(2L).name("쥐순이").build()));
+
+        mockMvc.perform(get("/products/2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("쥐순이")));
+
+        verify(productService, never()).getProduct(2L);
+        verify(productAccessCounter).record(2L);
+    }
+
+    @Test
+    void listFromSnapshotWhileCatchingUp() throws Exception {
+        given(catalogSnapshots.isServing()).willReturn(true);
+        given(catalogSnapshots.findAll()).willReturn(List.of(
+                Product.builder().id(3L).name("쥐삼이").build()));
+
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("쥐삼이")));
+
+        verify(productService, never()).getProducts();
+    }
+
+    @Test
+    void listFromSnapshotDuringOutage() throws Exception {
+        given(productService.getProducts())
+                .willThrow(new DataAccessResourceFailureException("down"));
+        given(catalogSnapshots.isAvailable()).willReturn(true);
+        given(catalogSnapshots.findAll()).willReturn(List.of(
+                Product.builder().id(3L).name("쥐삼이").build()));
+
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("쥐삼이")));
+
+        verify(catalogSnapshots).databaseUnavailable();
+    }
+
+    @Test
+    void detailFromSnapshotWhileCatchingUp() throws Exception {
+        given(catalogSnapshots.isServing()).willReturn(true);
+        given(catalogSnapshots.findById(3L)).willReturn(Optional.of(
+                Product.builder().id(3L).name("쥐삼이").build()));
+
+        mockMvc.perform(get("/products/3"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("쥐삼이")));
+    }
+
+    @Test
+    void detailDuringOutage() throws Exception {
+        given(productService.getProduct(3L))
+                .willThrow(new DataAccessResourceFailureException("down"));
+        given(catalogSnapshots.isAvailable()).willReturn(true);
+
+        mockMvc.perform(get("/products/3"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void detailDuringOutageWithoutSnapshot() {
+        given(productService.getProduct(3L))
+                .willThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/products/3")))
+                .hasRootCauseInstanceOf(DataAccessResourceFailureException.class);
+    }
+
     @Test
     void deatilWithExsitedProduct() throws Exception {
         mockMvc.perform(
@@ -116,12 +240,101 @@ class ProductControllerTest {
         )
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("쥐돌이")));
+
+        verify(productAccessCounter).record(1L);
+    }
+
+    @Test
+    void detailForWarmupIsNotCounted() throws Exception {
+        mockMvc.perform(get("/products/1").requestAttr(Warmup.ATTRIBUTE, true))
+                .andExpect(status().isOk());
+
+        verify(productAccessCounter, never()).record(1L);
+    }
+
+    @Test
+    void detailWithWarmupHeaderOnlyIsCounted() throws Exception {
+        mockMvc.perform(get("/products/1").header(Warmup.HEADER, "true"))
+                .andExpect(status().isOk());
+
+        verify(productAccessCounter).record(1L);
+    }
+
+    @Test
+    void listWithFields() throws Exception {
+        mockMvc.perform(get("/products").param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":1,\"name\":\"쥐돌이\"}]", true));
+
+        verify(productService).getProducts(ProductFields.parse("id,name"));
+    }
+
+    @Test
+    void detailWithFields() throws Exception {
+        mockMvc.perform(get("/products/1").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"name\":\"쥐돌이\"}", true));
+    }
+
+    @Test
+    void detailWithFieldsForWarmupIsNotCounted() throws Exception {
+        mockMvc.perform(get("/products/1").param("fields", "name")
+                .requestAttr(Warmup.ATTRIBUTE, true))
+                .andExpect(status().isOk());
+
+        verify(productAccessCounter, never()).record(1L);
+    }
+
+    @Test
+    void listWithUnknownFields() throws Exception {
+        mockMvc.perform(get("/products").param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"message\":\"Invalid fields\"}"));
+    }
+
+    @Test
+    void detailInSmile() throws Exception {
+        byte[] body = mockMvc.perform(
+                get("/products/1")
+                        .accept(SMILE)
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode product = new ObjectMapper(new SmileFactory()).readTree(body);
+
+        assertThat(product.get("name").asText()).isEqualTo("쥐돌이");
+    }
+
+    @Test
+    void createWithCborBody() throws Exception {
+        byte[] body = new ObjectMapper(new CBORFactory()).writeValueAsBytes(
+                ProductData.builder()
+                        .name("쥐돌이")
+                        .maker("냥이월드")
+                        .price(5000)
+                        .build());
+
+        mockMvc.perform(
+                        post("/products")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(CBOR)
+                                .content(body)
+                                .header("Authorization", "Bearer " + VALID_TOKEN)
+                )
+                .andExpect(status().isCreated())
+                .andExpect(content().string(containsString("쥐돌이")));
+
+        verify(productService).createProduct(any(ProductData.class));
     }
 
     @Test
     void deatilWithNotExsitedProduct() throws Exception {
         mockMvc.perform(get("/products/1000"))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"message\":\"Product not found\"}"));
     }
 
     @Test
@@ -138,6 +351,7 @@ class ProductControllerTest {
                 .andExpect(content().string(containsString("쥐돌이")));
 
         verify(productService).createProduct(any(ProductData.class));
+        verify(auditLog).productChanged(ChangeType.CREATED, 1L, 1L);
     }
 
     @Test
@@ -162,7 +376,8 @@ class ProductControllerTest {
                                         "\"price\":5000}")
                                 .header("Authorization", "Bearer " + INVALID_TOKEN)
                 )
-                        .andExpect(status().isUnauthorized());
+                        .andExpect(status().isUnauthorized())
+                        .andExpect(content().json("{\"message\":\"Invalid access token\"}"));
     }
 
     @Test
@@ -208,6 +423,7 @@ class ProductControllerTest {
                 .andExpect(content().string(containsString("쥐돌이")));
 
         verify(productService).updateProduct(eq(1L), any(ProductData.class));
+        verify(auditLog).productChanged(ChangeType.UPDATED, 1L, 1L);
     }
 
     @Test
@@ -287,6 +503,7 @@ class ProductControllerTest {
                 .andExpect(status().isNoContent());
 
         verify(productService).deleteProduct(1L);
+        verify(auditLog).productChanged(ChangeType.DELETED, 1L, 1L);
     }
 
     @Test
@@ -326,5 +543,6 @@ class ProductControllerTest {
                 .andExpect(status().isNotFound());
 
         verify(productService).deleteProduct(1000L);
+        verify(auditLog, never()).productChanged(any(), eq(1000L), eq(1L));
     }
 }
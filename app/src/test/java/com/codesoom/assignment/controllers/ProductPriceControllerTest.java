@@ -0,0 +1,83 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.AuthenticationService;
+import com.codesoom.assignment.application.ProductPriceService;
+import com.codesoom.assignment.domain.ProductPrice;
+import com.codesoom.assignment.errors.ProductPriceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ProductPriceController.class)
+class ProductPriceControllerTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductPriceService productPriceService;
+
+    @MockBean
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        given(productPriceService.getPriceAt(1L, T0.plusHours(1)))
+                .willReturn(price(5000, T0));
+
+        given(productPriceService.getPriceAt(1L, T0.minusDays(1)))
+                .willThrow(new ProductPriceNotFoundException(1L));
+
+        given(productPriceService.getPrices(1L, T0, T0.plusDays(2)))
+                .willReturn(List.of(price(5000, T0), price(6000, T0.plusDays(1))));
+    }
+
+    @Test
+    void priceAt() throws Exception {
+        mockMvc.perform(get("/products/1/prices")
+                        .param("at", "2026-01-01T01:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(
+                        "{\"productId\":1,\"price\":5000," +
+                                "\"changedAt\":\"2026-01-01T00:00:00\"}"));
+    }
+
+    @Test
+    void priceAtBeforeFirstPrice() throws Exception {
+        mockMvc.perform(get("/products/1/prices")
+                        .param("at", "2025-12-31T00:00:00"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().json(
+                        "{\"message\":\"Product price not found\"}"));
+    }
+
+    @Test
+    void prices() throws Exception {
+        mockMvc.perform(get("/products/1/prices")
+                        .param("from", "2026-01-01T00:00:00")
+                        .param("to", "2026-01-03T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(
+                        "[{\"price\":5000},{\"price\":6000}]"));
+    }
+
+    private static ProductPrice price(int price, LocalDateTime changedAt) {
+        return ProductPrice.builder()
+                .productId(1L)
+                .price(price)
+                .changedAt(changedAt)
+                .build();
+    }
+}
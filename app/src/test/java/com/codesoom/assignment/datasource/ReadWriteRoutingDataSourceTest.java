@@ -0,0 +1,111 @@
+package com.codesoom.assignment.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 로컬 H2 인스턴스를 primary, replica로 두고 라우팅을 확인합니다.
+ */
+class ReadWriteRoutingDataSourceTest {
+    private static final String WHO_AM_I = "SELECT name FROM node";
+
+    private HikariDataSource primary;
+
+    private HikariDataSource replica;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica));
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        String node = readOnly.execute(status ->
+                jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() {
+        String node = readWrite.execute(status ->
+                jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void forcedPrimaryOverridesReadOnly() {
+        ReplicaRoutingContext.forcePrimary();
+
+        String node = readOnly.execute(status ->
+                jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void readLoadIsServedByReplicaPool() {
+        for (int i = 0; i < 100; i++) {
+            readOnly.execute(status ->
+                    jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+        }
+
+        assertThat(replica.getHikariPoolMXBean().getTotalConnections())
+                .isPositive();
+        assertThat(primary.getHikariPoolMXBean().getTotalConnections())
+                .isZero();
+    }
+
+    private HikariDataSource h2(String name) {
+        String url = "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+
+        JdbcTemplate template = new JdbcTemplate(new DriverManagerDataSource(url));
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        template.execute("DELETE FROM node");
+        template.update("INSERT INTO node VALUES (?)", name);
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setPoolName(name);
+        config.setMinimumIdle(0);
+
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,59 @@
+package com.codesoom.assignment.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+    private static final String TOKEN = "Bearer TOKEN";
+
+    private final ReadYourWritesFilter filter =
+            new ReadYourWritesFilter(Duration.ofMinutes(1), 100);
+
+    @Test
+    void readWithoutRecentWriteMayUseReplica() throws Exception {
+        assertThat(primaryForcedDuring(request("GET", TOKEN))).isFalse();
+    }
+
+    @Test
+    void readAfterOwnWriteUsesPrimary() throws Exception {
+        filter.doFilter(request("PATCH", TOKEN),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(primaryForcedDuring(request("GET", TOKEN))).isTrue();
+        assertThat(ReplicaRoutingContext.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    void writesOfOtherClientsDoNotAffectReads() throws Exception {
+        filter.doFilter(request("POST", "Bearer OTHER"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(primaryForcedDuring(request("GET", TOKEN))).isFalse();
+    }
+
+    private boolean primaryForcedDuring(MockHttpServletRequest request)
+            throws Exception {
+        AtomicBoolean forced = new AtomicBoolean();
+        FilterChain chain = (req, res) ->
+                forced.set(ReplicaRoutingContext.isPrimaryForced());
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        return forced.get();
+    }
+
+    private MockHttpServletRequest request(String method, String authorization) {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest(method, "/products/1");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
@@ -0,0 +1,40 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.errors.InvalidFieldsException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductFieldsTest {
+    @Test
+    void namesFollowProductOrder() {
+        ProductFields fields = ProductFields.parse("price, name,id");
+
+        assertThat(fields.getNames()).containsExactly("id", "name", "price");
+    }
+
+    @Test
+    void includesStock() {
+        ProductFields fields = ProductFields.parse("stock,name");
+
+        assertThat(fields.getNames()).containsExactly("name", "stock");
+    }
+
+    @Test
+    void sameSetIsEqualRegardlessOfOrder() {
+        assertThat(ProductFields.parse("name,id"))
+                .isEqualTo(ProductFields.parse("id,name,id"));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {",", "id,password", "Name"})
+    void rejectsUnknownOrEmptyFields(String fields) {
+        assertThatThrownBy(() -> ProductFields.parse(fields))
+                .isInstanceOf(InvalidFieldsException.class);
+    }
+}
@@ -0,0 +1,160 @@
+package com.codesoom.assignment.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 {@link ProductRepository} 구현이 지켜야 하는 동작입니다.
+ * 구현마다 이 클래스를 상속한 테스트를 둡니다.
+ */
+public abstract class ProductRepositoryContract {
+    protected abstract ProductRepository productRepository();
+
+    private Product saveProduct(String name) {
+        return productRepository().save(Product.builder()
+                .name(name)
+                .maker("냥이월드")
+                .price(5000)
+                .imageUrl("https://example.com/mouse.png")
+                .build());
+    }
+
+    @Test
+    void saveAssignsId() {
+        Product product = saveProduct("쥐돌이");
+
+        assertThat(product.getId()).isNotNull();
+        assertThat(saveProduct("쥐순이").getId()).isNotEqualTo(product.getId());
+    }
+
+    @Test
+    void findByIdWithExistedId() {
+        Product saved = saveProduct("쥐돌이");
+
+        Product found = productRepository().findById(saved.getId()).get();
+
+        assertThat(found.getName()).isEqualTo("쥐돌이");
+        assertThat(found.getMaker()).isEqualTo("냥이월드");
+        assertThat(found.getPrice()).isEqualTo(5000);
+        assertThat(found.getImageUrl()).isEqualTo("https://example.com/mouse.png");
+    }
+
+    @Test
+    void findByIdWithNotExistedId() {
+        assertThat(productRepository().findById(-1L)).isEmpty();
+    }
+
+    @Test
+    void findAllContainsSavedProducts() {
+        Product first = saveProduct("쥐돌이");
+        Product second = saveProduct("쥐순이");
+
+        assertThat(productRepository().findAll())
+                .extracting(Product::getId)
+                .contains(first.getId(), second.getId());
+    }
+
+    @Test
+    void saveWithExistedIdUpdates() {
+        Product product = saveProduct("쥐돌이");
+
+        product.changeWith(Product.builder()
+                .name("쥐순이")
+                .maker("냥이월드")
+                .price(6000)
+                .build());
+        productRepository().save(product);
+
+        Product found = productRepository().findById(product.getId()).get();
+
+        assertThat(found.getName()).isEqualTo("쥐순이");
+        assertThat(found.getPrice()).isEqualTo(6000);
+        assertThat(found.getImageUrl()).isNull();
+    }
+
+    @Test
+    void delete() {
+        Product product = saveProduct("쥐돌이");
+
+        productRepository().delete(product);
+
+        assertThat(productRepository().findById(product.getId())).isEmpty();
+    }
+
+    @Test
+    void findAllByIdIn() {
+        Product first = saveProduct("쥐돌이");
+        saveProduct("쥐순이");
+
+        assertThat(productRepository().findAllByIdIn(List.of(first.getId(), -1L)))
+                .extracting(Product::getName)
+                .containsExactly("쥐돌이");
+    }
+
+    @Test
+    void updatePrices() {
+        Product first = saveProduct("쥐돌이");
+        Product second = saveProduct("쥐순이");
+        Product third = saveProduct("쥐냥이");
+
+        int updated = productRepository().updatePrices(Map.of(
+                first.getId(), 4000,
+                second.getId(), 4000,
+                third.getId(), 3000,
+                -1L, 1000));
+
+        assertThat(updated).isEqualTo(3);
+        assertThat(productRepository().findById(first.getId()).get().getPrice())
+                .isEqualTo(4000);
+        assertThat(productRepository().findById(third.getId()).get().getPrice())
+                .isEqualTo(3000);
+        assertThat(productRepository().findById(third.getId()).get().getName())
+                .isEqualTo("쥐냥이");
+    }
+
+    @Test
+    void decreaseStock() {
+        Product product = productRepository().save(Product.builder()
+                .name("쥐돌이")
+                .stock(3)
+                .build());
+
+        assertThat(productRepository().decreaseStock(product.getId(), 2))
+                .isEqualTo(1);
+        assertThat(productRepository().decreaseStock(product.getId(), 2))
+                .isZero();
+        assertThat(productRepository().decreaseStock(-1L, 1)).isZero();
+        assertThat(productRepository().findById(product.getId()).get().getStock())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void saveWithStockRestocks() {
+        Product product = productRepository().save(Product.builder()
+                .name("쥐돌이")
+                .stock(1)
+                .build());
+        productRepository().decreaseStock(product.getId(), 1);
+
+        Product found = productRepository().findById(product.getId()).get();
+        found.changeWith(Product.builder()
+                .name("쥐돌이")
+                .stock(10)
+                .build());
+        productRepository().save(found);
+
+        assertThat(productRepository().findById(product.getId()).get().getStock())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void decreaseStockWithoutStock() {
+        Product product = saveProduct("쥐돌이");
+
+        assertThat(productRepository().decreaseStock(product.getId(), 1)).isZero();
+    }
+}
@@ -40,4 +40,21 @@ class ProductTest {
         assertThat(product.getMaker()).isEqualTo("코드숨");
         assertThat(product.getPrice()).isEqualTo(10000);
     }
+
+    @Test
+    void changeWithKeepsStockWhenNotGiven() {
+        Product product = Product.builder()
+                .id(1L)
+                .name("쥐돌이")
+                .stock(10)
+                .build();
+
+        product.changeWith(Product.builder().name("쥐순이").build());
+
+        assertThat(product.getStock()).isEqualTo(10);
+
+        product.changeWith(Product.builder().name("쥐순이").stock(3).build());
+
+        assertThat(product.getStock()).isEqualTo(3);
+    }
 }
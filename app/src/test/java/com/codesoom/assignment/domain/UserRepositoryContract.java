@@ -0,0 +1,112 @@
+package com.codesoom.assignment.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 {@link UserRepository} 구현이 지켜야 하는 동작입니다.
+ * 구현마다 이 클래스를 상속한 테스트를 둡니다.
+ */
+public abstract class UserRepositoryContract {
+    private static final String EMAIL = "contract@example.com";
+
+    protected abstract UserRepository userRepository();
+
+    private User saveUser() {
+        return userRepository().save(User.builder()
+                .email(EMAIL)
+                .name("Tester")
+                .password("test")
+                .build());
+    }
+
+    @Test
+    void saveAssignsId() {
+        User user = saveUser();
+
+        assertThat(user.getId()).isNotNull();
+        assertThat(user.isDeleted()).isFalse();
+    }
+
+    @Test
+    void findById() {
+        User user = saveUser();
+
+        User found = userRepository().findById(user.getId()).get();
+
+        assertThat(found.getEmail()).isEqualTo(EMAIL);
+        assertThat(found.getName()).isEqualTo("Tester");
+        assertThat(userRepository().findById(-1L)).isEmpty();
+    }
+
+    @Test
+    void existsByEmail() {
+        assertThat(userRepository().existsByEmail(EMAIL)).isFalse();
+
+        saveUser();
+
+        assertThat(userRepository().existsByEmail(EMAIL)).isTrue();
+    }
+
+    @Test
+    void findByEmail() {
+        User user = saveUser();
+
+        assertThat(userRepository().findByEmail(EMAIL).get().getId())
+                .isEqualTo(user.getId());
+        assertThat(userRepository().findByEmail("nobody@example.com"))
+                .isEmpty();
+    }
+
+    @Test
+    void findByEmailAndPassword() {
+        User user = saveUser();
+
+        assertThat(userRepository().findByEmailAndPassword(EMAIL, "test")
+                .get().getId()).isEqualTo(user.getId());
+        assertThat(userRepository().findByEmailAndPassword(EMAIL, "xxx"))
+                .isEmpty();
+    }
+
+    @Test
+    void saveWithExistedIdUpdates() {
+        User user = saveUser();
+
+        user.changeWith(User.builder()
+                .name("Changed")
+                .password("changed")
+                .build());
+        userRepository().save(user);
+
+        User found = userRepository().findById(user.getId()).get();
+
+        assertThat(found.getName()).isEqualTo("Changed");
+        assertThat(found.authenticate("changed")).isTrue();
+    }
+
+    @Test
+    void findByIdAndDeletedIsFalse() {
+        User user = saveUser();
+
+        assertThat(userRepository().findByIdAndDeletedIsFalse(user.getId()))
+                .isNotEmpty();
+
+        user.destroy();
+        userRepository().save(user);
+
+        assertThat(userRepository().findByIdAndDeletedIsFalse(user.getId()))
+                .isEmpty();
+        assertThat(userRepository().findById(user.getId())).isNotEmpty();
+    }
+
+    @Test
+    void deleteByEmail() {
+        User user = saveUser();
+
+        userRepository().deleteByEmail(EMAIL);
+
+        assertThat(userRepository().findById(user.getId())).isEmpty();
+        assertThat(userRepository().existsByEmail(EMAIL)).isFalse();
+    }
+}
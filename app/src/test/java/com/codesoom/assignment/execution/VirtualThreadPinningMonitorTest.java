@@ -0,0 +1,30 @@
+package com.codesoom.assignment.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void startsAndClosesOnAnyJdk() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+                Duration.ofMillis(20), meterRegistry);
+
+        monitor.start();
+        monitor.close();
+
+        assertThat(meterRegistry.get("virtual-threads.pinned").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void closeWithoutStartDoesNothing() {
+        new VirtualThreadPinningMonitor(Duration.ofMillis(20), meterRegistry)
+                .close();
+    }
+}
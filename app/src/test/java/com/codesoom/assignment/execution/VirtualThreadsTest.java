@@ -0,0 +1,28 @@
+package com.codesoom.assignment.execution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsTest {
+    @Test
+    void executorIsAvailableOnlyWhenSupported() throws Exception {
+        Optional<ExecutorService> executor =
+                VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+        assertThat(executor.isPresent()).isEqualTo(VirtualThreads.isSupported());
+
+        if (executor.isPresent()) {
+            try (AutoCloseable ignored = executor.get()::shutdown) {
+                String threadName = executor.get()
+                        .submit(() -> Thread.currentThread().toString())
+                        .get();
+
+                assertThat(threadName).startsWith("VirtualThread");
+            }
+        }
+    }
+}
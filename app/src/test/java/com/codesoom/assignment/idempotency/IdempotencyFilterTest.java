@@ -0,0 +1,186 @@
+package com.codesoom.assignment.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+    private static final String BODY =
+            "{\"name\":\"쥐돌이\",\"maker\":\"냥이월드\",\"price\":5000}";
+
+    private final IdempotencyStore store =
+            new IdempotencyStore(Duration.ofMinutes(1), 100);
+
+    private final IdempotencyFilter filter =
+            new IdempotencyFilter(store, Duration.ofSeconds(5));
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Test
+    void retryReturnsOriginalResponse() throws Exception {
+        FilterChain chain = created();
+
+        MockHttpServletResponse first = post("KEY", BODY, chain);
+        MockHttpServletResponse retry = post("KEY", BODY, chain);
+
+        assertThat(invocations).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString())
+                .isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER))
+                .isEqualTo("true");
+    }
+
+    @Test
+    void requestsWithoutKeyAreNotDeduplicated() throws Exception {
+        FilterChain chain = created();
+
+        post(null, BODY, chain);
+        post(null, BODY, chain);
+
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        FilterChain chain = created();
+
+        post("KEY", BODY, chain);
+        MockHttpServletResponse response = post("KEY", "{}", chain);
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void failedResponsesAreNotStored() throws Exception {
+        FilterChain chain = (request, response) -> {
+            invocations.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(400);
+        };
+
+        post("KEY", BODY, chain);
+        post("KEY", BODY, chain);
+
+        assertThat(invocations).hasValue(2);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForInFlightRequest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            invocations.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            write(response, request.getInputStream().readAllBytes());
+        };
+
+        CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> postQuietly(chain));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> postQuietly(chain));
+
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString())
+                .isEqualTo(BODY);
+        assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString())
+                .isEqualTo(BODY);
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void cachedBodyCanBeReadWithReadListener() throws Exception {
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicInteger allDataRead = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        read.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new IllegalStateException(throwable);
+                }
+            });
+            write(response, read.toByteArray());
+        };
+
+        MockHttpServletResponse response = post("KEY", BODY, chain);
+
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(allDataRead).hasValue(1);
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            invocations.incrementAndGet();
+            write(response, ("{\"id\":" + invocations.get() + "}")
+                    .getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private void write(ServletResponse response, byte[] body)
+            throws IOException {
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType("application/json");
+        response.getOutputStream().write(body);
+    }
+
+    private MockHttpServletResponse postQuietly(FilterChain chain) {
+        try {
+            return post("KEY", BODY, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockHttpServletResponse post(String key, String body,
+                                         FilterChain chain) throws Exception {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("POST", "/products");
+        request.addHeader("Authorization", "Bearer TOKEN");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,65 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.ProductPrice;
+import com.codesoom.assignment.domain.ProductPriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class JpaProductPriceRepositoryTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private ProductPriceRepository productPriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        productPriceRepository.saveAll(List.of(
+                price(1L, 5000, T0),
+                price(1L, 6000, T0.plusDays(1)),
+                price(1L, 7000, T0.plusDays(2)),
+                price(2L, 100, T0.plusDays(1))));
+    }
+
+    @Test
+    void findLatestReturnsPriceInEffect() {
+        List<ProductPrice> prices = productPriceRepository.findLatest(1L,
+                T0.plusDays(1).plusHours(1), PageRequest.of(0, 1));
+
+        assertThat(prices).extracting(ProductPrice::getPrice).containsExactly(6000);
+    }
+
+    @Test
+    void findLatestBeforeFirstPrice() {
+        assertThat(productPriceRepository.findLatest(1L, T0.minusDays(1),
+                PageRequest.of(0, 1))).isEmpty();
+    }
+
+    @Test
+    void findChangesReturnsRangeInOrder() {
+        List<ProductPrice> prices =
+                productPriceRepository.findChanges(1L, T0, T0.plusDays(2));
+
+        assertThat(prices).extracting(ProductPrice::getPrice)
+                .containsExactly(6000, 7000);
+    }
+
+    private static ProductPrice price(Long productId, int price,
+                                      LocalDateTime changedAt) {
+        return ProductPrice.builder()
+                .productId(productId)
+                .price(price)
+                .changedAt(changedAt)
+                .build();
+    }
+}
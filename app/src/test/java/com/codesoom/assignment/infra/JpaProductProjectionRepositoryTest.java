@@ -0,0 +1,70 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductFields;
+import com.codesoom.assignment.domain.ProductProjectionRepository;
+import com.codesoom.assignment.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class JpaProductProjectionRepositoryTest {
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductProjectionRepository productProjectionRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(Product.builder()
+                .name("쥐돌이")
+                .maker("냥이월드")
+                .price(5000)
+                .imageUrl("https://example.com/mouse.png")
+                .stock(7)
+                .build());
+    }
+
+    @Test
+    void findAllSelectsOnlyRequestedFields() {
+        List<Map<String, Object>> products =
+                productProjectionRepository.findAll(ProductFields.parse("id,name,price"));
+
+        assertThat(products).contains(Map.of(
+                "id", product.getId(), "name", "쥐돌이", "price", 5000));
+        assertThat(products.get(0).keySet()).containsExactly("id", "name", "price");
+    }
+
+    @Test
+    void findByIdSelectsOnlyRequestedFields() {
+        assertThat(productProjectionRepository.findById(product.getId(),
+                ProductFields.parse("maker")))
+                .contains(Map.of("maker", "냥이월드"));
+    }
+
+    @Test
+    void findByIdSelectsStock() {
+        assertThat(productProjectionRepository.findById(product.getId(),
+                ProductFields.parse("id,stock")))
+                .contains(Map.of("id", product.getId(), "stock", 7));
+    }
+
+    @Test
+    void findByIdWithUnknownId() {
+        assertThat(productProjectionRepository.findById(-1L,
+                ProductFields.parse("name")))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,19 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.domain.ProductRepositoryContract;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class JpaProductRepositoryTest extends ProductRepositoryContract {
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Override
+    protected ProductRepository productRepository() {
+        return productRepository;
+    }
+}
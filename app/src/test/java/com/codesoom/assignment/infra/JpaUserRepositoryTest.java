@@ -0,0 +1,19 @@
+package com.codesoom.assignment.infra;
+
+import com.codesoom.assignment.domain.UserRepository;
+import com.codesoom.assignment.domain.UserRepositoryContract;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class JpaUserRepositoryTest extends UserRepositoryContract {
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    @Override
+    protected UserRepository userRepository() {
+        return userRepository;
+    }
+}
@@ -0,0 +1,87 @@
+package com.codesoom.assignment.interceptors;
+
+import com.codesoom.assignment.limits.RouteClass;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitInterceptorTest {
+    private final ConcurrencyLimitInterceptor interceptor =
+            new ConcurrencyLimitInterceptor(2, 1, 10,
+                    Duration.ofSeconds(10), 0.9, 1.0, Duration.ofSeconds(3));
+
+    @Test
+    void rejectsOverLimitWithRetryAfter() {
+        assertThat(preHandle("GET", "/products/1").getStatus()).isEqualTo(200);
+        assertThat(preHandle("GET", "/products/2").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = preHandle("GET", "/products/3");
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("3");
+    }
+
+    @Test
+    void completionReleasesCapacity() {
+        MockHttpServletRequest request = request("GET", "/products/1");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        assertThat(interceptor.getLimit(RouteClass.CATALOG_READ).getInFlight())
+                .isZero();
+    }
+
+    @Test
+    void writesYieldToBusyReads() {
+        preHandle("GET", "/products/1");
+        preHandle("GET", "/products/2");
+
+        assertThat(preHandle("POST", "/products").getStatus()).isEqualTo(503);
+        assertThat(interceptor.getLimit(RouteClass.WRITE).getInFlight()).isZero();
+    }
+
+    @Test
+    void readsDoNotYieldToBusyWrites() {
+        preHandle("POST", "/products");
+        preHandle("DELETE", "/products/1");
+
+        assertThat(preHandle("GET", "/products/1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void classifiesByMethodFirst() {
+        assertThat(RouteClass.of("GET", "/products")).isEqualTo(RouteClass.CATALOG_READ);
+        assertThat(RouteClass.of("HEAD", "/products/1")).isEqualTo(RouteClass.CATALOG_READ);
+        assertThat(RouteClass.of("GET", "/products/popular")).isEqualTo(RouteClass.READ);
+        assertThat(RouteClass.of("GET", "/products/1/prices")).isEqualTo(RouteClass.READ);
+        assertThat(RouteClass.of("GET", "/users/1")).isEqualTo(RouteClass.READ);
+        assertThat(RouteClass.of("GET", "/orders")).isEqualTo(RouteClass.READ);
+        assertThat(RouteClass.of("POST", "/session")).isEqualTo(RouteClass.LOGIN);
+        assertThat(RouteClass.of("PATCH", "/users/1")).isEqualTo(RouteClass.WRITE);
+        assertThat(RouteClass.of("POST", "/orders")).isEqualTo(RouteClass.WRITE);
+        assertThat(RouteClass.of("POST", "/price-changes")).isEqualTo(RouteClass.WRITE);
+        assertThat(RouteClass.of("GET", "/")).isNull();
+    }
+
+    @Test
+    void otherPathsAreNotLimited() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(preHandle("GET", "/").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse preHandle(String method, String path) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request(method, path), response, null);
+        return response;
+    }
+
+    private MockHttpServletRequest request(String method, String path) {
+        return new MockHttpServletRequest(method, path);
+    }
+}
@@ -0,0 +1,66 @@
+package com.codesoom.assignment.limits;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimitTest {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final AimdLimit limit =
+            new AimdLimit(10, 2, 20, Duration.ofMillis(100), 0.5);
+
+    @Test
+    void rejectsBeyondLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void slowResponsesShrinkLimit() {
+        limit.tryAcquire();
+        limit.release(SLOW);
+
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void fastResponsesUnderLoadGrowLimit() {
+        for (int round = 0; round < 100; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(FAST);
+            }
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void idleFastResponsesKeepLimit() {
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(FAST);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+}
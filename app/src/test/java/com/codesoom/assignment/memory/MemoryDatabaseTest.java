@@ -0,0 +1,185 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductFields;
+import com.codesoom.assignment.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryDatabaseTest {
+    @TempDir
+    Path directory;
+
+    private MemoryDatabase database;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        database = new MemoryDatabase(directory, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        database.close();
+    }
+
+    private MemoryDatabase reopen() throws IOException {
+        database.close();
+        database = new MemoryDatabase(directory, Duration.ZERO);
+        return database;
+    }
+
+    private Product saveProduct(String name) {
+        return database.saveProduct(Product.builder()
+                .name(name)
+                .maker("냥이월드")
+                .price(5000)
+                .build());
+    }
+
+    @Test
+    void returnsCopies() {
+        Product saved = saveProduct("쥐돌이");
+
+        saved.changeWith(Product.builder().name("쥐순이").build());
+        database.findProduct(saved.getId()).get()
+                .changeWith(Product.builder().name("쥐순이").build());
+
+        assertThat(database.findProduct(saved.getId()).get().getName())
+                .isEqualTo("쥐돌이");
+    }
+
+    @Test
+    void productWritesKeepStockDecreasedAfterRead() {
+        Product saved = database.saveProduct(Product.builder()
+                .name("쥐돌이")
+                .price(5000)
+                .stock(10)
+                .build());
+        Product read = database.findProduct(saved.getId()).get();
+
+        database.decreaseStock(saved.getId(), 3);
+        database.updateProductPrices(Map.of(saved.getId(), 4000));
+        read.changeWith(Product.builder().name("쥐순이").price(4500).build());
+        database.saveProduct(read);
+
+        Product stored = database.findProduct(saved.getId()).get();
+        assertThat(stored.getName()).isEqualTo("쥐순이");
+        assertThat(stored.getStock()).isEqualTo(7);
+    }
+
+    @Test
+    void productWriteWithNewStockRestocks() {
+        Product saved = database.saveProduct(Product.builder()
+                .name("쥐돌이")
+                .stock(10)
+                .build());
+        Product read = database.findProduct(saved.getId()).get();
+
+        database.decreaseStock(saved.getId(), 3);
+        read.changeWith(Product.builder().name("쥐돌이").stock(20).build());
+        database.saveProduct(read);
+
+        assertThat(database.findProduct(saved.getId()).get().getStock())
+                .isEqualTo(20);
+    }
+
+    @Test
+    void recoversFromLog() throws IOException {
+        Product kept = saveProduct("쥐돌이");
+        Product deleted = saveProduct("쥐순이");
+        database.deleteProduct(deleted.getId());
+        User user = database.saveUser(User.builder()
+                .email("tester@example.com")
+                .password("test")
+                .build());
+
+        reopen();
+
+        assertThat(database.findProduct(kept.getId()).get().getName())
+                .isEqualTo("쥐돌이");
+        assertThat(database.findProduct(deleted.getId())).isEmpty();
+        assertThat(database.findUserByEmail("tester@example.com").get().getId())
+                .isEqualTo(user.getId());
+        assertThat(saveProduct("쥐돌이").getId()).isGreaterThan(user.getId());
+    }
+
+    @Test
+    void recoversFromSnapshotAndLog() throws IOException {
+        Product beforeSnapshot = saveProduct("쥐돌이");
+        database.compact();
+
+        assertThat(database.logSize()).isZero();
+
+        Product afterSnapshot = saveProduct("쥐순이");
+        database.deleteProduct(beforeSnapshot.getId());
+
+        reopen();
+
+        assertThat(database.findProducts())
+                .extracting(Product::getId)
+                .containsExactly(afterSnapshot.getId());
+        assertThat(saveProduct("쥐돌이").getId())
+                .isGreaterThan(afterSnapshot.getId());
+    }
+
+    @Test
+    void ignoresTornTail() throws IOException {
+        Product product = saveProduct("쥐돌이");
+        long size = database.logSize();
+        database.close();
+
+        Files.write(directory.resolve(MemoryDatabase.LOG_FILE),
+                new byte[]{0, 0, 0, 100, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        database = new MemoryDatabase(directory, Duration.ZERO);
+
+        assertThat(database.logSize()).isEqualTo(size);
+        assertThat(database.findProduct(product.getId())).isNotEmpty();
+        assertThat(saveProduct("쥐순이").getId()).isGreaterThan(product.getId());
+
+        reopen();
+
+        assertThat(database.findProducts()).hasSize(2);
+    }
+
+    @Test
+    void reindexesChangedEmail() {
+        User user = database.saveUser(User.builder()
+                .email("before@example.com")
+                .build());
+        database.saveUser(User.builder()
+                .id(user.getId())
+                .email("after@example.com")
+                .build());
+
+        assertThat(database.findUserByEmail("before@example.com")).isEmpty();
+        assertThat(database.findUserByEmail("after@example.com")).isNotEmpty();
+    }
+
+    @Test
+    void projection() {
+        Product product = saveProduct("쥐돌이");
+        MemoryProductProjectionRepository repository =
+                new MemoryProductProjectionRepository(database);
+        ProductFields fields = ProductFields.parse("id,name,price");
+
+        assertThat(repository.findById(product.getId(), fields))
+                .contains(Map.of("id", product.getId(), "name", "쥐돌이",
+                        "price", 5000));
+        assertThat(repository.findAll(ProductFields.parse("maker,imageUrl")).get(0))
+                .containsOnlyKeys("maker", "imageUrl");
+        assertThat(repository.findById(-1L, fields)).isEmpty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.domain.ProductRepositoryContract;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+class MemoryProductRepositoryTest extends ProductRepositoryContract {
+    @TempDir
+    Path directory;
+
+    private MemoryDatabase database;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        database = new MemoryDatabase(directory, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        database.close();
+    }
+
+    @Override
+    protected ProductRepository productRepository() {
+        return new MemoryProductRepository(database);
+    }
+}
@@ -0,0 +1,33 @@
+package com.codesoom.assignment.memory;
+
+import com.codesoom.assignment.domain.UserRepository;
+import com.codesoom.assignment.domain.UserRepositoryContract;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+class MemoryUserRepositoryTest extends UserRepositoryContract {
+    @TempDir
+    Path directory;
+
+    private MemoryDatabase database;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        database = new MemoryDatabase(directory, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        database.close();
+    }
+
+    @Override
+    protected UserRepository userRepository() {
+        return new MemoryUserRepository(database);
+    }
+}
@@ -0,0 +1,95 @@
+package com.codesoom.assignment.memory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteAheadLogTest {
+    @TempDir
+    Path directory;
+
+    private Path path() {
+        return directory.resolve("test.wal");
+    }
+
+    private List<String> replay() throws IOException {
+        List<String> records = new ArrayList<>();
+        try (WriteAheadLog log = new WriteAheadLog(path(), Duration.ZERO)) {
+            log.replay(payload ->
+                    records.add(new String(payload, StandardCharsets.UTF_8)));
+            log.start();
+        }
+        return records;
+    }
+
+    private void append(String... records) throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(path(), Duration.ofMillis(1))) {
+            log.replay(payload -> {
+            });
+            log.start();
+            long sequence = 0;
+            for (String record : records) {
+                sequence = log.append(record.getBytes(StandardCharsets.UTF_8));
+            }
+            log.awaitDurable(sequence);
+        }
+    }
+
+    @Test
+    void replaysAppendedRecords() throws IOException {
+        append("a", "b");
+        append("c");
+
+        assertThat(replay()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void dropsRecordWithBadChecksum() throws IOException {
+        append("a", "b");
+
+        try (RandomAccessFile file = new RandomAccessFile(path().toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            file.write('x');
+        }
+
+        assertThat(replay()).containsExactly("a");
+        append("c");
+        assertThat(replay()).containsExactly("a", "c");
+    }
+
+    @Test
+    void truncate() throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(path(), Duration.ofHours(1))) {
+            log.replay(payload -> {
+            });
+            log.start();
+
+            long sequence = log.append(new byte[]{1});
+            log.truncate();
+            log.awaitDurable(sequence);
+
+            assertThat(log.size()).isZero();
+        }
+    }
+
+    @Test
+    void appendAfterClose() throws IOException {
+        WriteAheadLog log = new WriteAheadLog(path(), Duration.ZERO);
+        log.start();
+        log.close();
+        log.close();
+
+        assertThatThrownBy(() -> log.append(new byte[]{1}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
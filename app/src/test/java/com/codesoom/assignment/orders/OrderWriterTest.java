@@ -0,0 +1,168 @@
+package com.codesoom.assignment.orders;
+
+import com.codesoom.assignment.cache.InvalidationBus;
+import com.codesoom.assignment.domain.Order;
+import com.codesoom.assignment.domain.OrderRepository;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.errors.OrderQueueFullException;
+import com.codesoom.assignment.errors.OutOfStockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OrderWriterTest {
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+
+    private final StockLedger stockLedger =
+            new StockLedger(productRepository, 4, Duration.ofMinutes(1));
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private OrderWriter orderWriter;
+
+    @BeforeEach
+    void setUp() {
+        given(productRepository.findById(1L)).willReturn(Optional.of(
+                Product.builder().id(1L).price(5000).stock(10).build()));
+        given(productRepository.decreaseStock(eq(1L), anyInt())).willReturn(1);
+        given(orderRepository.saveAll(any())).will(invocation -> save(
+                invocation.getArgument(0)));
+
+        orderWriter = new OrderWriter(orderRepository, productRepository,
+                stockLedger, invalidationBus, mock(PlatformTransactionManager.class),
+                100, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderWriter.close();
+    }
+
+    @Test
+    void submitCompletesWithSavedOrder() throws Exception {
+        orderWriter.start();
+
+        Order saved = place(2).get(5, TimeUnit.SECONDS);
+
+        assertThat(saved.getId()).isEqualTo(1L);
+        assertThat(saved.getQuantity()).isEqualTo(2);
+        verify(productRepository).decreaseStock(1L, 2);
+        verify(invalidationBus).publish(any());
+    }
+
+    @Test
+    void ordersWaitingForCommitShareNextBatch() throws Exception {
+        CountDownLatch firstSaving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderRepository.saveAll(any())).will(invocation -> {
+            if (batchSizes.isEmpty()) {
+                firstSaving.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return save(invocation.getArgument(0));
+        });
+        orderWriter.start();
+
+        CompletableFuture<Order> first = place(1);
+        firstSaving.await(5, TimeUnit.SECONDS);
+        List<CompletableFuture<Order>> waiting = List.of(place(1), place(2), place(3));
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Order> order : waiting) {
+            order.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(batchSizes).containsExactly(1, 3);
+        verify(productRepository).decreaseStock(1L, 6);
+    }
+
+    @Test
+    void orderOverStoredStockIsRejected() throws Exception {
+        given(productRepository.decreaseStock(1L, 3)).willReturn(0);
+        orderWriter.start();
+
+        CompletableFuture<Order> order = place(3);
+
+        assertThatThrownBy(() -> order.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(OutOfStockException.class);
+        assertThat(stockLedger.available(1L)).isEqualTo(-1);
+    }
+
+    @Test
+    void failedBatchReleasesStock() throws Exception {
+        given(orderRepository.saveAll(any()))
+                .willThrow(new QueryTimeoutException("timeout"));
+        orderWriter.start();
+
+        CompletableFuture<Order> order = place(4);
+
+        assertThatThrownBy(() -> order.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(QueryTimeoutException.class);
+        assertThat(stockLedger.available(1L)).isEqualTo(10);
+    }
+
+    @Test
+    void submitBeforeStartIsRejected() {
+        CompletableFuture<Order> order = place(4);
+
+        assertThat(order).isCompletedExceptionally();
+        assertThatThrownBy(order::join)
+                .hasCauseInstanceOf(OrderQueueFullException.class);
+        assertThat(stockLedger.available(1L)).isEqualTo(10);
+    }
+
+    private CompletableFuture<Order> place(int quantity) {
+        assertThat(stockLedger.reserve(1L, quantity)).isTrue();
+        return orderWriter.submit(Order.builder()
+                .productId(1L)
+                .userId(1L)
+                .quantity(quantity)
+                .price(5000)
+                .build());
+    }
+
+    private List<Order> save(Iterable<Order> orders) {
+        List<Order> saved = new ArrayList<>();
+        for (Order order : orders) {
+            saved.add(Order.builder()
+                    .id(ids.incrementAndGet())
+                    .productId(order.getProductId())
+                    .userId(order.getUserId())
+                    .quantity(order.getQuantity())
+                    .price(order.getPrice())
+                    .build());
+        }
+        batchSizes.add(saved.size());
+        return saved;
+    }
+}
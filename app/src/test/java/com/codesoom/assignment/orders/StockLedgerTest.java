@@ -0,0 +1,167 @@
+package com.codesoom.assignment.orders;
+
+import com.codesoom.assignment.cache.Invalidation;
+import com.codesoom.assignment.domain.ChangeType;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductRepository;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StockLedgerTest {
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    private final StockLedger stockLedger =
+            new StockLedger(productRepository, 4, Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        givenStock(10);
+    }
+
+    @Test
+    void reserveUntilEmpty() {
+        assertThat(stockLedger.reserve(1L, 3)).isTrue();
+        assertThat(stockLedger.reserve(1L, 3)).isTrue();
+        assertThat(stockLedger.reserve(1L, 3)).isTrue();
+        assertThat(stockLedger.reserve(1L, 3)).isFalse();
+        assertThat(stockLedger.reserve(1L, 1)).isTrue();
+
+        assertThat(stockLedger.available(1L)).isZero();
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedStock() throws Exception {
+        givenStock(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Integer>> buyers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            buyers.add(() -> {
+                int reserved = 0;
+                for (int j = 0; j < 500; j++) {
+                    if (stockLedger.reserve(1L, 1)) {
+                        reserved++;
+                    }
+                }
+                return reserved;
+            });
+        }
+
+        int total = 0;
+        for (Future<Integer> future : executor.invokeAll(buyers)) {
+            total += future.get();
+        }
+        executor.shutdown();
+
+        assertThat(total).isEqualTo(1000);
+        assertThat(stockLedger.available(1L)).isZero();
+    }
+
+    @Test
+    void releaseReturnsStock() {
+        stockLedger.reserve(1L, 10);
+
+        stockLedger.release(1L, 4);
+
+        assertThat(stockLedger.available(1L)).isEqualTo(4);
+    }
+
+    @Test
+    void resetSubtractsUncommittedReservations() {
+        stockLedger.reserve(1L, 4);
+        stockLedger.reset(1L);
+
+        assertThat(stockLedger.reserve(1L, 6)).isTrue();
+        assertThat(stockLedger.reserve(1L, 1)).isFalse();
+
+        stockLedger.confirm(1L, 4);
+        stockLedger.confirm(1L, 6);
+        givenStock(0);
+        stockLedger.reset(1L);
+
+        assertThat(stockLedger.reserve(1L, 1)).isFalse();
+    }
+
+    @Test
+    void productChangeReloadsStock() {
+        stockLedger.reserve(1L, 10);
+        givenStock(5);
+
+        stockLedger.onProductChanged(new ProductChangedEvent(ChangeType.UPDATED,
+                Product.builder().id(1L).stock(5).build()));
+
+        assertThat(stockLedger.reserve(1L, 5)).isFalse();
+        stockLedger.confirm(1L, 10);
+        stockLedger.reset(1L);
+        assertThat(stockLedger.reserve(1L, 5)).isTrue();
+    }
+
+    @Test
+    void reloadDoesNotSubtractOrdersCommittedWhileReading() {
+        stockLedger.reserve(1L, 4);
+        stockLedger.reset(1L);
+        given(productRepository.findById(1L)).will(invocation -> {
+            // 읽는 동안 주문이 커밋되어 저장소에서도, 장부에서도 빠집니다.
+            stockLedger.confirm(1L, 4);
+            return Optional.of(Product.builder().id(1L).stock(6).build());
+        });
+
+        assertThat(stockLedger.reserve(1L, 6)).isTrue();
+    }
+
+    @Test
+    void shortfallReloadsStockAtMostOncePerInterval() {
+        StockLedger reloading =
+                new StockLedger(productRepository, 4, Duration.ZERO);
+        assertThat(reloading.reserve(1L, 10)).isTrue();
+        reloading.confirm(1L, 10);
+        givenStock(5);
+
+        assertThat(reloading.reserve(1L, 5)).isTrue();
+
+        stockLedger.reserve(1L, 5);
+        assertThat(stockLedger.reserve(1L, 1)).isFalse();
+        verify(productRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void productInvalidationReloadsStock() {
+        stockLedger.reserve(1L, 10);
+
+        stockLedger.onInvalidations(List.of(
+                Invalidation.user(1L), Invalidation.product(1L)));
+
+        assertThat(stockLedger.available(1L)).isEqualTo(-1);
+    }
+
+    @Test
+    void reserveWithNotExistedProduct() {
+        given(productRepository.findById(1000L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> stockLedger.reserve(1000L, 1))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    private void givenStock(int stock) {
+        given(productRepository.findById(1L)).willReturn(Optional.of(
+                Product.builder().id(1L).name("쥐돌이").stock(stock).build()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOutboxSinkTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    private static OutboxEvent event(Long id, Long aggregateId) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("Product")
+                .aggregateId(aggregateId)
+                .eventType("ProductUpdated")
+                .payload("{\"name\":\"쥐돌이\",\"price\":" + id * 1000 + "}")
+                .createdAt(LocalDateTime.of(2020, 11, 1, 12, 0))
+                .build();
+    }
+
+    @Test
+    void publishAppendsOneJsonLinePerEvent() throws IOException {
+        Path path = directory.resolve("outbox/events.jsonl");
+
+        try (FileOutboxSink sink = new FileOutboxSink(path, objectMapper)) {
+            sink.publish(List.of(event(1L, 10L), event(2L, 20L)));
+            sink.publish(List.of(event(3L, 10L)));
+        }
+
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("aggregateType").asText()).isEqualTo("Product");
+        assertThat(first.get("aggregateId").asLong()).isEqualTo(10L);
+        assertThat(first.get("eventType").asText()).isEqualTo("ProductUpdated");
+        assertThat(first.get("createdAt").asText())
+                .isEqualTo("2020-11-01T12:00");
+        assertThat(first.get("payload").get("name").asText())
+                .isEqualTo("쥐돌이");
+
+        assertThat(objectMapper.readTree(lines.get(2)).get("payload")
+                .get("price").asInt()).isEqualTo(3000);
+    }
+
+    @Test
+    void reopenKeepsPreviousLines() throws IOException {
+        Path path = directory.resolve("events.jsonl");
+
+        try (FileOutboxSink sink = new FileOutboxSink(path, objectMapper)) {
+            sink.publish(List.of(event(1L, 10L)));
+        }
+        try (FileOutboxSink sink = new FileOutboxSink(path, objectMapper)) {
+            sink.publish(List.of(event(2L, 20L)));
+        }
+
+        assertThat(Files.readAllLines(path, StandardCharsets.UTF_8))
+                .hasSize(2);
+    }
+}
@@ -0,0 +1,83 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.codesoom.assignment.domain.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.willThrow;
+
+class OutboxRelayTest {
+    private final OutboxEventRepository outboxEventRepository =
+            mock(OutboxEventRepository.class);
+
+    private final PlatformTransactionManager transactionManager =
+            mock(PlatformTransactionManager.class);
+
+    private final InMemoryOutboxSink sink = new InMemoryOutboxSink(100);
+
+    private final List<OutboxEvent> events = List.of(
+            event(1L, 10L), event(2L, 20L), event(3L, 10L));
+
+    @BeforeEach
+    void setUp() {
+        given(outboxEventRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .willReturn(events.subList(0, 2))
+                .willReturn(events.subList(2, 3))
+                .willReturn(List.of());
+    }
+
+    @Test
+    void drainRelaysBatchesInIdOrder() {
+        OutboxRelay relay = new OutboxRelay(
+                outboxEventRepository, sink, transactionManager, 2);
+
+        int relayed = relay.drain();
+
+        assertThat(relayed).isEqualTo(3);
+        assertThat(sink.getEvents()).extracting(OutboxEvent::getId)
+                .containsExactly(1L, 2L, 3L);
+
+        verify(outboxEventRepository).findAllByOrderByIdAsc(PageRequest.of(0, 2));
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteByIdIn(List.of(3L));
+    }
+
+    @Test
+    void failedBatchIsKeptForRetry() throws Exception {
+        OutboxSink failingSink = mock(OutboxSink.class);
+        willThrow(new IllegalStateException("sink down"))
+                .given(failingSink).publish(anyList());
+
+        OutboxRelay relay = new OutboxRelay(
+                outboxEventRepository, failingSink, transactionManager, 2);
+
+        assertThatThrownBy(relay::drain)
+                .isInstanceOf(OutboxRelay.OutboxRelayException.class);
+
+        verify(outboxEventRepository, never()).deleteByIdIn(any());
+    }
+
+    private static OutboxEvent event(Long id, Long aggregateId) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("Product")
+                .aggregateId(aggregateId)
+                .eventType("ProductUpdated")
+                .payload("{}")
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.codesoom.assignment.outbox;
+
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.application.UserService;
+import com.codesoom.assignment.domain.OutboxEvent;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.User;
+import com.codesoom.assignment.dto.ProductData;
+import com.codesoom.assignment.dto.UserRegistrationData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxWriterTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Test
+    void productChangesAreRelayedInOrder() {
+        ProductData productData = ProductData.builder()
+                .name("쥐돌이")
+                .maker("냥이월드")
+                .price(5000)
+                .build();
+
+        Product product = productService.createProduct(productData);
+        productService.updateProduct(product.getId(), productData);
+        productService.deleteProduct(product.getId());
+
+        outboxRelay.drain();
+
+        assertThat(eventTypesOf("Product", product.getId()))
+                .containsExactly("ProductCreated", "ProductUpdated",
+                        "ProductDeleted");
+    }
+
+    @Test
+    void userRegistrationAndDeletionAreRelayed() {
+        User user = userService.registerUser(UserRegistrationData.builder()
+                .email("outbox-" + System.nanoTime() + "@example.com")
+                .name("Tester")
+                .password("test")
+                .build());
+        userService.deleteUser(user.getId());
+
+        outboxRelay.drain();
+
+        assertThat(eventTypesOf("User", user.getId()))
+                .containsExactly("UserCreated", "UserDeleted");
+
+        OutboxEvent created = sink.getEvents().stream()
+                .filter(event -> event.getAggregateId().equals(user.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(created.getPayload()).doesNotContain("password");
+    }
+
+    private List<String> eventTypesOf(String aggregateType, Long aggregateId) {
+        return sink.getEvents().stream()
+                .filter(event -> event.getAggregateType().equals(aggregateType))
+                .filter(event -> event.getAggregateId().equals(aggregateId))
+                .map(OutboxEvent::getEventType)
+                .collect(Collectors.toList());
+    }
+}
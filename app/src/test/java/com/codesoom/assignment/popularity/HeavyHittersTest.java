@@ -0,0 +1,66 @@
+package com.codesoom.assignment.popularity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HeavyHittersTest {
+    private final HeavyHitters heavyHitters = new HeavyHitters(4, 1024, 3);
+
+    @Test
+    void estimateIsNeverBelowActualViews() {
+        for (long id = 1; id <= 5000; id++) {
+            heavyHitters.add(id, id % 7 + 1);
+        }
+
+        for (long id = 1; id <= 5000; id++) {
+            assertThat(heavyHitters.estimate(id)).isGreaterThanOrEqualTo(id % 7 + 1);
+        }
+    }
+
+    @Test
+    void topKeepsMostViewedProducts() {
+        heavyHitters.add(1L, 10);
+        heavyHitters.add(2L, 50);
+        heavyHitters.add(3L, 30);
+        heavyHitters.add(4L, 40);
+        heavyHitters.add(5L, 1);
+        heavyHitters.publish();
+
+        assertThat(heavyHitters.top(10))
+                .extracting(PopularProduct::getProductId)
+                .containsExactly(2L, 4L, 3L);
+        assertThat(heavyHitters.top(1))
+                .extracting(PopularProduct::getViews)
+                .containsExactly(50L);
+    }
+
+    @Test
+    void topIsEmptyUntilPublished() {
+        heavyHitters.add(1L, 10);
+
+        assertThat(heavyHitters.top(10)).isEmpty();
+    }
+
+    @Test
+    void decayHalvesViews() {
+        heavyHitters.add(1L, 100);
+        heavyHitters.add(2L, 60);
+
+        heavyHitters.decay();
+        heavyHitters.add(2L, 30);
+        heavyHitters.publish();
+
+        assertThat(heavyHitters.estimate(1L)).isEqualTo(50);
+        assertThat(heavyHitters.top(2))
+                .extracting(PopularProduct::getProductId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void widthMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new HeavyHitters(4, 1000, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
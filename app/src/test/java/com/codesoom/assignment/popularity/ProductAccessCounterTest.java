@@ -0,0 +1,63 @@
+package com.codesoom.assignment.popularity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductAccessCounterTest {
+    private final ProductAccessCounter counter = new ProductAccessCounter();
+
+    @Test
+    void topOrdersByCount() {
+        record(1L, 1);
+        record(2L, 3);
+        record(3L, 2);
+
+        assertThat(counter.top(2)).containsExactly(2L, 3L);
+        assertThat(counter.count(2L)).isEqualTo(3);
+        assertThat(counter.count(4L)).isZero();
+    }
+
+    @Test
+    void takeIncrementsReturnsViewsSinceLastCall() {
+        record(1L, 2);
+        record(2L, 1);
+
+        assertThat(counter.takeIncrements()).isEqualTo(Map.of(1L, 2L, 2L, 1L));
+
+        record(1L, 3);
+
+        assertThat(counter.takeIncrements()).isEqualTo(Map.of(1L, 3L));
+        assertThat(counter.takeIncrements()).isEmpty();
+        assertThat(counter.count(1L)).isEqualTo(5);
+    }
+
+    @Test
+    void snapshotKeepsOrder(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("access.snapshot");
+        record(1L, 1);
+        record(2L, 3);
+        record(3L, 2);
+
+        counter.writeSnapshot(snapshot);
+
+        assertThat(ProductAccessCounter.readTop(snapshot, 2))
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void missingSnapshotIsEmpty(@TempDir Path directory) throws Exception {
+        assertThat(ProductAccessCounter.readTop(directory.resolve("none"), 10))
+                .isEmpty();
+    }
+
+    private void record(Long id, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.record(id);
+        }
+    }
+}
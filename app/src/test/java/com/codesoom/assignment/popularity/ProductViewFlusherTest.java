@@ -0,0 +1,112 @@
+package com.codesoom.assignment.popularity;
+
+import com.codesoom.assignment.domain.ProductView;
+import com.codesoom.assignment.domain.ProductViewRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ProductViewFlusherTest {
+    private final ProductAccessCounter counter = new ProductAccessCounter();
+
+    private final HeavyHitters heavyHitters = new HeavyHitters(4, 1024, 10);
+
+    private final ProductViewRepository productViewRepository =
+            mock(ProductViewRepository.class);
+
+    private final ProductViewFlusher flusher = new ProductViewFlusher(counter,
+            heavyHitters, productViewRepository,
+            mock(PlatformTransactionManager.class), Duration.ofHours(1));
+
+    @Test
+    void flushPublishesAndAddsToStoredViews() {
+        given(productViewRepository.findAllByProductIdIn(anyCollection()))
+                .willReturn(List.of(view(1L, 100)));
+        record(1L, 2);
+        record(2L, 3);
+
+        assertThat(flusher.flush()).isEqualTo(2);
+
+        assertThat(heavyHitters.top(10))
+                .extracting(PopularProduct::getProductId)
+                .containsExactly(2L, 1L);
+        assertThat(savedViews())
+                .extracting(ProductView::getProductId, ProductView::getViews)
+                .containsExactly(
+                        tuple(1L, 102L),
+                        tuple(2L, 3L));
+    }
+
+    @Test
+    void flushWithoutViewsSkipsStorage() {
+        assertThat(flusher.flush()).isZero();
+
+        verify(productViewRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void failedFlushIsRetriedWithNewViews() {
+        given(productViewRepository.findAllByProductIdIn(anyCollection()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(List.of());
+        record(1L, 2);
+
+        assertThat(flusher.flush()).isZero();
+
+        record(1L, 1);
+
+        assertThat(flusher.flush()).isEqualTo(1);
+        assertThat(savedViews())
+                .extracting(ProductView::getViews)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void startLoadsMostViewedProducts() {
+        given(productViewRepository.findAllByOrderByViewsDesc(any()))
+                .willReturn(List.of(view(7L, 500), view(8L, 20)));
+
+        flusher.start();
+
+        assertThat(heavyHitters.top(10))
+                .extracting(PopularProduct::getProductId)
+                .containsExactly(7L, 8L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductView> savedViews() {
+        ArgumentCaptor<Iterable<ProductView>> captor =
+                ArgumentCaptor.forClass(Iterable.class);
+        verify(productViewRepository).saveAll(captor.capture());
+        List<ProductView> views = new ArrayList<>();
+        captor.getValue().forEach(views::add);
+        return views;
+    }
+
+    private void record(Long id, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.record(id);
+        }
+    }
+
+    private static ProductView view(Long productId, long views) {
+        return ProductView.builder()
+                .productId(productId)
+                .views(views)
+                .build();
+    }
+}
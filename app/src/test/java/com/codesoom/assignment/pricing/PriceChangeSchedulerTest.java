@@ -0,0 +1,174 @@
+package com.codesoom.assignment.pricing;
+
+import com.codesoom.assignment.application.PriceChangeService;
+import com.codesoom.assignment.domain.PriceChangesScheduledEvent;
+import com.codesoom.assignment.domain.ScheduledPriceChange;
+import com.codesoom.assignment.domain.ScheduledPriceChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PriceChangeSchedulerTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final AtomicLong now =
+            new AtomicLong(T0.toInstant(ZoneOffset.UTC).toEpochMilli());
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    private final PriceChangeService priceChangeService =
+            mock(PriceChangeService.class);
+
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository =
+            mock(ScheduledPriceChangeRepository.class);
+
+    private PriceChangeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        given(scheduledPriceChangeRepository.findPending(eq(0L), any()))
+                .willReturn(List.of(
+                        change(1L, T0.minusMinutes(1)),
+                        change(2L, T0.plusSeconds(10))));
+        given(scheduledPriceChangeRepository.findPending(eq(2L), any()))
+                .willReturn(List.of());
+        given(priceChangeService.applyPriceChanges(anyList(), any()))
+                .will(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        scheduler = new PriceChangeScheduler(priceChangeService,
+                scheduledPriceChangeRepository, clock, Duration.ofMillis(100), 1000);
+    }
+
+    @Test
+    void startLoadsPendingAndAppliesOverdueImmediately() {
+        assertThat(scheduler.start()).isEqualTo(2);
+
+        assertThat(scheduler.tick()).isEqualTo(1);
+        verify(priceChangeService).applyPriceChanges(eq(List.of(1L)), any());
+        assertThat(scheduler.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void appliesChangeOnlyWhenDue() {
+        scheduler.start();
+        scheduler.tick();
+
+        now.addAndGet(Duration.ofSeconds(9).toMillis());
+        assertThat(scheduler.tick()).isZero();
+
+        now.addAndGet(Duration.ofSeconds(1).toMillis());
+        assertThat(scheduler.tick()).isEqualTo(1);
+        verify(priceChangeService).applyPriceChanges(eq(List.of(2L)), any());
+    }
+
+    @Test
+    void addsNewlyScheduledChanges() {
+        scheduler.onPriceChangesScheduled(new PriceChangesScheduledEvent(
+                List.of(change(3L, T0.plusSeconds(1)))));
+
+        now.addAndGet(Duration.ofSeconds(1).toMillis());
+
+        assertThat(scheduler.tick()).isEqualTo(1);
+        verify(priceChangeService).applyPriceChanges(eq(List.of(3L)), any());
+    }
+
+    @Test
+    void retriesFailedBatchOnNextTick() {
+        given(priceChangeService.applyPriceChanges(eq(List.of(1L)), any()))
+                .willThrow(new IllegalStateException("database down"))
+                .willReturn(1);
+        scheduler.start();
+
+        assertThat(scheduler.tick()).isZero();
+        assertThat(scheduler.pending()).isEqualTo(2);
+
+        now.addAndGet(100);
+        assertThat(scheduler.tick()).isEqualTo(1);
+        verify(priceChangeService, times(2))
+                .applyPriceChanges(eq(List.of(1L)), any());
+    }
+
+    @Test
+    void rescanAppliesOverdueChanges() {
+        given(scheduledPriceChangeRepository.findOverdue(eq(T0), any()))
+                .willReturn(List.of(change(7L, T0.minusHours(1))));
+
+        assertThat(scheduler.rescan()).isEqualTo(1);
+        verify(priceChangeService).applyPriceChanges(eq(List.of(7L)), any());
+    }
+
+    @Test
+    void appliesDueChangesInEffectiveOrder() {
+        scheduler.onPriceChangesScheduled(new PriceChangesScheduledEvent(List.of(
+                change(5L, T0.minusSeconds(1)),
+                change(4L, T0.minusMinutes(1)),
+                change(6L, T0.minusSeconds(30)))));
+
+        scheduler.tick();
+
+        verify(priceChangeService).applyPriceChanges(List.of(4L, 6L, 5L), T0);
+    }
+
+    @Test
+    void rescanContinuesWhileBatchesAreFull() {
+        scheduler = new PriceChangeScheduler(priceChangeService,
+                scheduledPriceChangeRepository, clock, Duration.ofMillis(100), 1);
+        given(scheduledPriceChangeRepository.findOverdue(eq(T0), any()))
+                .willReturn(List.of(change(7L, T0.minusHours(2))))
+                .willReturn(List.of(change(8L, T0.minusHours(1))))
+                .willReturn(List.of());
+
+        assertThat(scheduler.rescan()).isEqualTo(2);
+        verify(priceChangeService).applyPriceChanges(List.of(7L), T0);
+        verify(priceChangeService).applyPriceChanges(List.of(8L), T0);
+    }
+
+    @Test
+    void nothingAppliedWithoutPendingChanges() {
+        scheduler.tick();
+
+        verify(priceChangeService, never()).applyPriceChanges(anyList(), any());
+    }
+
+    private static ScheduledPriceChange change(Long id, LocalDateTime effectiveAt) {
+        return ScheduledPriceChange.builder()
+                .id(id)
+                .productId(id)
+                .price(1000)
+                .effectiveAt(effectiveAt)
+                .build();
+    }
+}
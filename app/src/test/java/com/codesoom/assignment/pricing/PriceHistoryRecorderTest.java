@@ -0,0 +1,108 @@
+package com.codesoom.assignment.pricing;
+
+import com.codesoom.assignment.domain.ChangeType;
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.domain.ProductChangedEvent;
+import com.codesoom.assignment.domain.ProductPrice;
+import com.codesoom.assignment.domain.ProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PriceHistoryRecorderTest {
+    private static final Clock CLOCK = Clock.fixed(
+            Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private final ProductPriceRepository productPriceRepository =
+            mock(ProductPriceRepository.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PriceHistoryRecorder recorder = new PriceHistoryRecorder(
+            productPriceRepository, CLOCK, 2, 10, meterRegistry);
+
+    @Test
+    void recordsCreatedAndChangedPrices() {
+        recorder.onProductChanged(new ProductChangedEvent(
+                ChangeType.CREATED, product(5000)));
+        recorder.onProductChanged(new ProductChangedEvent(
+                ChangeType.UPDATED, product(6000), 5000));
+
+        assertThat(recorder.flush()).isEqualTo(2);
+
+        List<ProductPrice> saved = savedBatch();
+        assertThat(saved).extracting(ProductPrice::getPrice)
+                .containsExactly(5000, 6000);
+        assertThat(saved.get(0).getChangedAt())
+                .isEqualTo(LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    @Test
+    void ignoresUpdatesWithoutPriceChange() {
+        recorder.onProductChanged(new ProductChangedEvent(
+                ChangeType.UPDATED, product(5000), 5000));
+        recorder.onProductChanged(new ProductChangedEvent(
+                ChangeType.DELETED, product(5000)));
+
+        assertThat(recorder.flush()).isZero();
+        verify(productPriceRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void dropsWhenQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            recorder.onProductChanged(new ProductChangedEvent(
+                    ChangeType.CREATED, product(5000 + i)));
+        }
+
+        assertThat(recorder.pending()).isEqualTo(2);
+        assertThat(meterRegistry.counter("pricing.history.dropped").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void retriesFailedBatch() {
+        given(productPriceRepository.saveAll(any()))
+                .willThrow(new IllegalStateException("database down"))
+                .willReturn(List.of());
+        recorder.onProductChanged(new ProductChangedEvent(
+                ChangeType.CREATED, product(5000)));
+
+        assertThat(recorder.flush()).isZero();
+        assertThat(recorder.pending()).isEqualTo(1);
+
+        assertThat(recorder.flush()).isEqualTo(1);
+        assertThat(recorder.pending()).isZero();
+        verify(productPriceRepository, times(2)).saveAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductPrice> savedBatch() {
+        ArgumentCaptor<Iterable<ProductPrice>> captor =
+                ArgumentCaptor.forClass(Iterable.class);
+        verify(productPriceRepository).saveAll(captor.capture());
+        return List.copyOf((List<ProductPrice>) captor.getValue());
+    }
+
+    private static Product product(int price) {
+        return Product.builder()
+                .id(1L)
+                .name("쥐돌이")
+                .price(price)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.codesoom.assignment.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+    @Test
+    void firesAtDeadline() {
+        TimingWheel wheel = new TimingWheel(1000);
+        wheel.add(1L, 1005);
+
+        assertThat(advance(wheel, 1004)).isEmpty();
+        assertThat(advance(wheel, 1005)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlinesFireOnNextAdvance() {
+        TimingWheel wheel = new TimingWheel(1000);
+        wheel.add(1L, 10);
+        wheel.add(2L, 1000);
+
+        assertThat(advance(wheel, 1000)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void cascadesFromHigherLevels() {
+        TimingWheel wheel = new TimingWheel(0);
+        wheel.add(1L, 64L * 64 * 64 + 3);
+        wheel.add(2L, 1L << 45);
+
+        assertThat(advance(wheel, 64L * 64 * 64 + 2)).isEmpty();
+        assertThat(advance(wheel, 64L * 64 * 64 + 3)).containsExactly(1L);
+        assertThat(advance(wheel, (1L << 45) - 1)).isEmpty();
+        assertThat(advance(wheel, 1L << 45)).containsExactly(2L);
+    }
+
+    @Test
+    void firesEveryEntryAtItsDeadline() {
+        Random random = new Random(42);
+        long start = 123_456_789L;
+        TimingWheel wheel = new TimingWheel(start);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 1; id <= 10_000; id++) {
+            long deadline = start + random.nextInt(300_000);
+            deadlines.put(id, deadline);
+            wheel.add(id, deadline);
+        }
+
+        Map<Long, Long> fired = new HashMap<>();
+        for (long tick = start; tick <= start + 300_000; tick += 37) {
+            long now = tick;
+            wheel.advanceTo(now, id -> fired.put(id, now));
+        }
+        wheel.advanceTo(start + 300_037, id -> fired.put(id, start + 300_037));
+
+        assertThat(fired).hasSameSizeAs(deadlines);
+        deadlines.forEach((id, deadline) ->
+                assertThat(fired.get(id))
+                        .isGreaterThanOrEqualTo(deadline)
+                        .isLessThan(deadline + 37));
+    }
+
+    private static List<Long> advance(TimingWheel wheel, long tick) {
+        List<Long> ids = new ArrayList<>();
+        wheel.advanceTo(tick, ids::add);
+        return ids;
+    }
+}
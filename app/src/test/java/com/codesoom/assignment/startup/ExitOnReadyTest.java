@@ -0,0 +1,27 @@
+package com.codesoom.assignment.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExitOnReadyTest {
+    @Test
+    void closesContextAndExitsWithItsExitCode() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+
+        AtomicInteger exitCode = new AtomicInteger(-1);
+        ExitOnReady exitOnReady = new ExitOnReady(exitCode::set);
+
+        exitOnReady.onApplicationEvent(new ApplicationReadyEvent(
+                new SpringApplication(), new String[0], context));
+
+        assertThat(exitCode.get()).isZero();
+        assertThat(context.isActive()).isFalse();
+    }
+}
@@ -0,0 +1,33 @@
+package com.codesoom.assignment.startup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupTimelineTest {
+    private final StartupTimeline timeline = new StartupTimeline(2);
+
+    @Test
+    void reportsSlowestBeansFirst() throws Exception {
+        record("fast", 0);
+        record("slow", 30);
+        record("medium", 10);
+
+        assertThat(timeline.getSlowest())
+                .extracting(StartupTimeline.Entry::getBeanName)
+                .containsExactly("slow", "medium");
+    }
+
+    @Test
+    void ignoresBeansCreatedBeforeRegistration() {
+        timeline.postProcessAfterInitialization(new Object(), "early");
+
+        assertThat(timeline.getSlowest()).isEmpty();
+    }
+
+    private void record(String beanName, long millis) throws Exception {
+        timeline.postProcessBeforeInstantiation(Object.class, beanName);
+        Thread.sleep(millis);
+        timeline.postProcessAfterInitialization(new Object(), beanName);
+    }
+}
@@ -0,0 +1,45 @@
+package com.codesoom.assignment.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RejectedTokensTest {
+    @Test
+    void remembersRejectedToken() {
+        RejectedTokens rejectedTokens = new RejectedTokens(16, Duration.ofMinutes(1));
+
+        rejectedTokens.add("BAD");
+
+        assertThat(rejectedTokens.contains("BAD")).isTrue();
+        assertThat(rejectedTokens.contains("GOOD")).isFalse();
+    }
+
+    @Test
+    void forgetsAfterTtl() {
+        RejectedTokens rejectedTokens = new RejectedTokens(16, Duration.ZERO);
+
+        rejectedTokens.add("BAD");
+
+        assertThat(rejectedTokens.contains("BAD")).isFalse();
+    }
+
+    @Test
+    void staysWithinCapacity() {
+        RejectedTokens rejectedTokens = new RejectedTokens(4, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 1000; i++) {
+            rejectedTokens.add("BAD" + i);
+        }
+
+        int remembered = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (rejectedTokens.contains("BAD" + i)) {
+                remembered++;
+            }
+        }
+        assertThat(remembered).isBetween(1, 4);
+    }
+}
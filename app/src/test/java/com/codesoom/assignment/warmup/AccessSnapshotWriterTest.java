@@ -0,0 +1,41 @@
+package com.codesoom.assignment.warmup;
+
+import com.codesoom.assignment.popularity.ProductAccessCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessSnapshotWriterTest {
+    private final ProductAccessCounter counter = new ProductAccessCounter();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesSnapshotOfCounts() throws IOException {
+        counter.record(1L);
+        counter.record(2L);
+        counter.record(2L);
+        Path path = directory.resolve("warmup/product-access.snapshot");
+
+        new AccessSnapshotWriter(counter, path).write();
+
+        assertThat(ProductAccessCounter.readTop(path, 10))
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void writeFailureIsLoggedNotThrown() throws IOException {
+        Path file = Files.createFile(directory.resolve("file"));
+        counter.record(1L);
+
+        new AccessSnapshotWriter(counter, file.resolve("snapshot")).write();
+
+        assertThat(Files.isRegularFile(file)).isTrue();
+    }
+}
@@ -0,0 +1,53 @@
+package com.codesoom.assignment.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupRequestFilterTest {
+    private static final String TOKEN = "boot-token";
+
+    private final WarmupRequestFilter filter = new WarmupRequestFilter(TOKEN);
+
+    private MockHttpServletRequest request(String remoteAddr, String header) {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/products/1");
+        request.setRemoteAddr(remoteAddr);
+        if (header != null) {
+            request.addHeader(Warmup.HEADER, header);
+        }
+        return request;
+    }
+
+    private Object filter(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        return request.getAttribute(Warmup.ATTRIBUTE);
+    }
+
+    @Test
+    void marksLoopbackRequestWithToken() throws Exception {
+        assertThat(filter(request("127.0.0.1", TOKEN))).isEqualTo(true);
+        assertThat(filter(request("0:0:0:0:0:0:0:1", TOKEN))).isEqualTo(true);
+    }
+
+    @Test
+    void ignoresWrongToken() throws Exception {
+        assertThat(filter(request("127.0.0.1", "true"))).isNull();
+    }
+
+    @Test
+    void ignoresRemoteRequestWithToken() throws Exception {
+        assertThat(filter(request("203.0.113.7", TOKEN))).isNull();
+    }
+
+    @Test
+    void ignoresRequestWithoutHeader() throws Exception {
+        assertThat(filter(request("127.0.0.1", null))).isNull();
+    }
+}
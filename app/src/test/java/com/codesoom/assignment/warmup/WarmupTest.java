@@ -0,0 +1,154 @@
+package com.codesoom.assignment.warmup;
+
+import com.codesoom.assignment.application.ProductService;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import com.codesoom.assignment.utils.JwtUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WarmupTest {
+    private final ProductService productService = mock(ProductService.class);
+
+    private final JwtUtil jwtUtil = new JwtUtil("12345678901234567890123456789010");
+
+    @Test
+    void preloadsTopProductsFromSnapshot(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("access.snapshot");
+        Files.write(snapshot, List.of("3 30", "1 10", "2 5"));
+        given(productService.getProduct(1L))
+                .willThrow(new ProductNotFoundException(1L));
+
+        warmup(snapshot, 2).run(null);
+
+        verify(productService).getProduct(3L);
+        verify(productService).getProduct(1L);
+        verify(productService, never()).getProduct(2L);
+    }
+
+    @Test
+    void runsWithoutSnapshot(@TempDir Path directory) throws Exception {
+        warmup(directory.resolve("none"), 10).run(null);
+
+        verify(productService, never()).getProduct(3L);
+    }
+
+    @Test
+    void tokenIsNewForEveryInstance(@TempDir Path directory) {
+        Warmup warmup = warmup(directory, 1);
+
+        assertThat(warmup.getToken()).hasSizeGreaterThanOrEqualTo(32)
+                .isNotEqualTo(warmup(directory, 1).getToken());
+    }
+
+    @Test
+    void sendsRequestsWithTokenToOwnServer(@TempDir Path directory)
+            throws Exception {
+        Path snapshot = directory.resolve("access.snapshot");
+        Files.write(snapshot, List.of("3 30"));
+
+        List<String> paths = new CopyOnWriteArrayList<>();
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/", exchange -> {
+            paths.add(exchange.getRequestURI().toString());
+            tokens.add(exchange.getRequestHeaders().getFirst(Warmup.HEADER));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            int port = server.getAddress().getPort();
+            Warmup withSnapshot = warmup(snapshot, 10, Duration.ofSeconds(10),
+                    () -> port);
+            withSnapshot.run(null);
+
+            assertThat(paths).containsExactly(
+                    "/products/3", "/products?fields=id,name,price", "/session",
+                    "/products/3", "/products?fields=id,name,price", "/session");
+            assertThat(tokens).containsOnly(withSnapshot.getToken());
+
+            paths.clear();
+            warmup(directory.resolve("none"), 10, Duration.ofSeconds(10),
+                    () -> port).run(null);
+
+            assertThat(paths).startsWith("/products");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void failureDoesNotStopStartup(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("access.snapshot");
+        Files.write(snapshot, List.of("3 30"));
+        given(productService.getProduct(3L))
+                .willThrow(new IllegalStateException("database is down"));
+
+        warmup(snapshot, 10).run(null);
+
+        verify(productService).getProduct(3L);
+    }
+
+    @Test
+    void deadlineStopsSlowWarmup(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("access.snapshot");
+        Files.write(snapshot, List.of("3 30"));
+        given(productService.getProduct(3L)).willAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        long started = System.nanoTime();
+        warmup(snapshot, 10, Duration.ofMillis(50), () -> -1).run(null);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started))
+                .isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void interruptedWarmupStopsEarly(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("access.snapshot");
+        Files.write(snapshot, List.of("3 30", "1 10"));
+        given(productService.getProduct(3L)).willAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            return null;
+        });
+
+        try {
+            assertThatThrownBy(() -> warmup(snapshot, 10,
+                    Duration.ofSeconds(10), () -> 1).warmUp())
+                    .isInstanceOf(InterruptedException.class);
+        } finally {
+            Thread.interrupted();
+        }
+
+        verify(productService, never()).getProduct(1L);
+    }
+
+    private Warmup warmup(Path snapshot, int topProducts) {
+        return warmup(snapshot, topProducts, Duration.ofSeconds(10), () -> -1);
+    }
+
+    private Warmup warmup(Path snapshot, int topProducts, Duration deadline,
+                          IntSupplier port) {
+        return new Warmup(productService, jwtUtil, snapshot, topProducts,
+                2, deadline, port);
+    }
+}
@@ -0,0 +1,108 @@
+package com.codesoom.assignment.reactive;
+
+import com.codesoom.assignment.domain.Product;
+import io.r2dbc.spi.Row;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * product 테이블을 R2DBC로 읽고 씁니다.
+ * {@link Product}는 JPA 애너테이션을 사용하므로 Spring Data 매핑 대신 직접 매핑합니다.
+ */
+@Repository
+public class R2dbcProductRepository {
+    private static final String COLUMNS = "id, name, maker, price, image_url";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcProductRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<Product> findAll() {
+        return databaseClient
+                .execute("SELECT " + COLUMNS + " FROM product ORDER BY id")
+                .map((row, metadata) -> toProduct(row))
+                .all();
+    }
+
+    public Mono<Product> findById(Long id) {
+        return databaseClient
+                .execute("SELECT " + COLUMNS + " FROM product WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toProduct(row))
+                .one();
+    }
+
+    public Mono<Product> save(Product product) {
+        if (product.getId() == null) {
+            return nextId().flatMap(id -> insert(id, product));
+        }
+        return update(product);
+    }
+
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient
+                .execute("DELETE FROM product WHERE id = :id")
+                .bind("id", id)
+                .then();
+    }
+
+    private Mono<Long> nextId() {
+        return databaseClient
+                .execute("SELECT NEXT VALUE FOR product_sequence")
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+    }
+
+    private Mono<Product> insert(Long id, Product product) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .execute("INSERT INTO product (" + COLUMNS + ") " +
+                        "VALUES (:id, :name, :maker, :price, :imageUrl)")
+                .bind("id", id);
+
+        return bindFields(spec, product)
+                .then()
+                .then(findById(id));
+    }
+
+    private Mono<Product> update(Product product) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .execute("UPDATE product SET name = :name, maker = :maker, " +
+                        "price = :price, image_url = :imageUrl WHERE id = :id")
+                .bind("id", product.getId());
+
+        return bindFields(spec, product)
+                .then()
+                .thenReturn(product);
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindFields(
+            DatabaseClient.GenericExecuteSpec spec, Product product) {
+        spec = bindNullable(spec, "name", product.getName(), String.class);
+        spec = bindNullable(spec, "maker", product.getMaker(), String.class);
+        spec = bindNullable(spec, "price", product.getPrice(), Integer.class);
+        return bindNullable(spec, "imageUrl", product.getImageUrl(), String.class);
+    }
+
+    private <T> DatabaseClient.GenericExecuteSpec bindNullable(
+            DatabaseClient.GenericExecuteSpec spec,
+            String name, T value, Class<T> type) {
+        if (value == null) {
+            return spec.bindNull(name, type);
+        }
+        return spec.bind(name, value);
+    }
+
+    private Product toProduct(Row row) {
+        return Product.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .maker(row.get("maker", String.class))
+                .price(row.get("price", Integer.class))
+                .imageUrl(row.get("image_url", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.codesoom.assignment.reactive;
+
+import com.codesoom.assignment.controllers.ControllerErrorAdvice;
+import com.codesoom.assignment.utils.JwtUtil;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.connectionfactory.init.ConnectionFactoryInitializer;
+import org.springframework.data.r2dbc.connectionfactory.init.ResourceDatabasePopulator;
+
+/**
+ * /products API를 WebFlux와 R2DBC로 제공하는 애플리케이션입니다.
+ * <p>
+ * 설정 파일은 app 모듈의 application.yml과 섞이지 않도록 reactive.yml을 사용합니다.
+ * 에러 응답은 app 모듈의 {@link ControllerErrorAdvice}를 그대로 사용합니다.
+ */
+@SpringBootApplication
+@Import(ControllerErrorAdvice.class)
+public class ReactiveApp {
+    public static final String CONFIG_NAME = "spring.config.name=reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveApp.class)
+                .properties(CONFIG_NAME)
+                .run(args);
+    }
+
+    @Bean
+    public JwtUtil jwtUtil(@Value("${jwt.secret}") String secret) {
+        return new JwtUtil(secret);
+    }
+
+    @Bean
+    public ConnectionFactoryInitializer catalogSchemaInitializer(
+            ConnectionFactory connectionFactory) {
+        ConnectionFactoryInitializer initializer =
+                new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(
+                new ClassPathResource("db/catalog.sql")));
+        return initializer;
+    }
+}
@@ -0,0 +1,29 @@
+package com.codesoom.assignment.reactive;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * WebFlux에서만 발생하는 입력 예외를 app 모듈과 같은 상태 코드로 바꿉니다.
+ * 헤더가 없으면 WebFlux는 400을 응답하지만 app 모듈은 401을 응답합니다.
+ */
+@ControllerAdvice
+public class ReactiveErrorAdvice {
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Void> handleServerWebInputException(
+            ServerWebInputException e) {
+        MethodParameter parameter = e.getMethodParameter();
+
+        if (parameter != null
+                && parameter.hasParameterAnnotation(RequestHeader.class)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.codesoom.assignment.reactive;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.dto.ProductData;
+import com.codesoom.assignment.utils.JwtUtil;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+
+/**
+ * app 모듈의 ProductController와 같은 /products 계약을 논블로킹으로 제공합니다.
+ */
+@RestController
+@RequestMapping("/products")
+@CrossOrigin
+public class ReactiveProductController {
+    private final ReactiveProductService productService;
+
+    private final JwtUtil jwtUtil;
+
+    public ReactiveProductController(ReactiveProductService productService,
+                                     JwtUtil jwtUtil) {
+        this.productService = productService;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @GetMapping
+    public Flux<Product> list() {
+        return productService.getProducts();
+    }
+
+    @GetMapping("{id}")
+    public Mono<Product> detail(@PathVariable Long id) {
+        return productService.getProduct(id);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Product> create(
+            @RequestHeader("Authorization") String authorization,
+            @RequestBody @Valid ProductData productData
+    ) {
+        parseToken(authorization);
+
+        return productService.createProduct(productData);
+    }
+
+    @PatchMapping("{id}")
+    public Mono<Product> update(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long id,
+            @RequestBody @Valid ProductData productData
+    ) {
+        parseToken(authorization);
+
+        return productService.updateProduct(id, productData);
+    }
+
+    @DeleteMapping("{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> destroy(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long id
+    ) {
+        parseToken(authorization);
+
+        return productService.deleteProduct(id).then();
+    }
+
+    private Long parseToken(String authorization) {
+        String accessToken = authorization.substring("Bearer ".length());
+        return jwtUtil.decode(accessToken).get("userId", Long.class);
+    }
+}
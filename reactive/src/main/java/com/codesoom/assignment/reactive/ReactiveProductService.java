@@ -0,0 +1,51 @@
+package com.codesoom.assignment.reactive;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.dto.ProductData;
+import com.codesoom.assignment.errors.ProductNotFoundException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveProductService {
+    private final R2dbcProductRepository productRepository;
+
+    public ReactiveProductService(R2dbcProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public Flux<Product> getProducts() {
+        return productRepository.findAll();
+    }
+
+    public Mono<Product> getProduct(Long id) {
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)));
+    }
+
+    public Mono<Product> createProduct(ProductData productData) {
+        return productRepository.save(toProduct(productData));
+    }
+
+    public Mono<Product> updateProduct(Long id, ProductData productData) {
+        return getProduct(id).flatMap(product -> {
+            product.changeWith(toProduct(productData));
+            return productRepository.save(product);
+        });
+    }
+
+    public Mono<Product> deleteProduct(Long id) {
+        return getProduct(id).flatMap(product ->
+                productRepository.deleteById(id).thenReturn(product));
+    }
+
+    private Product toProduct(ProductData productData) {
+        return Product.builder()
+                .name(productData.getName())
+                .maker(productData.getMaker())
+                .price(productData.getPrice())
+                .imageUrl(productData.getImageUrl())
+                .build();
+    }
+}
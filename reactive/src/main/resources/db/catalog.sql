@@ -0,0 +1,10 @@
+CREATE SEQUENCE IF NOT EXISTS product_sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS product (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    maker VARCHAR(255),
+    price INTEGER,
+    image_url VARCHAR(255),
+    PRIMARY KEY (id)
+);
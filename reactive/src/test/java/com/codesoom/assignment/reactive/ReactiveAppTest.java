@@ -0,0 +1,27 @@
+package com.codesoom.assignment.reactive;
+
+import com.codesoom.assignment.errors.InvalidTokenException;
+import com.codesoom.assignment.utils.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = ReactiveApp.CONFIG_NAME)
+class ReactiveAppTest {
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void contextLoadsWithAppClassesOnly() {
+        String token = jwtUtil.encode(1L);
+
+        assertThat(jwtUtil.decode(token).get("userId", Long.class)).isEqualTo(1L);
+        assertThatThrownBy(() -> jwtUtil.decode(token + "x"))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> jwtUtil.decode(token + "x"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.codesoom.assignment.reactive;
+
+import com.codesoom.assignment.domain.Product;
+import com.codesoom.assignment.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = ReactiveApp.CONFIG_NAME)
+@AutoConfigureWebTestClient
+class ReactiveProductControllerTest {
+    private static final String PRODUCT_JSON =
+            "{\"name\":\"쥐돌이\",\"maker\":\"냥이월드\",\"price\":5000}";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        authorization = "Bearer " + jwtUtil.encode(1L);
+    }
+
+    @Test
+    void createAndDetail() {
+        Product created = create();
+
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getName()).isEqualTo("쥐돌이");
+
+        webTestClient.get().uri("/products/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.maker").isEqualTo("냥이월드");
+    }
+
+    @Test
+    void list() {
+        create();
+
+        webTestClient.get().uri("/products")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].name").isEqualTo("쥐돌이");
+    }
+
+    @Test
+    void updateAndDestroy() {
+        Product created = create();
+
+        webTestClient.patch().uri("/products/{id}", created.getId())
+                .header("Authorization", authorization)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"쥐순이\",\"maker\":\"냥이월드\",\"price\":3000}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.name").isEqualTo("쥐순이");
+
+        webTestClient.delete().uri("/products/{id}", created.getId())
+                .header("Authorization", authorization)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/products/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Product not found");
+    }
+
+    @Test
+    void createWithoutAccessToken() {
+        webTestClient.post().uri("/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(PRODUCT_JSON)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void createWithWrongAccessToken() {
+        webTestClient.post().uri("/products")
+                .header("Authorization", authorization + "INVALID")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(PRODUCT_JSON)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void createWithInvalidAttributes() {
+        webTestClient.post().uri("/products")
+                .header("Authorization", authorization)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"\",\"maker\":\"\",\"price\":0}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private Product create() {
+        return webTestClient.post().uri("/products")
+                .header("Authorization", authorization)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(PRODUCT_JSON)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Product.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
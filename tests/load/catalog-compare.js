@@ -0,0 +1,64 @@
+/* global __ENV */
+/* eslint-disable import/no-unresolved */
+// k6 load test: 서블릿(app, :8080)과 리액티브(reactive, :8081) /products 구현을
+// 같은 부하로 비교합니다. VUS 만큼의 연결이 동시에 열려 있는 상태를 유지합니다.
+//
+//   ../gradlew :app:run -p ../        # :8080
+//   ../gradlew :reactive:run -p ../   # :8081
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 load/catalog-compare.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=1000 load/catalog-compare.js
+//   (VUS=10000 으로 반복, ulimit -n 을 충분히 올려야 합니다)
+//
+// 결과의 http_reqs(처리량)와 http_req_duration p(50)/p(99)(지연 시간)를 비교합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const SECRET = __ENV.JWT_SECRET || '12345678901234567890123456789010';
+
+export const options = {
+  scenarios: {
+    catalog: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+};
+
+function token(userId) {
+  const header = encoding.b64encode(JSON.stringify({ alg: 'HS256' }), 'rawurl');
+  const payload = encoding.b64encode(JSON.stringify({ userId }), 'rawurl');
+  const signature = crypto.hmac('sha256', SECRET, `${header}.${payload}`, 'base64rawurl');
+  return `${header}.${payload}.${signature}`;
+}
+
+export function setup() {
+  const ids = [];
+  for (let i = 0; i < 100; i += 1) {
+    const response = http.post(`${BASE_URL}/products`, JSON.stringify({
+      name: `쥐돌이 ${i}`, maker: '냥이월드', price: 5000,
+    }), {
+      headers: {
+        'Content-Type': 'application/json',
+        Authorization: `Bearer ${token(1)}`,
+      },
+    });
+    ids.push(response.json().id);
+  }
+  return { ids };
+}
+
+export default function run({ ids }) {
+  const id = ids[Math.floor(Math.random() * ids.length)];
+
+  const detail = http.get(`${BASE_URL}/products/${id}`);
+  check(detail, { 'detail 200': (r) => r.status === 200 });
+
+  const list = http.get(`${BASE_URL}/products`);
+  check(list, { 'list 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,66 @@
+/* global __ENV */
+/* eslint-disable import/no-unresolved */
+// k6 load test: 동시 사용자를 Tomcat 기본 스레드 수(200)보다 많이 늘려 가며
+// 처리량과 지연 시간을 측정합니다.
+//
+//   ../gradlew run -p ../ --args='--spring.profiles.active=loom'
+//   k6 run load/concurrency.js
+//
+// 플랫폼 스레드 모드와 비교하려면 프로필 없이 서버를 띄워 같은 스크립트를 실행합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 50,
+      stages: [
+        { duration: '30s', target: 200 },
+        { duration: '30s', target: 400 },
+        { duration: '30s', target: 800 },
+        { duration: '30s', target: 1600 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  const email = `load-${Date.now()}@example.com`;
+  const headers = { 'Content-Type': 'application/json' };
+
+  http.post(`${BASE_URL}/users`, JSON.stringify({
+    email, name: 'Load', password: 'password',
+  }), { headers });
+
+  const session = http.post(`${BASE_URL}/session`, JSON.stringify({
+    email, password: 'password',
+  }), { headers });
+
+  const { accessToken } = session.json();
+
+  const product = http.post(`${BASE_URL}/products`, JSON.stringify({
+    name: '쥐돌이', maker: '냥이월드', price: 5000,
+  }), { headers: { ...headers, Authorization: `Bearer ${accessToken}` } });
+
+  return { email, productId: product.json().id };
+}
+
+export default function run({ email, productId }) {
+  const list = http.get(`${BASE_URL}/products`);
+  check(list, { 'list 200': (r) => r.status === 200 });
+
+  const detail = http.get(`${BASE_URL}/products/${productId}`);
+  check(detail, { 'detail 200': (r) => r.status === 200 });
+
+  const session = http.post(`${BASE_URL}/session`, JSON.stringify({
+    email, password: 'password',
+  }), { headers: { 'Content-Type': 'application/json' } });
+  check(session, { 'login 201': (r) => r.status === 201 });
+}
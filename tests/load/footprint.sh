@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# JVM 실행과 native 실행의 메모리(RSS)와 첫 요청까지의 시간을 비교합니다.
+#
+#   ../gradlew :app:installDist :app:nativeImage -p ../
+#   load/footprint.sh ../app/build/install/app/bin/app
+#   load/footprint.sh ../app/build/native/app
+#
+# 출력: 첫 요청까지 시간(ms), 유휴 RSS(KB), 부하(load/concurrency.js) 중 최대 RSS(KB)
+set -euo pipefail
+
+COMMAND="$1"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+IDLE_SECONDS="${IDLE_SECONDS:-10}"
+
+rss() {
+  ps -o rss= -p "$1" | tr -d ' '
+}
+
+started=$(date +%s%N)
+"$COMMAND" --spring.jpa.show-sql=false > footprint.log 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+until curl -sf "$BASE_URL/products" > /dev/null; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "server exited; see footprint.log" >&2
+    exit 1
+  fi
+  sleep 0.01
+done
+first_request_ms=$(( ($(date +%s%N) - started) / 1000000 ))
+
+sleep "$IDLE_SECONDS"
+idle_rss=$(rss "$pid")
+
+peak_rss="$idle_rss"
+k6 run --quiet -e BASE_URL="$BASE_URL" load/concurrency.js > /dev/null &
+k6_pid=$!
+while kill -0 "$k6_pid" 2>/dev/null; do
+  current=$(rss "$pid")
+  if [ "$current" -gt "$peak_rss" ]; then
+    peak_rss="$current"
+  fi
+  sleep 1
+done
+
+echo "command:              $COMMAND"
+echo "time to first request: ${first_request_ms} ms"
+echo "idle RSS:              ${idle_rss} KB"
+echo "peak RSS under load:   ${peak_rss} KB"
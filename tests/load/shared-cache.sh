@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# 같은 호스트에서 두 번째 인스턴스가 들어올 때 공유 상품 캐시의 적중률을 잽니다. (Linux)
+#
+#   ../gradlew :app:installDist -p ../
+#   load/shared-cache.sh ../app/build/install/app/bin/app
+#
+# 1. 인스턴스 A가 상품 PRODUCTS 개를 만들고 한 번씩 조회해 /dev/shm 의 공유 캐시를 채웁니다.
+# 2. 인스턴스 B를 같은 데이터베이스, 같은 캐시 파일로 띄우고 같은 상품을 조회합니다.
+# 3. B의 cache.shared.requests 의 hit/miss 를 출력합니다.
+set -euo pipefail
+
+COMMAND="$1"
+PRODUCTS="${PRODUCTS:-1000}"
+WORK_DIR="$(mktemp -d)"
+CACHE_FILE="/dev/shm/shared-cache-bench-$$.cache"
+
+COMMON=(
+  "--spring.datasource.url=jdbc:h2:file:$WORK_DIR/db;AUTO_SERVER=TRUE"
+  "--spring.jpa.show-sql=false"
+  "--cache.shared.enabled=true"
+  "--cache.shared.path=$CACHE_FILE"
+  "--management.endpoints.web.exposure.include=health,metrics"
+)
+
+pids=()
+cleanup() {
+  for pid in "${pids[@]}"; do
+    kill "$pid" 2>/dev/null || true
+  done
+  rm -rf "$WORK_DIR" "$CACHE_FILE"
+}
+trap cleanup EXIT
+
+start() {
+  local port="$1" ddl="$2"
+  "$COMMAND" "${COMMON[@]}" "--server.port=$port" \
+    "--spring.jpa.hibernate.ddl-auto=$ddl" > "shared-cache-$port.log" 2>&1 &
+  pids+=("$!")
+  until curl -sf "http://localhost:$port/products" > /dev/null; do
+    sleep 0.1
+  done
+}
+
+json() {
+  curl -sf -H 'Content-Type: application/json' "$@"
+}
+
+metric() {
+  local port="$1" result="$2"
+  curl -sf "http://localhost:$port/actuator/metrics/cache.shared.requests?tag=result:$result" \
+    | sed -E 's/.*"value":([0-9.E]+).*/\1/'
+}
+
+start 8081 create
+A=http://localhost:8081
+
+json -X POST "$A/users" -d '{"email":"bench@example.com","name":"Bench","password":"password"}' > /dev/null
+token=$(json -X POST "$A/session" -d '{"email":"bench@example.com","password":"password"}' \
+  | sed -E 's/.*"accessToken":"([^"]+)".*/\1/')
+
+ids=()
+for i in $(seq 1 "$PRODUCTS"); do
+  id=$(json -X POST "$A/products" -H "Authorization: Bearer $token" \
+    -d "{\"name\":\"상품 $i\",\"maker\":\"냥이월드\",\"price\":5000}" \
+    | sed -E 's/.*"id":([0-9]+).*/\1/')
+  ids+=("$id")
+  curl -sf "$A/products/$id" > /dev/null
+done
+
+start 8082 none
+B=http://localhost:8082
+
+started=$(date +%s%N)
+for id in "${ids[@]}"; do
+  curl -sf "$B/products/$id" > /dev/null
+done
+elapsed_ms=$(( ($(date +%s%N) - started) / 1000000 ))
+
+hits=$(metric 8082 hit)
+misses=$(metric 8082 miss)
+
+echo "products:              $PRODUCTS"
+echo "joining instance hits: $hits"
+echo "joining instance miss: $misses"
+echo "first pass on B:       ${elapsed_ms} ms"